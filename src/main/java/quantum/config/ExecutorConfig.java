@@ -0,0 +1,89 @@
+package quantum.config;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnThreading;
+import org.springframework.boot.autoconfigure.thread.Threading;
+import org.springframework.boot.task.SimpleAsyncTaskExecutorBuilder;
+import org.springframework.boot.task.ThreadPoolTaskExecutorBuilder;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.task.SimpleAsyncTaskExecutor;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+import quantum.utils.RejectionCountingPolicy;
+import reactor.core.scheduler.Scheduler;
+import reactor.core.scheduler.Schedulers;
+
+/**
+ * Executors of the application.
+ * <p>
+ * Declaring an executor disables the one Spring Boot auto-configures, so the default executor used by Spring MVC
+ * async requests is declared here too. With {@code spring.threads.virtual.enabled} the executors run every task on
+ * its own virtual thread instead of a sized pool, as Tomcat does for the requests.
+ * <p>
+ * Each workload has its own bounded pool, so a heavy import can not take the threads of another workload. Spring Boot
+ * binds the active count and queue depth of the pools as {@code executor.*} metrics tagged with the bean name, and
+ * {@link RejectionCountingPolicy} adds the rejected tasks.
+ */
+@Configuration
+public class ExecutorConfig {
+
+    @Bean(name = {"applicationTaskExecutor", "taskExecutor"})
+    @ConditionalOnThreading(Threading.PLATFORM)
+    public ThreadPoolTaskExecutor applicationTaskExecutor(ThreadPoolTaskExecutorBuilder builder) {
+        return builder.build();
+    }
+
+    @Bean(name = {"applicationTaskExecutor", "taskExecutor"})
+    @ConditionalOnThreading(Threading.VIRTUAL)
+    public SimpleAsyncTaskExecutor applicationTaskExecutorVirtualThreads(SimpleAsyncTaskExecutorBuilder builder) {
+        return builder.build();
+    }
+
+    @Bean
+    @ConditionalOnThreading(Threading.PLATFORM)
+    public ThreadPoolTaskExecutor importExecutor(ThreadPoolTaskExecutorBuilder builder,
+                                                 MeterRegistry meterRegistry,
+                                                 @Value("${import.executor.pool-size:2}") int poolSize,
+                                                 @Value("${import.executor.queue-capacity:20}") int queueCapacity) {
+        return builder
+                .corePoolSize(poolSize)
+                .maxPoolSize(poolSize)
+                .queueCapacity(queueCapacity)
+                .threadNamePrefix("import-")
+                .additionalCustomizers(executor -> executor.setRejectedExecutionHandler(
+                        new RejectionCountingPolicy(meterRegistry, "importExecutor")))
+                .build();
+    }
+
+    // Jobs are not queued, upstream calls are bounded by the rate limit filter and database work by the connection pool
+    @Bean(name = "importExecutor")
+    @ConditionalOnThreading(Threading.VIRTUAL)
+    public SimpleAsyncTaskExecutor importExecutorVirtualThreads(SimpleAsyncTaskExecutorBuilder builder) {
+        return builder
+                .threadNamePrefix("import-")
+                .build();
+    }
+
+    // Blocking cache reads and writes of the upstream enrichment pipelines, in both threading modes
+    @Bean
+    public ThreadPoolTaskExecutor enrichmentExecutor(ThreadPoolTaskExecutorBuilder builder,
+                                                     MeterRegistry meterRegistry,
+                                                     @Value("${enrichment.executor.pool-size:8}") int poolSize,
+                                                     @Value("${enrichment.executor.queue-capacity:1000}") int queueCapacity) {
+        return builder
+                .corePoolSize(poolSize)
+                .maxPoolSize(poolSize)
+                .queueCapacity(queueCapacity)
+                .threadNamePrefix("upstream-enrichment-")
+                .additionalCustomizers(executor -> executor.setRejectedExecutionHandler(
+                        new RejectionCountingPolicy(meterRegistry, "enrichmentExecutor")))
+                .build();
+    }
+
+    @Bean
+    public Scheduler enrichmentScheduler(@Qualifier("enrichmentExecutor") ThreadPoolTaskExecutor enrichmentExecutor) {
+        return Schedulers.fromExecutorService(enrichmentExecutor.getThreadPoolExecutor(), "upstream-enrichment");
+    }
+}
@@ -0,0 +1,76 @@
+package quantum.config;
+
+import io.netty.channel.ChannelOption;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.beans.factory.config.ConfigurableBeanFactory;
+import org.springframework.boot.web.codec.CodecCustomizer;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Scope;
+import org.springframework.http.client.reactive.ReactorClientHttpConnector;
+import org.springframework.util.unit.DataSize;
+import org.springframework.web.reactive.function.client.WebClient;
+import quantum.filter.UpstreamRateLimitFilter;
+import reactor.netty.http.client.HttpClient;
+import reactor.netty.resources.ConnectionProvider;
+
+import java.time.Duration;
+
+/**
+ * HTTP client shared by the clients of the external APIs.
+ * <p>
+ * All clients use one connection provider, which keeps a pool of connections per host. Connections stay open between
+ * calls, so enrichment bursts reuse warm TLS connections instead of opening one per call. The provider publishes
+ * {@code reactor.netty.connection.provider.*} metrics of the active, idle and pending connections per host.
+ * <p>
+ * Clients decode the bodies into the DTOs with the application codecs, so the Jackson decoder reads the response
+ * buffers with the application object mapper and no intermediate string is built.
+ */
+@Configuration
+public class HttpClientConfig {
+
+    @Bean(destroyMethod = "dispose")
+    public ConnectionProvider upstreamConnectionProvider(@Value("${upstream.http.max-connections-per-host:50}") int maxConnections,
+                                                         @Value("${upstream.http.pending-acquire-max-count:1000}") int pendingAcquireMaxCount,
+                                                         @Value("${upstream.http.pending-acquire-timeout:30s}") Duration pendingAcquireTimeout,
+                                                         @Value("${upstream.http.max-idle-time:30s}") Duration maxIdleTime,
+                                                         @Value("${upstream.http.max-life-time:10m}") Duration maxLifeTime) {
+        return ConnectionProvider.builder("upstream")
+                .maxConnections(maxConnections)
+                .pendingAcquireMaxCount(pendingAcquireMaxCount)
+                .pendingAcquireTimeout(pendingAcquireTimeout)
+                .maxIdleTime(maxIdleTime)
+                .maxLifeTime(maxLifeTime)
+                .evictInBackground(maxIdleTime)
+                .metrics(true)
+                .build();
+    }
+
+    @Bean
+    public HttpClient upstreamHttpClient(ConnectionProvider upstreamConnectionProvider,
+                                         @Value("${upstream.http.connect-timeout:5s}") Duration connectTimeout,
+                                         @Value("${upstream.http.response-timeout:30s}") Duration responseTimeout) {
+        return HttpClient.create(upstreamConnectionProvider)
+                .option(ChannelOption.CONNECT_TIMEOUT_MILLIS, (int) connectTimeout.toMillis())
+                .option(ChannelOption.SO_KEEPALIVE, true)
+                .responseTimeout(responseTimeout)
+                .compress(true);
+    }
+
+    // Prototype, every client sets its own base url on the builder
+    @Bean
+    @Scope(ConfigurableBeanFactory.SCOPE_PROTOTYPE)
+    public WebClient.Builder webClientBuilder(HttpClient upstreamHttpClient,
+                                              UpstreamRateLimitFilter upstreamRateLimitFilter,
+                                              ObjectProvider<CodecCustomizer> codecCustomizers,
+                                              @Value("${upstream.http.max-in-memory-size:16MB}") DataSize maxInMemorySize) {
+        return WebClient.builder()
+                .clientConnector(new ReactorClientHttpConnector(upstreamHttpClient))
+                .codecs(codecs -> {
+                    codecCustomizers.orderedStream().forEach(customizer -> customizer.customize(codecs));
+                    codecs.defaultCodecs().maxInMemorySize((int) maxInMemorySize.toBytes());
+                })
+                .filter(upstreamRateLimitFilter);
+    }
+}
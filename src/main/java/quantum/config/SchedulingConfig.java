@@ -0,0 +1,12 @@
+package quantum.config;
+
+import org.springframework.context.annotation.Configuration;
+import org.springframework.scheduling.annotation.EnableScheduling;
+
+/**
+ * Enables the scheduled tasks of the application, like the user stats consistency check.
+ */
+@Configuration
+@EnableScheduling
+public class SchedulingConfig {
+}
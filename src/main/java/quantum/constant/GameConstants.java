@@ -0,0 +1,19 @@
+package quantum.constant;
+
+import lombok.AccessLevel;
+import lombok.NoArgsConstructor;
+
+import java.util.Set;
+
+/**
+ * Game constants.
+ */
+
+@NoArgsConstructor(access = AccessLevel.PRIVATE)
+public class GameConstants {
+
+    /**
+     * Tags of the games that can be played with other users.
+     */
+    public static final Set<String> ONLINE_TAGS = Set.of("Co-op", "Online Co-Op", "Local Co-Op", "Multiplayer", "Local Multiplayer");
+}
@@ -22,4 +22,7 @@ public class GameListResponse {
 
     @Schema(description = "List of games.")
     private List<GameResponse> games;
+
+    @Schema(example = "eyJpZCI6NDJ9", description = "Cursor of the next window, only when scrolling and there are more results.")
+    private String nextCursor;
 }
@@ -0,0 +1,57 @@
+package quantum.dto.importJob;
+
+import com.fasterxml.jackson.annotation.JsonProperty;
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.Instant;
+
+/**
+ * Data transfer object for import jobs.
+ */
+@Data
+@Builder
+@AllArgsConstructor
+@NoArgsConstructor
+@Schema(description = "Data transfer object for import jobs.")
+public class ImportJobResponse {
+
+    @Schema(example = "6f1c2f0e-3b7a-4f5e-9d55-2a8c3f1e7b10", description = "Job id.")
+    @JsonProperty("id")
+    private String id;
+
+    @Schema(example = "RESOLVING", description = "Job status.")
+    @JsonProperty("status")
+    private ImportJobStatus status;
+
+    @Schema(example = "1200", description = "Number of apps to resolve.")
+    @JsonProperty("appsTotal")
+    private Integer appsTotal;
+
+    @Schema(example = "600", description = "Number of apps resolved.")
+    @JsonProperty("appsResolved")
+    private Integer appsResolved;
+
+    @Schema(example = "300", description = "Number of games saved.")
+    @JsonProperty("gamesSaved")
+    private Integer gamesSaved;
+
+    @Schema(example = "2", description = "Number of apps or games that failed.")
+    @JsonProperty("errors")
+    private Integer errors;
+
+    @Schema(example = "Upstream service unavailable", description = "Error that stopped the job.")
+    @JsonProperty("message")
+    private String message;
+
+    @Schema(example = "2024-05-01T10:15:30Z", description = "Creation time.")
+    @JsonProperty("createdAt")
+    private Instant createdAt;
+
+    @Schema(example = "2024-05-01T10:17:30Z", description = "Finish time.")
+    @JsonProperty("finishedAt")
+    private Instant finishedAt;
+}
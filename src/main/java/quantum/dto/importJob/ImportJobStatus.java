@@ -0,0 +1,27 @@
+package quantum.dto.importJob;
+
+/**
+ * Status of an import job.
+ */
+public enum ImportJobStatus {
+    /**
+     * Waiting for a free import thread.
+     */
+    QUEUED,
+    /**
+     * Resolving the steam apps.
+     */
+    RESOLVING,
+    /**
+     * Saving the games.
+     */
+    SAVING,
+    /**
+     * Finished, failed apps and games are counted as errors.
+     */
+    COMPLETED,
+    /**
+     * Stopped by an error.
+     */
+    FAILED
+}
@@ -0,0 +1,39 @@
+package quantum.dto.sgdb;
+
+import com.fasterxml.jackson.annotation.JsonProperty;
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * Data transfer object for the grid chosen for a SGDB game.
+ */
+@Data
+@Builder
+@AllArgsConstructor
+@NoArgsConstructor
+@Schema(description = "Data transfer object for the grid chosen for a SGDB game.")
+public class GridResponse {
+
+    @Schema(example = "9022", description = "SGDB game id.")
+    @JsonProperty("sgdbId")
+    private Long sgdbId;
+
+    @Schema(example = "https://cdn2.steamgriddb.com/grid/41a69c66f821f25c8184aea3bb35225d.png", description = "Grid url.")
+    @JsonProperty("url")
+    private String url;
+
+    @Schema(example = "600", description = "Grid width.")
+    @JsonProperty("width")
+    private Integer width;
+
+    @Schema(example = "900", description = "Grid height.")
+    @JsonProperty("height")
+    private Integer height;
+
+    @Schema(example = "alternate", description = "Grid style.")
+    @JsonProperty("style")
+    private String style;
+}
@@ -20,4 +20,6 @@ public class SGDBGrid {
     private String url;
     private Integer width;
     private Integer height;
+    private String style;
+    private Boolean nsfw;
 }
@@ -22,4 +22,7 @@ public class UserListResponse {
 
     @Schema(description = "List of users.")
     private List<UserResponse> users;
+
+    @Schema(example = "eyJpZCI6NDJ9", description = "Cursor of the next window, only when scrolling and there are more results.")
+    private String nextCursor;
 }
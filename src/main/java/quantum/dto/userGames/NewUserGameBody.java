@@ -34,6 +34,10 @@ public class NewUserGameBody {
     @JsonProperty("name")
     private String name;
 
+    @Schema(example = "620", description = "Steam app id.")
+    @JsonProperty("steamAppId")
+    private Long steamAppId;
+
     @Schema(example = "Tags", description = "Tags.")
     @JsonProperty("tags")
     private Set<String> tags;
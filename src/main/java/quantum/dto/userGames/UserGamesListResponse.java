@@ -21,4 +21,7 @@ public class UserGamesListResponse {
 
     @Schema(description = "List of games of a user.")
     private List<UserGameResponse> games;
+
+    @Schema(example = "eyJpZCI6NDJ9", description = "Cursor of the next window, only when scrolling and there are more results.")
+    private String nextCursor;
 }
@@ -35,8 +35,26 @@ public class UserGameImport {
     @JsonProperty("sgdbId")
     private Long sgdbId;
 
+    @Schema(example = "620", description = "The steam app id of the game.")
+    @JsonProperty("steamAppId")
+    private Long steamAppId;
+
     @Schema(example = "mmo, shooter", description = "Tags for the game.")
     @JsonProperty("tags")
     private List<String> tags;
 
+    /**
+     * Read the game of a library export row, the fields of the row take precedence.
+     *
+     * @param game The exported game.
+     */
+    @JsonProperty(value = "game", access = JsonProperty.Access.WRITE_ONLY)
+    private void setGame(UserGameImport game) {
+        if (game == null) return;
+        if (name == null) name = game.getName();
+        if (image == null) image = game.getImage();
+        if (sgdbId == null) sgdbId = game.getSgdbId();
+        if (steamAppId == null) steamAppId = game.getSteamAppId();
+        if (tags == null) tags = game.getTags();
+    }
 }
@@ -17,8 +17,8 @@ import org.springframework.security.web.authentication.WebAuthenticationDetailsS
 import org.springframework.stereotype.Component;
 import org.springframework.util.StringUtils;
 import org.springframework.web.filter.OncePerRequestFilter;
-import quantum.security.jwt.JwtUtil;
-import quantum.service.UserService;
+import quantum.security.PrincipalCache;
+import quantum.security.jwt.JwtVerifier;
 
 import java.io.IOException;
 
@@ -30,15 +30,18 @@ import java.io.IOException;
 @Profile("!test")
 public class AuthTokenFilter extends OncePerRequestFilter {
     @Autowired
-    private UserService userService;
+    private PrincipalCache principalCache;
+
+    @Autowired
+    private JwtVerifier jwtVerifier;
 
     @Override
     protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain filterChain) throws ServletException, IOException {
         try {
             String jwt = parseJwt(request);
-            if (jwt != null && JwtUtil.verifyToken(jwt)) {
-                String username = JwtUtil.getUserNameFromJwtToken(jwt);
-                UserDetails userDetails = userService.loadUserByUsername(username);
+            if (jwt != null) {
+                String username = jwtVerifier.verify(jwt).getSubject();
+                UserDetails userDetails = principalCache.get(username);
                 UsernamePasswordAuthenticationToken authentication = new UsernamePasswordAuthenticationToken(
                         userDetails, null, userDetails.getAuthorities());
                 authentication.setDetails(new WebAuthenticationDetailsSource().buildDetails(request));
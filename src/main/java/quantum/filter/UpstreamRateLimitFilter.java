@@ -0,0 +1,198 @@
+package quantum.filter;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.HttpStatusCode;
+import org.springframework.stereotype.Component;
+import org.springframework.web.reactive.function.client.ClientRequest;
+import org.springframework.web.reactive.function.client.ClientResponse;
+import org.springframework.web.reactive.function.client.ExchangeFilterFunction;
+import org.springframework.web.reactive.function.client.ExchangeFunction;
+import quantum.exceptions.QuantumLibraryGenericException;
+import reactor.core.publisher.Mono;
+import reactor.util.retry.Retry;
+
+import java.time.Duration;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Rate limiter for the external APIs.
+ * <p>
+ * Every upstream host gets its own token bucket, requests over the rate are delayed without blocking. Responses with
+ * status 429 or 5xx are retried with exponential backoff and jitter, a 429 also pauses the bucket of the host for the
+ * time given in its Retry-After header.
+ */
+@Slf4j
+@Component
+public class UpstreamRateLimitFilter implements ExchangeFilterFunction {
+
+    private final MeterRegistry meterRegistry;
+    private final Map<String, TokenBucket> buckets = new ConcurrentHashMap<>();
+    private final double defaultPermitsPerSecond;
+    private final Map<String, Double> permitsPerSecond;
+    private final int burst;
+    private final int maxRetries;
+    private final Duration minBackoff;
+    private final Duration maxBackoff;
+
+    @Autowired
+    public UpstreamRateLimitFilter(MeterRegistry meterRegistry,
+                                   @Value("${upstream.rate-limit.default-permits-per-second:10}") double defaultPermitsPerSecond,
+                                   @Value("#{${upstream.rate-limit.permits-per-second:{:}}}") Map<String, Double> permitsPerSecond,
+                                   @Value("${upstream.rate-limit.burst:5}") int burst,
+                                   @Value("${upstream.retry.max-retries:5}") int maxRetries,
+                                   @Value("${upstream.retry.min-backoff:500ms}") Duration minBackoff,
+                                   @Value("${upstream.retry.max-backoff:30s}") Duration maxBackoff) {
+        this.meterRegistry = meterRegistry;
+        this.defaultPermitsPerSecond = defaultPermitsPerSecond;
+        this.permitsPerSecond = permitsPerSecond;
+        this.burst = burst;
+        this.maxRetries = maxRetries;
+        this.minBackoff = minBackoff;
+        this.maxBackoff = maxBackoff;
+    }
+
+    //------------------------------------- PUBLIC METHODS -------------------------------------//
+
+    /**
+     * Rate limit and retry a request.
+     *
+     * @param request The request.
+     * @param next    The next exchange function.
+     * @return The response.
+     */
+    @Override
+    public Mono<ClientResponse> filter(ClientRequest request, ExchangeFunction next) {
+        String host = request.url().getHost();
+        TokenBucket bucket = buckets.computeIfAbsent(host, this::newBucket);
+        return Mono.defer(() -> acquire(host, bucket).then(Mono.defer(() -> next.exchange(request))))
+                .flatMap(response -> checkResponse(host, bucket, response))
+                .retryWhen(Retry.backoff(maxRetries, minBackoff)
+                        .maxBackoff(maxBackoff)
+                        .jitter(0.5)
+                        .filter(RetryableResponseException.class::isInstance)
+                        .doBeforeRetry(signal -> {
+                            log.warn("[FILTER] - [UPSTREAM] - Retrying request to {}: {}", host, signal.failure().getMessage());
+                            meterRegistry.counter("upstream.requests.retried", "host", host).increment();
+                        })
+                        .onRetryExhaustedThrow((spec, signal) -> new QuantumLibraryGenericException(
+                                "Upstream service unavailable",
+                                "Too many failed requests to " + host + ": " + signal.failure().getMessage(),
+                                HttpStatus.SERVICE_UNAVAILABLE)));
+    }
+
+    //------------------------------------- PRIVATE METHODS -------------------------------------//
+
+    /**
+     * Create the token bucket of a host.
+     *
+     * @param host The host.
+     * @return The token bucket.
+     */
+    private TokenBucket newBucket(String host) {
+        return new TokenBucket(permitsPerSecond.getOrDefault(host, defaultPermitsPerSecond), burst);
+    }
+
+    /**
+     * Take a token from the bucket, waiting if there is none left.
+     *
+     * @param host   The host.
+     * @param bucket The token bucket of the host.
+     * @return Completion signal once the request can be sent.
+     */
+    private Mono<Long> acquire(String host, TokenBucket bucket) {
+        long delayNanos = bucket.reserve();
+        if (delayNanos <= 0) {
+            return Mono.empty();
+        }
+        meterRegistry.counter("upstream.requests.throttled", "host", host).increment();
+        return Mono.delay(Duration.ofNanos(delayNanos));
+    }
+
+    /**
+     * Turn 429 and 5xx responses into retryable errors.
+     *
+     * @param host     The host.
+     * @param bucket   The token bucket of the host.
+     * @param response The response.
+     * @return The response, or a retryable error.
+     */
+    private Mono<ClientResponse> checkResponse(String host, TokenBucket bucket, ClientResponse response) {
+        HttpStatusCode status = response.statusCode();
+        if (status.value() != HttpStatus.TOO_MANY_REQUESTS.value() && !status.is5xxServerError()) {
+            return Mono.just(response);
+        }
+        if (status.value() == HttpStatus.TOO_MANY_REQUESTS.value()) {
+            bucket.pause(retryAfter(response));
+        }
+        return response.releaseBody()
+                .then(Mono.error(new RetryableResponseException(host, status)));
+    }
+
+    /**
+     * Read the Retry-After header in seconds.
+     *
+     * @param response The response.
+     * @return The time to wait, the minimum backoff if the header is missing or is a date.
+     */
+    private Duration retryAfter(ClientResponse response) {
+        String retryAfter = response.headers().asHttpHeaders().getFirst(HttpHeaders.RETRY_AFTER);
+        try {
+            return retryAfter == null ? minBackoff : Duration.ofSeconds(Long.parseLong(retryAfter.trim()));
+        } catch (NumberFormatException e) {
+            return minBackoff;
+        }
+    }
+
+    /**
+     * Lock-free token bucket tracking the time at which the bucket would be full again.
+     */
+    private static final class TokenBucket {
+
+        private final long intervalNanos;
+        private final long burstNanos;
+        private final AtomicLong fullAt = new AtomicLong(System.nanoTime());
+
+        private TokenBucket(double permitsPerSecond, int burst) {
+            this.intervalNanos = (long) (1_000_000_000L / permitsPerSecond);
+            this.burstNanos = intervalNanos * Math.max(burst, 1);
+        }
+
+        /**
+         * Take a token.
+         *
+         * @return The nanos to wait before using the token.
+         */
+        private long reserve() {
+            long now = System.nanoTime();
+            long previous = fullAt.getAndAccumulate(now, (current, time) -> Math.max(current, time) + intervalNanos);
+            return Math.max(previous, now) + intervalNanos - now - burstNanos;
+        }
+
+        /**
+         * Stop handing out tokens for a while.
+         *
+         * @param duration The pause.
+         */
+        private void pause(Duration duration) {
+            long until = System.nanoTime() + duration.toNanos() + burstNanos - intervalNanos;
+            fullAt.accumulateAndGet(until, Math::max);
+        }
+    }
+
+    /**
+     * Upstream response that must be retried.
+     */
+    private static final class RetryableResponseException extends RuntimeException {
+
+        private RetryableResponseException(String host, HttpStatusCode status) {
+            super(host + " responded " + status.value());
+        }
+    }
+}
@@ -37,5 +37,6 @@ public interface GamesMapping {
      * @param entity The element to convert.
      * @return The converted element.
      */
+    @Mapping(target = "steamAppId", ignore = true)
     Game map(GameResponse entity);
 }
@@ -3,7 +3,9 @@ package quantum.model;
 import com.fasterxml.jackson.annotation.JsonIgnore;
 import jakarta.persistence.*;
 import lombok.*;
+import org.hibernate.annotations.BatchSize;
 import org.springframework.validation.annotation.Validated;
+import quantum.utils.TagIdConverter;
 
 import java.util.List;
 import java.util.Objects;
@@ -26,7 +28,8 @@ public class Game {
 
     @Id
     @Column(name = "GAME_ID")
-    @GeneratedValue(strategy = GenerationType.AUTO)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "game_seq")
+    @SequenceGenerator(name = "game_seq", sequenceName = "game_seq", allocationSize = 50)
     private Long id;
 
     @Column(name = "NAME")
@@ -35,13 +38,20 @@ public class Game {
     @Column(name = "IMAGE")
     private String image;
 
+    // Tags are stored as ids of the tag dictionary
     @ElementCollection(fetch = FetchType.EAGER)
-    @Column(name = "TAGS")
+    @BatchSize(size = 100)
+    @CollectionTable(name = "GAME_TAGS_T", joinColumns = @JoinColumn(name = "GAME_ID"), indexes = @Index(columnList = "TAG_ID, GAME_ID"))
+    @Column(name = "TAG_ID")
+    @Convert(converter = TagIdConverter.class)
     private Set<String> tags;
 
     @Column(name = "SGDB_ID")
     private Long sgdbId;
 
+    @Column(name = "STEAM_APP_ID")
+    private Long steamAppId;
+
     @JsonIgnore
     @OneToMany(mappedBy = "game", cascade = CascadeType.ALL)
     private List<UserGame> userGames;
@@ -23,7 +23,8 @@ public class Group {
 
     @Id
     @Column(name = "GROUP_ID")
-    @GeneratedValue(strategy = GenerationType.AUTO)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "group_seq")
+    @SequenceGenerator(name = "group_seq", sequenceName = "group_seq", allocationSize = 50)
     private Long id;
 
     @Column(name = "NAME")
@@ -0,0 +1,42 @@
+package quantum.model;
+
+import jakarta.persistence.*;
+import lombok.*;
+import org.springframework.validation.annotation.Validated;
+import quantum.utils.TagMapConverter;
+
+import java.time.Instant;
+import java.util.Map;
+
+/**
+ * Entity class for cached Steam Spy app details
+ */
+
+@Entity
+@Getter
+@Setter
+@ToString
+@Builder
+@Validated
+@AllArgsConstructor
+@NoArgsConstructor
+@Table(name = "STEAM_SPY_CACHE")
+public class SteamSpyCacheEntry {
+
+    @Id
+    @Column(name = "APP_ID")
+    private Long appId;
+
+    @Column(name = "NAME")
+    private String name;
+
+    @Convert(converter = TagMapConverter.class)
+    @Column(name = "TAGS", length = 4000)
+    private Map<String, Integer> tags;
+
+    @Column(name = "FAILED")
+    private Boolean failed;
+
+    @Column(name = "FETCHED_AT")
+    private Instant fetchedAt;
+}
@@ -0,0 +1,30 @@
+package quantum.model;
+
+import jakarta.persistence.*;
+import lombok.*;
+import org.springframework.validation.annotation.Validated;
+
+/**
+ * Entity class for the tag dictionary, games and user games reference tags by id
+ */
+
+@Entity
+@Getter
+@Setter
+@ToString
+@Builder
+@Validated
+@AllArgsConstructor
+@NoArgsConstructor
+@Table(name = "TAGS_T")
+public class Tag {
+
+    @Id
+    @Column(name = "TAG_ID")
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Integer id;
+
+    // Case sensitive on MySQL through the binary collation set by TagTableMigration
+    @Column(name = "NAME", nullable = false, unique = true)
+    private String name;
+}
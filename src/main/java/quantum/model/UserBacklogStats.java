@@ -0,0 +1,57 @@
+package quantum.model;
+
+import jakarta.persistence.*;
+import lombok.*;
+import org.springframework.validation.annotation.Validated;
+import quantum.repository.projections.BacklogStatsProjection;
+
+/**
+ * Entity class for the stats of a backlog of a user, kept up to date with deltas of the user games changes.
+ * <p>
+ * Backlog 0 holds the games without backlog 1, 2 or 3.
+ */
+
+@Entity
+@Getter
+@Setter
+@ToString
+@Builder
+@Validated
+@AllArgsConstructor
+@NoArgsConstructor
+@Table(name = "USER_BACKLOG_STATS", uniqueConstraints = @UniqueConstraint(columnNames = {"USER_ID", "BACKLOG"}))
+public class UserBacklogStats implements BacklogStatsProjection {
+
+    @Id
+    @Column(name = "USER_BACKLOG_STATS_ID")
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "user_backlog_stats_seq")
+    @SequenceGenerator(name = "user_backlog_stats_seq", sequenceName = "user_backlog_stats_seq", allocationSize = 50)
+    private Long id;
+
+    @Column(name = "USER_ID", nullable = false)
+    private Long userId;
+
+    @Column(name = "BACKLOG", nullable = false)
+    private Integer backlog;
+
+    @Column(name = "GAMES", nullable = false)
+    private Long games;
+
+    @Column(name = "PLAYED_GAMES", nullable = false)
+    private Long playedGames;
+
+    @Column(name = "COMPLETED_GAMES", nullable = false)
+    private Long completedGames;
+
+    @Column(name = "FINISHED_GAMES", nullable = false)
+    private Long finishedGames;
+
+    @Column(name = "TIME_PLAYED", nullable = false)
+    private Long timePlayed;
+
+    @Column(name = "ACHIVEMENTS", nullable = false)
+    private Long achivements;
+
+    @Column(name = "TOTAL_ACHIVEMENTS", nullable = false)
+    private Long totalAchivements;
+}
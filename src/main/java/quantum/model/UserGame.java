@@ -2,7 +2,9 @@ package quantum.model;
 
 import jakarta.persistence.*;
 import lombok.*;
+import org.hibernate.annotations.BatchSize;
 import org.springframework.validation.annotation.Validated;
+import quantum.utils.TagIdConverter;
 
 import java.util.Set;
 
@@ -23,7 +25,8 @@ public class UserGame {
 
     @Id
     @Column(name = "USER_GAME_ID")
-    @GeneratedValue(strategy = GenerationType.AUTO)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "user_game_seq")
+    @SequenceGenerator(name = "user_game_seq", sequenceName = "user_game_seq", allocationSize = 50)
     private Long id;
 
     @ManyToOne
@@ -37,8 +40,12 @@ public class UserGame {
     @Column(name = "TIME_PLAYED")
     private Integer timePlayed;
 
+    // Tags are stored as ids of the tag dictionary
     @ElementCollection(fetch = FetchType.EAGER)
-    @Column(name = "TAGS")
+    @BatchSize(size = 100)
+    @CollectionTable(name = "USER_GAME_TAGS_T", joinColumns = @JoinColumn(name = "USER_GAME_ID"), indexes = @Index(columnList = "TAG_ID, USER_GAME_ID"))
+    @Column(name = "TAG_ID")
+    @Convert(converter = TagIdConverter.class)
     private Set<String> tags;
 
     @Column(name = "IMAGE")
@@ -24,7 +24,8 @@ import java.util.List;
 public class UserGroup {
     @Id
     @Column(name = "USER_GROUP_ID")
-    @GeneratedValue(strategy = GenerationType.AUTO)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "user_group_seq")
+    @SequenceGenerator(name = "user_group_seq", sequenceName = "user_group_seq", allocationSize = 50)
     private Long id;
 
     @ManyToOne
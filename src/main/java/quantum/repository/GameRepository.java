@@ -1,14 +1,37 @@
 package quantum.repository;
 
+import org.springframework.data.domain.*;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
 import quantum.model.Game;
 
+import java.util.Collection;
+import java.util.List;
 import java.util.Optional;
 
 /**
  * JPA repository connection for {@link Game} entity.
  */
 public interface GameRepository extends JpaRepository<Game, Long> {
+
+    /**
+     * JPA Named Query find a slice of the games, without counting them.
+     *
+     * @param pageable The pagination information.
+     * @return The games found.
+     */
+    Slice<Game> findAllBy(Pageable pageable);
+
+    /**
+     * JPA Named Query scroll the games from a keyset position.
+     *
+     * @param position The position to scroll from.
+     * @param sort     The sort, ending with the id.
+     * @param limit    The window size.
+     * @return The window of games found.
+     */
+    Window<Game> findAllBy(ScrollPosition position, Sort sort, Limit limit);
+
     /**
      * JPA Named Query find a game by sgdb id.
      *
@@ -16,4 +39,21 @@ public interface GameRepository extends JpaRepository<Game, Long> {
      * @return The game found.
      */
     Optional<Game> findBySgdbId(Long sgdbId);
+
+    /**
+     * JPA Named Query find the games with any of the sgdb ids.
+     *
+     * @param sgdbIds The sgdb game ids to find.
+     * @return The games found.
+     */
+    List<Game> findBySgdbIdIn(Collection<Long> sgdbIds);
+
+    /**
+     * JPA Query find the stored sgdb ids, most owned games first.
+     *
+     * @param pageable The pagination information.
+     * @return The sgdb ids found.
+     */
+    @Query("SELECT g.sgdbId FROM Game g JOIN g.userGames ug WHERE g.sgdbId IS NOT NULL GROUP BY g.sgdbId ORDER BY COUNT(ug.id) DESC")
+    List<Long> findMostOwnedSgdbIds(Pageable pageable);
 }
@@ -0,0 +1,10 @@
+package quantum.repository;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+import quantum.model.SteamSpyCacheEntry;
+
+/**
+ * JPA repository connection for {@link SteamSpyCacheEntry} entity.
+ */
+public interface SteamSpyCacheRepository extends JpaRepository<SteamSpyCacheEntry, Long> {
+}
@@ -0,0 +1,65 @@
+package quantum.repository;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.transaction.annotation.Transactional;
+import quantum.model.UserBacklogStats;
+
+import java.util.List;
+
+/**
+ * JPA repository connection for {@link UserBacklogStats} entity.
+ */
+public interface UserBacklogStatsRepository extends JpaRepository<UserBacklogStats, Long> {
+
+    /**
+     * JPA Query find the backlog stats of a user by username.
+     *
+     * @param username The username to find.
+     * @return The backlog stats found.
+     */
+    @Query("SELECT s FROM UserBacklogStats s WHERE s.userId = (SELECT u.id FROM User u WHERE u.username = :username)")
+    List<UserBacklogStats> findByUsername(String username);
+
+    /**
+     * JPA Query find the usernames with backlog stats.
+     *
+     * @return The usernames found.
+     */
+    @Query("SELECT DISTINCT u.username FROM UserBacklogStats s, User u WHERE u.id = s.userId")
+    List<String> findUsernames();
+
+    /**
+     * JPA Query add a delta to the stats of a backlog of a user.
+     *
+     * @param username         The username.
+     * @param backlog          The backlog.
+     * @param games            The games delta.
+     * @param playedGames      The played games delta.
+     * @param completedGames   The completed games delta.
+     * @param finishedGames    The finished games delta.
+     * @param timePlayed       The time played delta.
+     * @param achivements      The achievements delta.
+     * @param totalAchivements The total achievements delta.
+     * @return The number of stats updated, 0 when the stats of the user are not built.
+     */
+    @Transactional
+    @Modifying
+    @Query("UPDATE UserBacklogStats s SET s.games = s.games + :games, s.playedGames = s.playedGames + :playedGames, "
+            + "s.completedGames = s.completedGames + :completedGames, s.finishedGames = s.finishedGames + :finishedGames, "
+            + "s.timePlayed = s.timePlayed + :timePlayed, s.achivements = s.achivements + :achivements, "
+            + "s.totalAchivements = s.totalAchivements + :totalAchivements "
+            + "WHERE s.backlog = :backlog AND s.userId = (SELECT u.id FROM User u WHERE u.username = :username)")
+    int addDelta(String username, Integer backlog, long games, long playedGames, long completedGames, long finishedGames,
+                 long timePlayed, long achivements, long totalAchivements);
+
+    /**
+     * JPA Named Query delete the backlog stats of a user.
+     *
+     * @param userId The user id.
+     */
+    @Transactional
+    @Modifying
+    void deleteByUserId(Long userId);
+}
@@ -1,20 +1,32 @@
 package quantum.repository;
 
-import org.springframework.data.domain.Page;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.AvailableHints;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.JpaSpecificationExecutor;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
 import quantum.model.UserGame;
+import quantum.repository.projections.BacklogStatsProjection;
+import quantum.repository.projections.OwnershipProjection;
+import quantum.repository.projections.SteamLibraryProjection;
 import quantum.repository.projections.UserGameSgdbIdProjection;
 
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 import java.util.Set;
+import java.util.stream.Stream;
 
 /**
  * JPA repository connection for {@link UserGame} entity.
+ * <p>
+ * Library pages fetch the user and game of every row in the page query, the tags of the page are fetched in batches.
  */
-public interface UserGamesRepository extends JpaRepository<UserGame, Long> {
+public interface UserGamesRepository extends JpaRepository<UserGame, Long>, JpaSpecificationExecutor<UserGame> {
 
     /**
      * JPA Named Query find a user by username.
@@ -23,7 +35,30 @@ public interface UserGamesRepository extends JpaRepository<UserGame, Long> {
      * @param pageable The pagination information.
      * @return The user found.
      */
-    Page<UserGame> findByUser_Username(String username, Pageable pageable);
+    @EntityGraph(attributePaths = {"user", "game"})
+    Slice<UserGame> findByUser_Username(String username, Pageable pageable);
+
+    /**
+     * JPA Query stream the games of a user, reading the rows with a database cursor.
+     * <p>
+     * Only the game is fetched with the row, the tags are left lazy so they are fetched in batches.
+     *
+     * @param username The username to find.
+     * @return The user games found, the stream must be closed.
+     */
+    @EntityGraph(attributePaths = {"game"})
+    @QueryHints(@QueryHint(name = AvailableHints.HINT_FETCH_SIZE, value = "500"))
+    @Query("SELECT ug FROM UserGame ug WHERE ug.user.username = :username ORDER BY ug.id")
+    Stream<UserGame> streamByUsername(String username);
+
+    /**
+     * JPA Named Query find the user games of a game with their users.
+     *
+     * @param gameId The game id to find.
+     * @return The user games found.
+     */
+    @EntityGraph(attributePaths = {"user"})
+    List<UserGame> findByGame_Id(Long gameId);
 
     /**
      * JPA Named Query find list of games sgbdId of a user by username.
@@ -41,7 +76,8 @@ public interface UserGamesRepository extends JpaRepository<UserGame, Long> {
      * @param pageable The pagination information.
      * @return The user found.
      */
-    Page<UserGame> findByUser_UsernameAndBacklog(String username, Integer backlog, Pageable pageable);
+    @EntityGraph(attributePaths = {"user", "game"})
+    Slice<UserGame> findByUser_UsernameAndBacklog(String username, Integer backlog, Pageable pageable);
 
     /**
      * JPA Named Query find favourite user games by username.
@@ -51,7 +87,8 @@ public interface UserGamesRepository extends JpaRepository<UserGame, Long> {
      * @param pageable  The pagination information.
      * @return The user found.
      */
-    Page<UserGame> findByUser_UsernameAndFavorite(String username, Boolean favourite, Pageable pageable);
+    @EntityGraph(attributePaths = {"user", "game"})
+    Slice<UserGame> findByUser_UsernameAndFavorite(String username, Boolean favourite, Pageable pageable);
 
     /**
      * JPA Named Query find user games finished by username.
@@ -61,7 +98,8 @@ public interface UserGamesRepository extends JpaRepository<UserGame, Long> {
      * @param pageable The pagination information.
      * @return The user found.
      */
-    Page<UserGame> findByUser_UsernameAndFinished(String username, Boolean finished, Pageable pageable);
+    @EntityGraph(attributePaths = {"user", "game"})
+    Slice<UserGame> findByUser_UsernameAndFinished(String username, Boolean finished, Pageable pageable);
 
     /**
      * JPA Named Query find user games completed by username.
@@ -72,6 +110,27 @@ public interface UserGamesRepository extends JpaRepository<UserGame, Long> {
      */
     List<UserGame> findByUser_UsernameAndTagsIn(String username, Set<String> tags);
 
+    /**
+     * JPA Query find the users and games of the user games with any of the tags.
+     *
+     * @param tags The tags to find.
+     * @return The ownerships found.
+     */
+    @Query("SELECT DISTINCT ug.user.id AS userId, ug.game.id AS gameId FROM UserGame ug JOIN ug.tags t WHERE t IN :tags")
+    List<OwnershipProjection> findOwnershipsByTagsIn(Collection<String> tags);
+
+    /**
+     * JPA Query find the ids of the games with any of the tags in the library of every user.
+     *
+     * @param usernames The usernames.
+     * @param tags      The tags to find.
+     * @param userCount The number of distinct users.
+     * @return The game ids found.
+     */
+    @Query("SELECT ug.game.id FROM UserGame ug JOIN ug.tags t WHERE ug.user.username IN :usernames AND t IN :tags "
+            + "GROUP BY ug.game.id HAVING COUNT(DISTINCT ug.user.id) = :userCount")
+    List<Long> findCommonGameIds(Collection<String> usernames, Collection<String> tags, long userCount);
+
     /**
      * JPA Named Query find a user by username.
      *
@@ -79,8 +138,9 @@ public interface UserGamesRepository extends JpaRepository<UserGame, Long> {
      * @param pageable The pagination information.
      * @return The user found.
      */
+    @EntityGraph(attributePaths = {"user", "game"})
     @Query("SELECT ug FROM UserGame ug WHERE ug.user.username = :username AND ug.achivements = ug.totalAchivements")
-    Page<UserGame> findByUser_UsernameAndCompleted(String username, Pageable pageable);
+    Slice<UserGame> findByUser_UsernameAndCompleted(String username, Pageable pageable);
 
     /**
      * JPA Named Query find a user game by username and game id.
@@ -99,4 +159,42 @@ public interface UserGamesRepository extends JpaRepository<UserGame, Long> {
      * @return The user found.
      */
     Optional<UserGame> findByUser_UsernameAndGame_SgdbId(String username, Long sgdbId);
+
+    /**
+     * JPA Query find which of the sgdb ids are already in the library of a user.
+     *
+     * @param username The username to find.
+     * @param sgdbIds  The sgdb ids to find.
+     * @return The sgdb ids found.
+     */
+    @Query("SELECT g.sgdbId FROM UserGame ug JOIN ug.game g WHERE ug.user.username = :username AND g.sgdbId IN :sgdbIds")
+    Set<Long> findSgdbIdsByUsernameAndSgdbIdIn(String username, Collection<Long> sgdbIds);
+
+    /**
+     * JPA Query find the steam sync data of the games of a user.
+     *
+     * @param username The username to find.
+     * @return The user games found.
+     */
+    @Query("SELECT ug.id AS userGameId, g.id AS gameId, g.sgdbId AS sgdbId, g.steamAppId AS steamAppId, ug.timePlayed AS timePlayed, ug.backlog AS backlog "
+            + "FROM UserGame ug JOIN ug.game g WHERE ug.user.username = :username")
+    List<SteamLibraryProjection> findSteamLibraryByUsername(String username);
+
+    /**
+     * JPA Query aggregate the stats of the games of a user by backlog.
+     * <p>
+     * Games with the same (or no) achievements and total achievements count as completed.
+     *
+     * @param username The username to find.
+     * @return The stats of each backlog.
+     */
+    @Query("SELECT ug.backlog AS backlog, COUNT(ug) AS games, "
+            + "SUM(CASE WHEN ug.timePlayed > 0 THEN 1 ELSE 0 END) AS playedGames, "
+            + "SUM(CASE WHEN ug.achivements = ug.totalAchivements OR (ug.achivements IS NULL AND ug.totalAchivements IS NULL) THEN 1 ELSE 0 END) AS completedGames, "
+            + "SUM(CASE WHEN ug.finished = true THEN 1 ELSE 0 END) AS finishedGames, "
+            + "COALESCE(SUM(ug.timePlayed), 0) AS timePlayed, "
+            + "COALESCE(SUM(ug.achivements), 0) AS achivements, "
+            + "COALESCE(SUM(ug.totalAchivements), 0) AS totalAchivements "
+            + "FROM UserGame ug WHERE ug.user.username = :username GROUP BY ug.backlog")
+    List<BacklogStatsProjection> findBacklogStatsByUsername(String username);
 }
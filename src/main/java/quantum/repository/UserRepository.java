@@ -1,5 +1,6 @@
 package quantum.repository;
 
+import org.springframework.data.domain.*;
 import org.springframework.data.jpa.repository.JpaRepository;
 import quantum.model.User;
 
@@ -10,6 +11,24 @@ import java.util.Optional;
  */
 public interface UserRepository extends JpaRepository<User, Long> {
 
+    /**
+     * JPA Named Query find a slice of the users, without counting them.
+     *
+     * @param pageable The pagination information.
+     * @return The users found.
+     */
+    Slice<User> findAllBy(Pageable pageable);
+
+    /**
+     * JPA Named Query scroll the users from a keyset position.
+     *
+     * @param position The position to scroll from.
+     * @param sort     The sort, ending with the id.
+     * @param limit    The window size.
+     * @return The window of users found.
+     */
+    Window<User> findAllBy(ScrollPosition position, Sort sort, Limit limit);
+
     /**
      * JPA Named Query find a user by username.
      *
@@ -0,0 +1,19 @@
+package quantum.repository.projections;
+
+public interface BacklogStatsProjection {
+    Integer getBacklog();
+
+    Long getGames();
+
+    Long getPlayedGames();
+
+    Long getCompletedGames();
+
+    Long getFinishedGames();
+
+    Long getTimePlayed();
+
+    Long getAchivements();
+
+    Long getTotalAchivements();
+}
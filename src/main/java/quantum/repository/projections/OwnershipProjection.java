@@ -0,0 +1,7 @@
+package quantum.repository.projections;
+
+public interface OwnershipProjection {
+    Long getUserId();
+
+    Long getGameId();
+}
@@ -0,0 +1,15 @@
+package quantum.repository.projections;
+
+public interface SteamLibraryProjection {
+    Long getUserGameId();
+
+    Long getGameId();
+
+    Long getSgdbId();
+
+    Long getSteamAppId();
+
+    Integer getTimePlayed();
+
+    Integer getBacklog();
+}
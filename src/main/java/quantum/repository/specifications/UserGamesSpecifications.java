@@ -0,0 +1,59 @@
+package quantum.repository.specifications;
+
+import org.springframework.data.jpa.domain.Specification;
+import quantum.model.UserGame;
+
+/**
+ * JPA specifications for {@link UserGame} entity.
+ */
+public final class UserGamesSpecifications {
+
+    private UserGamesSpecifications() {
+    }
+
+    /**
+     * Find the user games of a user in a library category.
+     *
+     * @param username The username to find.
+     * @param category The category, all games for an unknown category.
+     * @return The specification.
+     */
+    public static Specification<UserGame> byCategory(String username, String category) {
+        Specification<UserGame> byUsername = (root, query, cb) -> cb.equal(root.get("user").get("username"), username);
+        return switch (category) {
+            case "backlog1" -> byUsername.and(byBacklog(1));
+            case "backlog2" -> byUsername.and(byBacklog(2));
+            case "backlog3" -> byUsername.and(byBacklog(3));
+            case "favorite" -> byUsername.and((root, query, cb) -> cb.isTrue(root.get("favorite")));
+            case "finished" -> byUsername.and((root, query, cb) -> cb.isTrue(root.get("finished")));
+            case "completed" -> byUsername.and((root, query, cb) -> cb.equal(root.get("achivements"), root.get("totalAchivements")));
+            default -> byUsername;
+        };
+    }
+
+    /**
+     * Fetch the user and game of the user games in the same query, as the library pages do.
+     *
+     * @return The specification.
+     */
+    public static Specification<UserGame> fetchUserAndGame() {
+        return (root, query, cb) -> {
+            // Count queries can not fetch
+            if (!Long.class.equals(query.getResultType())) {
+                root.fetch("user");
+                root.fetch("game");
+            }
+            return null;
+        };
+    }
+
+    /**
+     * Find the user games in a backlog.
+     *
+     * @param backlog The backlog to find.
+     * @return The specification.
+     */
+    private static Specification<UserGame> byBacklog(int backlog) {
+        return (root, query, cb) -> cb.equal(root.get("backlog"), backlog);
+    }
+}
@@ -0,0 +1,93 @@
+package quantum.security;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import lombok.extern.slf4j.Slf4j;
+import org.hibernate.QueryTimeoutException;
+import org.hibernate.exception.DataException;
+import org.hibernate.exception.JDBCConnectionException;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.orm.jpa.JpaSystemException;
+import org.springframework.security.core.userdetails.UserDetails;
+import org.springframework.security.core.userdetails.UsernameNotFoundException;
+import org.springframework.stereotype.Component;
+import quantum.exceptions.DatabaseConnectionException;
+import quantum.model.User;
+import quantum.repository.UserRepository;
+
+import java.time.Duration;
+
+/**
+ * Cache of the principals of authenticated requests, by username.
+ * <p>
+ * Principals are copies of the users without password nor collections, so they are safe to share between requests.
+ * Entries expire after a short time and are evicted when a user is updated or deleted.
+ */
+@Slf4j
+@Component
+public class PrincipalCache {
+
+    private final UserRepository repository;
+    private final Cache<String, UserDetails> principals;
+
+    @Autowired
+    public PrincipalCache(UserRepository repository,
+                          MeterRegistry meterRegistry,
+                          @Value("${auth.principal-cache.max-size:10000}") int maxSize,
+                          @Value("${auth.principal-cache.ttl:60s}") Duration ttl) {
+        this.repository = repository;
+        this.principals = CaffeineCacheMetrics.monitor(meterRegistry,
+                Caffeine.newBuilder().maximumSize(maxSize).expireAfterWrite(ttl).recordStats().build(), "auth.principals");
+    }
+
+    //------------------------------------- PUBLIC METHODS -------------------------------------//
+
+    /**
+     * Get the principal of a user, loading it on a miss.
+     *
+     * @param username The username.
+     * @return The principal.
+     * @throws UsernameNotFoundException if the user does not exist, unknown users are not cached.
+     */
+    public UserDetails get(String username) {
+        return principals.get(username, this::load);
+    }
+
+    /**
+     * Evict the principal of a user.
+     *
+     * @param username The username.
+     */
+    public void evict(String username) {
+        principals.invalidate(username);
+    }
+
+    //------------------------------------- PRIVATE METHODS -------------------------------------//
+
+    /**
+     * Load the principal of a user.
+     *
+     * @param username The username.
+     * @return The principal.
+     */
+    private UserDetails load(String username) {
+        User user;
+        try {
+            log.info("[SECURITY] - [PRINCIPAL CACHE] - Loading user: {}", username);
+            user = repository.findByUsername(username)
+                    .orElseThrow(() -> new UsernameNotFoundException("User Not Found with username: " + username));
+        } catch (JpaSystemException | QueryTimeoutException | JDBCConnectionException | DataException ex) {
+            throw new DatabaseConnectionException(ex);
+        }
+        return User.builder()
+                .id(user.getId())
+                .username(user.getUsername())
+                .email(user.getEmail())
+                .role(user.getRole())
+                .image(user.getImage())
+                .build();
+    }
+}
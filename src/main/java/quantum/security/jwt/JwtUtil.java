@@ -1,5 +1,6 @@
 package quantum.security.jwt;
 
+import io.jsonwebtoken.JwtParser;
 import io.jsonwebtoken.Jwts;
 import lombok.experimental.UtilityClass;
 import lombok.extern.slf4j.Slf4j;
@@ -16,12 +17,15 @@ import java.security.GeneralSecurityException;
 public class JwtUtil {
     SecretKey key = Jwts.SIG.HS256.key().build();
 
+    // Parsers are immutable and thread safe, building one per token costs more than the parse
+    JwtParser parser = Jwts.parser().verifyWith(key).build();
+
 
     /**
      * Get the username from the JWT token.
      */
     public String getUserNameFromJwtToken(String jwt) {
-        return Jwts.parser().verifyWith(key).build().parseSignedClaims(jwt).getPayload().getSubject();
+        return parser.parseSignedClaims(jwt).getPayload().getSubject();
     }
 
     /**
@@ -38,9 +42,8 @@ public class JwtUtil {
      * Verify the integrity of the JWT token.
      */
     public boolean verifyToken(String jwt) throws Exception {
-        log.info("Verifying JWT token integrity: {}", jwt);
         try {
-            Jwts.parser().verifyWith(key).build().parseSignedClaims(jwt);
+            parser.parseSignedClaims(jwt);
             return true;
         } catch (Exception e) {
             throw new GeneralSecurityException("Could not verify JWT token integrity!", e);
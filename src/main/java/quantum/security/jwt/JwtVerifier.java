@@ -0,0 +1,103 @@
+package quantum.security.jwt;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.Expiry;
+import io.jsonwebtoken.Claims;
+import io.jsonwebtoken.JwtException;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.nio.charset.StandardCharsets;
+import java.security.GeneralSecurityException;
+import java.security.MessageDigest;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Base64;
+
+/**
+ * Verification of the JWT tokens of authenticated requests.
+ * <p>
+ * Tokens are parsed once with the shared parser of {@link JwtUtil}, the claims of verified tokens are cached by the
+ * SHA-256 digest of the token until the token expires or the cache ttl ends, whatever comes first.
+ */
+@Component
+public class JwtVerifier {
+
+    private final Cache<String, Claims> verified;
+
+    @Autowired
+    public JwtVerifier(MeterRegistry meterRegistry,
+                       @Value("${auth.token-cache.max-size:10000}") int maxSize,
+                       @Value("${auth.token-cache.ttl:5m}") Duration ttl) {
+        this.verified = CaffeineCacheMetrics.monitor(meterRegistry,
+                Caffeine.newBuilder().maximumSize(maxSize).expireAfter(untilExpiration(ttl)).recordStats().build(), "auth.tokens");
+    }
+
+    //------------------------------------- PUBLIC METHODS -------------------------------------//
+
+    /**
+     * Verify a token and get its claims.
+     *
+     * @param jwt The token.
+     * @return The claims of the token.
+     * @throws GeneralSecurityException if the token is not valid.
+     */
+    public Claims verify(String jwt) throws GeneralSecurityException {
+        String digest = digest(jwt);
+        Claims claims = verified.getIfPresent(digest);
+        if (claims == null) {
+            try {
+                claims = JwtUtil.parser.parseSignedClaims(jwt).getPayload();
+            } catch (JwtException | IllegalArgumentException e) {
+                throw new GeneralSecurityException("Could not verify JWT token integrity!", e);
+            }
+            verified.put(digest, claims);
+        }
+        return claims;
+    }
+
+    //------------------------------------- PRIVATE METHODS -------------------------------------//
+
+    /**
+     * Digest a token, so the cache holds fixed size keys instead of the tokens.
+     *
+     * @param jwt The token.
+     * @return The digest encoded in base64.
+     * @throws GeneralSecurityException if SHA-256 is not available.
+     */
+    private String digest(String jwt) throws GeneralSecurityException {
+        byte[] digest = MessageDigest.getInstance("SHA-256").digest(jwt.getBytes(StandardCharsets.US_ASCII));
+        return Base64.getEncoder().encodeToString(digest);
+    }
+
+    /**
+     * Expire the claims when the token expires, or after the ttl for tokens without expiration.
+     *
+     * @param ttl The maximum time to keep the claims.
+     * @return The expiry.
+     */
+    private static Expiry<String, Claims> untilExpiration(Duration ttl) {
+        return new Expiry<>() {
+            @Override
+            public long expireAfterCreate(String digest, Claims claims, long currentTime) {
+                if (claims.getExpiration() == null) return ttl.toNanos();
+                Duration remaining = Duration.between(Instant.now(), claims.getExpiration().toInstant());
+                return Math.min(remaining.toNanos(), ttl.toNanos());
+            }
+
+            @Override
+            public long expireAfterUpdate(String digest, Claims claims, long currentTime, long currentDuration) {
+                return expireAfterCreate(digest, claims, currentTime);
+            }
+
+            @Override
+            public long expireAfterRead(String digest, Claims claims, long currentTime, long currentDuration) {
+                return currentDuration;
+            }
+        };
+    }
+}
@@ -7,6 +7,7 @@ import quantum.dto.game.NewGameBody;
 import quantum.dto.game.UpdateGameBody;
 import quantum.model.Game;
 
+import java.util.Collection;
 import java.util.List;
 
 /**
@@ -22,6 +23,15 @@ public interface GameService {
      */
     GameListResponse getGames(Pageable pageable);
 
+    /**
+     * Scroll games from a cursor.
+     *
+     * @param cursor   The cursor to continue from, empty to start.
+     * @param pageable The window size and sort.
+     * @return The games and the cursor of the next window.
+     */
+    GameListResponse scrollGames(String cursor, Pageable pageable);
+
     /**
      * Find a game by id.
      *
@@ -31,6 +41,22 @@ public interface GameService {
      */
     Game findGameById(Long id, boolean sgdbId);
 
+    /**
+     * Find the games with any of the sgdb ids.
+     *
+     * @param sgdbIds The sgdb ids of the games to find.
+     * @return The games found.
+     */
+    List<Game> findGamesBySgdbIds(Collection<Long> sgdbIds);
+
+    /**
+     * Find the games with any of the ids.
+     *
+     * @param ids The ids of the games to find.
+     * @return The games found.
+     */
+    List<Game> findGamesByIds(Collection<Long> ids);
+
     /**
      * Create a new game.
      *
@@ -0,0 +1,19 @@
+package quantum.service;
+
+import quantum.dto.sgdb.GridResponse;
+import reactor.core.publisher.Mono;
+
+/**
+ * Service for the grid used as cover of a SGDB game.
+ */
+public interface GridResolutionService {
+
+    /**
+     * Get the best grid of a SGDB game.
+     *
+     * @param sgdbId The SGDB game id.
+     * @return The grid chosen, empty if the game has no suitable grid.
+     */
+    Mono<GridResponse> getGrid(Long sgdbId);
+
+}
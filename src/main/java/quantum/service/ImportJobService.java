@@ -0,0 +1,66 @@
+package quantum.service;
+
+import org.springframework.web.multipart.MultipartFile;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+import quantum.dto.importJob.ImportJobResponse;
+import quantum.dto.userGames.steamImport.UserGamesImportList;
+
+/**
+ * Service for asynchronous import jobs.
+ */
+public interface ImportJobService {
+
+    /**
+     * Start a job that resolves the steam games of a user and imports them.
+     *
+     * @param username The username.
+     * @param steamId  The steam id to import from.
+     * @return The job created.
+     */
+    ImportJobResponse startSteamImport(String username, String steamId);
+
+    /**
+     * Start a job that syncs the steam games of a user, only games new to the library are resolved and imported.
+     *
+     * @param username The username.
+     * @param steamId  The steam id to sync from.
+     * @return The job created.
+     */
+    ImportJobResponse startSteamSync(String username, String steamId);
+
+    /**
+     * Start a job that imports a list of games.
+     *
+     * @param username The username.
+     * @param body     The games to import.
+     * @return The job created.
+     */
+    ImportJobResponse startImport(String username, UserGamesImportList body);
+
+    /**
+     * Start a job that imports the games of a NDJSON or CSV file.
+     *
+     * @param username The username.
+     * @param file     The file to import.
+     * @return The job created.
+     */
+    ImportJobResponse startFileImport(String username, MultipartFile file);
+
+    /**
+     * Get the progress of a job.
+     *
+     * @param username The username.
+     * @param jobId    The job id.
+     * @return The job found.
+     */
+    ImportJobResponse getJob(String username, String jobId);
+
+    /**
+     * Stream the progress of a job.
+     *
+     * @param username The username.
+     * @param jobId    The job id.
+     * @return The emitter sending the progress events.
+     */
+    SseEmitter streamJob(String username, String jobId);
+}
@@ -0,0 +1,57 @@
+package quantum.service;
+
+import quantum.model.UserGame;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * Service for the in memory index of the online games owned by each user.
+ */
+public interface OwnershipIndexService {
+
+    /**
+     * Find the games owned by every user.
+     *
+     * @param userIds The user ids.
+     * @return The game ids, empty if the index can not answer.
+     */
+    Optional<List<Long>> findCommonGameIds(Collection<Long> userIds);
+
+    /**
+     * Find the users that own a game.
+     *
+     * @param gameId The game id.
+     * @return The user ids, empty if the index can not answer.
+     */
+    Optional<List<Long>> findOwnerIds(Long gameId);
+
+    /**
+     * Index a created or updated user game.
+     *
+     * @param userGame The user game.
+     */
+    void update(UserGame userGame);
+
+    /**
+     * Remove a deleted user game from the index.
+     *
+     * @param userGame The user game.
+     */
+    void remove(UserGame userGame);
+
+    /**
+     * Remove a deleted user from the index.
+     *
+     * @param userId The user id.
+     */
+    void removeUser(Long userId);
+
+    /**
+     * Remove a deleted game from the index.
+     *
+     * @param gameId The game id.
+     */
+    void removeGame(Long gameId);
+}
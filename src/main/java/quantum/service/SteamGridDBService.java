@@ -1,6 +1,8 @@
 package quantum.service;
 
 import quantum.dto.sgdb.SGDBGame;
+import quantum.dto.sgdb.SGDBGridSuccessResponse;
+import reactor.core.publisher.Mono;
 
 /**
  * Service for Steam Grid DB Petitions.
@@ -19,9 +21,9 @@ public interface SteamGridDBService {
      * Get game in steam grid db by steam id.
      *
      * @param id The steam id to search for
-     * @return The game found.
+     * @return The game found, empty if there is no match.
      */
-    SGDBGame getBySteamId(Long id);
+    Mono<SGDBGame> getBySteamId(Long id);
 
     /**
      * Get game grids in steam grid db by id.
@@ -29,6 +31,6 @@ public interface SteamGridDBService {
      * @param id The id to search for
      * @return The game grids found.
      */
-    String getGridsById(Long id);
+    Mono<SGDBGridSuccessResponse> getGridsById(Long id);
 
 }
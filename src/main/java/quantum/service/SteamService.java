@@ -1,6 +1,11 @@
 package quantum.service;
 
+import quantum.dto.steam.SteamGame;
 import quantum.dto.userGames.steamImport.UserGamesImportList;
+import quantum.utils.ImportProgressListener;
+import reactor.core.publisher.Mono;
+
+import java.util.List;
 
 /**
  * Service for Steam Grid DB Petitions.
@@ -21,7 +26,33 @@ public interface SteamService {
      * @param steamId The steam id to search for
      * @return The games found.
      */
-    UserGamesImportList getGames(String steamId);
+    Mono<UserGamesImportList> getGames(String steamId);
+
+    /**
+     * Get steam games reporting the progress.
+     *
+     * @param steamId  The steam id to search for
+     * @param listener The progress listener.
+     * @return The games found.
+     */
+    Mono<UserGamesImportList> getGames(String steamId, ImportProgressListener listener);
+
+    /**
+     * Get the owned games of a steam user, without enrichment.
+     *
+     * @param steamId The steam id to search for
+     * @return The owned games.
+     */
+    Mono<List<SteamGame>> getOwnedGames(String steamId);
+
+    /**
+     * Enrich steam games with steam spy and SGDB info.
+     *
+     * @param games    The steam games.
+     * @param listener The progress listener.
+     * @return The import list.
+     */
+    Mono<UserGamesImportList> resolveGames(List<SteamGame> games, ImportProgressListener listener);
 
 
 }
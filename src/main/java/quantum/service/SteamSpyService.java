@@ -1,6 +1,7 @@
 package quantum.service;
 
 import quantum.dto.steamSpy.SteamSpyGame;
+import reactor.core.publisher.Mono;
 
 /**
  * Service for Steam Grid DB Petitions.
@@ -11,7 +12,7 @@ public interface SteamSpyService {
      * Get steam spy info.
      *
      * @param steamId The steam id to search for
-     * @return The info found.
+     * @return The info found, empty if it could not be parsed.
      */
-    SteamSpyGame getSteamSpyInfo(Long steamId) ;
+    Mono<SteamSpyGame> getSteamSpyInfo(Long steamId);
 }
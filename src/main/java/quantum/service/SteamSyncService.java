@@ -0,0 +1,22 @@
+package quantum.service;
+
+import quantum.dto.steam.SteamGame;
+import quantum.utils.ImportProgressListener;
+
+import java.util.List;
+
+/**
+ * Service for incremental steam library syncs.
+ */
+public interface SteamSyncService {
+
+    /**
+     * Update the games of a user library that are owned on steam and find the owned games that are new.
+     *
+     * @param username The username.
+     * @param steamId  The steam id to sync from.
+     * @param listener The progress listener.
+     * @return The owned games not in the library yet.
+     */
+    List<SteamGame> syncOwnedGames(String username, String steamId, ImportProgressListener listener);
+}
@@ -7,6 +7,8 @@ import quantum.model.Game;
 import quantum.model.User;
 import quantum.model.UserGame;
 
+import java.io.IOException;
+import java.io.OutputStream;
 import java.util.List;
 import java.util.Set;
 
@@ -15,6 +17,15 @@ import java.util.Set;
  */
 public interface UserGamesService {
 
+    /**
+     * Write every game of a user as newline delimited json.
+     *
+     * @param username     The username.
+     * @param outputStream The stream to write to.
+     * @throws IOException if the games can not be written.
+     */
+    void exportUserGames(String username, OutputStream outputStream) throws IOException;
+
     /**
      * Gets user games.
      *
@@ -25,6 +36,17 @@ public interface UserGamesService {
      */
     UserGamesListResponse getUserGames(String username, String category, Pageable pageable);
 
+    /**
+     * Scroll user games from a cursor.
+     *
+     * @param username The username.
+     * @param category The category.
+     * @param cursor   The cursor to continue from, empty to start.
+     * @param pageable The window size and sort.
+     * @return The games and the cursor of the next window.
+     */
+    UserGamesListResponse scrollUserGames(String username, String category, String cursor, Pageable pageable);
+
     /**
      * Gets user games.
      *
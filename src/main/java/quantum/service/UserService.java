@@ -18,6 +18,15 @@ public interface UserService {
      */
     UserListResponse getUsers(Pageable pageable);
 
+    /**
+     * Scroll users from a cursor.
+     *
+     * @param cursor   The cursor to continue from, empty to start.
+     * @param pageable The window size and sort.
+     * @return The users and the cursor of the next window.
+     */
+    UserListResponse scrollUsers(String cursor, Pageable pageable);
+
     /**
      * Gets users.
      *
@@ -0,0 +1,41 @@
+package quantum.service;
+
+import quantum.dto.userGames.StatsResponse;
+import quantum.utils.BacklogStatsDelta;
+
+/**
+ * Service for the materialized stats of the user games.
+ */
+public interface UserStatsService {
+
+    /**
+     * Gets the stats of a user, building them the first time.
+     *
+     * @param username The username.
+     * @return The stats.
+     */
+    StatsResponse getStats(String username);
+
+    /**
+     * Apply the changes of the user games to the stats of a user.
+     *
+     * @param username The username.
+     * @param delta    The changes.
+     */
+    void applyDelta(String username, BacklogStatsDelta delta);
+
+    /**
+     * Check the stats of a user against the user games, rebuilding them if they drifted.
+     *
+     * @param username The username.
+     * @return Whether the stats drifted.
+     */
+    boolean verifyStats(String username);
+
+    /**
+     * Delete the stats of a user.
+     *
+     * @param userId The user id.
+     */
+    void deleteStats(Long userId);
+}
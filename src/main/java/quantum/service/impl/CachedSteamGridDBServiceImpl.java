@@ -0,0 +1,135 @@
+package quantum.service.impl;
+
+import com.github.benmanes.caffeine.cache.AsyncCache;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.annotation.Primary;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.stereotype.Service;
+import quantum.dto.sgdb.SGDBGame;
+import quantum.dto.sgdb.SGDBGridSuccessResponse;
+import quantum.repository.GameRepository;
+import quantum.service.SteamGridDBService;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.core.scheduler.Scheduler;
+
+import java.time.Duration;
+import java.util.Optional;
+
+/**
+ * Caching layer in front of {@link SteamGridDBServiceImpl}.
+ * <p>
+ * Caches are size bounded and expire after write. Concurrent requests for the same key share a single upstream call,
+ * failed calls are not cached.
+ */
+@Slf4j
+@Service
+@Primary
+public class CachedSteamGridDBServiceImpl implements SteamGridDBService {
+
+    private final SteamGridDBServiceImpl delegate;
+    private final GameRepository gameRepository;
+    private final Cache<String, String> searchCache;
+    private final AsyncCache<Long, Optional<SGDBGame>> gameCache;
+    private final AsyncCache<Long, SGDBGridSuccessResponse> gridsCache;
+    private final int gridsMaxSize;
+    private final Scheduler enrichmentScheduler;
+
+    @Value("${sgdb.cache.preload:false}")
+    private boolean preload;
+
+    @Value("${sgdb.cache.preload-concurrency:4}")
+    private int preloadConcurrency = 4;
+
+    @Value("${sgdb.cache.preload-size:100}")
+    private int preloadSize = 100;
+
+    @Autowired
+    public CachedSteamGridDBServiceImpl(SteamGridDBServiceImpl delegate,
+                                        GameRepository gameRepository,
+                                        MeterRegistry meterRegistry,
+                                        @Qualifier("enrichmentScheduler") Scheduler enrichmentScheduler,
+                                        @Value("${sgdb.cache.max-size:10000}") int maxSize,
+                                        @Value("${sgdb.cache.grids-max-size:2000}") int gridsMaxSize,
+                                        @Value("${sgdb.cache.ttl:1d}") Duration ttl) {
+        this.delegate = delegate;
+        this.gameRepository = gameRepository;
+        this.gridsMaxSize = gridsMaxSize;
+        this.enrichmentScheduler = enrichmentScheduler;
+        this.searchCache = CaffeineCacheMetrics.monitor(meterRegistry,
+                Caffeine.newBuilder().maximumSize(maxSize).expireAfterWrite(ttl).recordStats().build(), "sgdb.search");
+        this.gameCache = CaffeineCacheMetrics.monitor(meterRegistry,
+                Caffeine.newBuilder().maximumSize(maxSize).expireAfterWrite(ttl).recordStats().buildAsync(), "sgdb.games");
+        this.gridsCache = CaffeineCacheMetrics.monitor(meterRegistry,
+                Caffeine.newBuilder().maximumSize(gridsMaxSize).expireAfterWrite(ttl).recordStats().buildAsync(), "sgdb.grids");
+    }
+
+    //------------------------------------- PUBLIC METHODS -------------------------------------//
+
+    /**
+     * Search game in steam grid db by term.
+     *
+     * @param term The term to search for
+     * @return The games found.
+     */
+    @Override
+    public String searchByTerm(String term) {
+        return searchCache.get(term, delegate::searchByTerm);
+    }
+
+    /**
+     * Get game in steam grid db by steam id, games without match are cached too.
+     *
+     * @param id The steam id to search for
+     * @return The game found, empty if there is no match.
+     */
+    @Override
+    public Mono<SGDBGame> getBySteamId(Long id) {
+        return Mono.fromFuture(() -> gameCache.get(id, (steamId, executor) -> delegate.getBySteamId(steamId)
+                        .map(Optional::of)
+                        .defaultIfEmpty(Optional.empty())
+                        .toFuture()), true)
+                .flatMap(Mono::justOrEmpty);
+    }
+
+    /**
+     * Get game grids in steam grid db by id.
+     *
+     * @param id The id to search for
+     * @return The game grids found.
+     */
+    @Override
+    public Mono<SGDBGridSuccessResponse> getGridsById(Long id) {
+        return Mono.fromFuture(() -> gridsCache.get(id, (sgdbId, executor) -> delegate.getGridsById(sgdbId).toFuture()), true);
+    }
+
+    /**
+     * Preload the grids of the most owned stored games once the application is ready.
+     * <p>
+     * Only the hottest games are preloaded, the rest of the grids cache fills lazily.
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void preloadGrids() {
+        if (!preload) {
+            return;
+        }
+        log.info("[SERVICE] - [SGDB CACHE] - Preloading grids");
+        Mono.fromCallable(() -> gameRepository.findMostOwnedSgdbIds(PageRequest.of(0, Math.min(preloadSize, gridsMaxSize))))
+                .subscribeOn(enrichmentScheduler)
+                .flatMapMany(Flux::fromIterable)
+                .flatMap(sgdbId -> getGridsById(sgdbId).onErrorResume(e -> Mono.empty()), preloadConcurrency)
+                .count()
+                .subscribe(
+                        count -> log.info("[SERVICE] - [SGDB CACHE] - Preloaded grids for {} games", count),
+                        e -> log.error("[SERVICE] - [SGDB CACHE] - Error preloading grids", e));
+    }
+}
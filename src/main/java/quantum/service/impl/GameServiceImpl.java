@@ -6,8 +6,7 @@ import org.hibernate.QueryTimeoutException;
 import org.hibernate.exception.DataException;
 import org.hibernate.exception.JDBCConnectionException;
 import org.springframework.dao.DataIntegrityViolationException;
-import org.springframework.data.domain.Page;
-import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.*;
 import org.springframework.orm.jpa.JpaSystemException;
 import org.springframework.stereotype.Service;
 import quantum.dto.game.GameListResponse;
@@ -19,9 +18,20 @@ import quantum.exceptions.EntityNotFoundException;
 import quantum.mapping.GamesMapping;
 import quantum.model.Game;
 import quantum.repository.GameRepository;
+import quantum.repository.UserGamesRepository;
 import quantum.service.GameService;
+import quantum.service.OwnershipIndexService;
+import quantum.service.UserStatsService;
+import quantum.utils.BacklogStatsDelta;
+import quantum.utils.InLists;
+import quantum.utils.Pageables;
+import quantum.utils.ScrollCursor;
+import quantum.utils.TagDictionary;
 
+import java.util.Collection;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 
 import static quantum.constant.ErrorConstants.DATA_INTEGRITY_ERROR;
@@ -34,8 +44,14 @@ import static quantum.constant.ErrorConstants.DATA_INTEGRITY_ERROR;
 @RequiredArgsConstructor
 public class GameServiceImpl implements GameService {
 
+    private static final Map<String, Class<?>> SCROLL_KEYS = Map.of("id", Long.class, "name", String.class, "sgdbId", Long.class);
+
     private final GameRepository repository;
     private final GamesMapping mapper;
+    private final OwnershipIndexService ownershipIndexService;
+    private final UserGamesRepository userGamesRepository;
+    private final UserStatsService userStatsService;
+    private final TagDictionary tagDictionary;
 
     //------------------------------------- PUBLIC METHODS -------------------------------------//
 
@@ -47,11 +63,11 @@ public class GameServiceImpl implements GameService {
      */
     @Override
     public GameListResponse getGames(Pageable pageable) {
-        Page<Game> result;
+        Slice<Game> result;
 
         try {
             log.info("[SERVICE] - [GAME SEARCH] - Searching games");
-            result = repository.findAll(pageable);
+            result = repository.findAllBy(Pageables.slice(pageable));
         } catch (JpaSystemException | QueryTimeoutException | JDBCConnectionException | DataException ex) {
             throw new DatabaseConnectionException(ex);
         }
@@ -67,6 +83,33 @@ public class GameServiceImpl implements GameService {
                 .build();
     }
 
+    /**
+     * Scroll Games.
+     *
+     * @param cursor   The cursor to continue from, empty to start.
+     * @param pageable The window size and sort.
+     * @return The games and the cursor of the next window.
+     */
+    @Override
+    public GameListResponse scrollGames(String cursor, Pageable pageable) {
+        Sort sort = ScrollCursor.sort(pageable.getSort(), SCROLL_KEYS);
+        KeysetScrollPosition position = ScrollCursor.decode(cursor, sort, SCROLL_KEYS);
+        Window<Game> result;
+
+        try {
+            log.info("[SERVICE] - [GAME SEARCH] - Scrolling games");
+            result = repository.findAllBy(position, sort, ScrollCursor.limit(pageable));
+        } catch (JpaSystemException | QueryTimeoutException | JDBCConnectionException | DataException ex) {
+            throw new DatabaseConnectionException(ex);
+        }
+
+        // Map entity to response and return
+        return GameListResponse.builder()
+                .games(result.stream().map(mapper::map).toList())
+                .nextCursor(ScrollCursor.encode(result))
+                .build();
+    }
+
 
     /**
      * Find a game by id.
@@ -92,6 +135,38 @@ public class GameServiceImpl implements GameService {
         return game.orElse(null);
     }
 
+    /**
+     * Find the games with any of the sgdb ids.
+     *
+     * @param sgdbIds The sgdb ids of the games to find.
+     * @return The games found.
+     */
+    @Override
+    public List<Game> findGamesBySgdbIds(Collection<Long> sgdbIds) {
+        try {
+            log.info("[SERVICE] - [GAME SEARCH] - Searching {} games by sgdb id", sgdbIds.size());
+            return InLists.query(sgdbIds, repository::findBySgdbIdIn);
+        } catch (JpaSystemException | QueryTimeoutException | JDBCConnectionException | DataException ex) {
+            throw new DatabaseConnectionException(ex);
+        }
+    }
+
+    /**
+     * Find the games with any of the ids.
+     *
+     * @param ids The ids of the games to find.
+     * @return The games found.
+     */
+    @Override
+    public List<Game> findGamesByIds(Collection<Long> ids) {
+        try {
+            log.info("[SERVICE] - [GAME SEARCH] - Searching {} games by id", ids.size());
+            return repository.findAllById(ids);
+        } catch (JpaSystemException | QueryTimeoutException | JDBCConnectionException | DataException ex) {
+            throw new DatabaseConnectionException(ex);
+        }
+    }
+
     /**
      * Create a new game.
      *
@@ -106,6 +181,7 @@ public class GameServiceImpl implements GameService {
 
         try {
             log.info("[SERVICE] - [GAME CREATION] - Saving game: {}", newGame);
+            tagDictionary.register(newGame.getTags());
             newGame = repository.save(newGame);
         } catch (DataIntegrityViolationException ex) {
             throw new DatabaseConnectionException(DATA_INTEGRITY_ERROR, ex);
@@ -125,6 +201,7 @@ public class GameServiceImpl implements GameService {
     public void postGames(List<Game> games) {
         try {
             log.info("[SERVICE] - [GAME CREATION] - Saving {} games", games.size());
+            games.forEach(game -> tagDictionary.register(game.getTags()));
             repository.saveAll(games);
         } catch (DataIntegrityViolationException ex) {
             throw new DatabaseConnectionException(DATA_INTEGRITY_ERROR, ex);
@@ -151,6 +228,7 @@ public class GameServiceImpl implements GameService {
 
         try {
             log.info("[SERVICE] - [GAME UPDATE] - Saving game: {}", gameToUpdate);
+            tagDictionary.register(gameToUpdate.getTags());
             gameToUpdate = repository.save(gameToUpdate);
         } catch (JpaSystemException | QueryTimeoutException | JDBCConnectionException | DataException ex) {
             throw new DatabaseConnectionException(ex);
@@ -161,18 +239,25 @@ public class GameServiceImpl implements GameService {
     }
 
     /**
-     * Delete a game.
+     * Delete a game, the user games of its owners are deleted with it and discounted from their stats.
      *
      * @param id the id
      */
     @Override
     public void deleteGame(Long id) {
+        Map<String, BacklogStatsDelta> deltas = new HashMap<>();
         try {
             log.info("[SERVICE] - [GAME DELETE] - Deleting game: {}", id);
-            repository.delete(findGameById(id, false));
+            Game game = findGameById(id, false);
+            userGamesRepository.findByGame_Id(id).forEach(userGame -> deltas
+                    .computeIfAbsent(userGame.getUser().getUsername(), username -> new BacklogStatsDelta())
+                    .remove(userGame));
+            repository.delete(game);
         } catch (JpaSystemException | QueryTimeoutException | JDBCConnectionException | DataException ex) {
             throw new DatabaseConnectionException(ex);
         }
+        deltas.forEach(userStatsService::applyDelta);
+        ownershipIndexService.removeGame(id);
     }
 
     //------------------------------------- PRIVATE METHODS -------------------------------------//
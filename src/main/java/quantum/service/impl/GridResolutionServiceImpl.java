@@ -0,0 +1,123 @@
+package quantum.service.impl;
+
+import com.github.benmanes.caffeine.cache.AsyncCache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import quantum.dto.sgdb.GridResponse;
+import quantum.dto.sgdb.SGDBGrid;
+import quantum.dto.sgdb.SGDBGridSuccessResponse;
+import quantum.service.GridResolutionService;
+import quantum.service.SteamGridDBService;
+import reactor.core.publisher.Mono;
+
+import java.time.Duration;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Objects;
+import java.util.Optional;
+
+/**
+ * Service implementation choosing the grid used as cover of a SGDB game.
+ * <p>
+ * Grids with the preferred dimensions come first, then the preferred styles in order. Ties keep the SGDB order, which
+ * is by score. NSFW grids are skipped unless allowed. Only the chosen grid is cached, games without a suitable grid
+ * are cached too and failed calls are not.
+ */
+@Service
+public class GridResolutionServiceImpl implements GridResolutionService {
+
+    private final SteamGridDBService steamGridDBService;
+    private final AsyncCache<Long, Optional<GridResponse>> gridCache;
+    private final int preferredWidth;
+    private final int preferredHeight;
+    private final List<String> preferredStyles;
+    private final boolean allowNsfw;
+    private final Comparator<SGDBGrid> ranking;
+
+    @Autowired
+    public GridResolutionServiceImpl(SteamGridDBService steamGridDBService,
+                                     MeterRegistry meterRegistry,
+                                     @Value("${sgdb.grids.preferred-width:600}") int preferredWidth,
+                                     @Value("${sgdb.grids.preferred-height:900}") int preferredHeight,
+                                     @Value("${sgdb.grids.preferred-styles:alternate,material}") List<String> preferredStyles,
+                                     @Value("${sgdb.grids.allow-nsfw:false}") boolean allowNsfw,
+                                     @Value("${sgdb.grids.cache.max-size:50000}") int maxSize,
+                                     @Value("${sgdb.grids.cache.ttl:1d}") Duration ttl) {
+        this.steamGridDBService = steamGridDBService;
+        this.preferredWidth = preferredWidth;
+        this.preferredHeight = preferredHeight;
+        this.preferredStyles = preferredStyles;
+        this.allowNsfw = allowNsfw;
+        this.ranking = Comparator.comparing((SGDBGrid grid) -> !hasPreferredSize(grid)).thenComparingInt(this::styleRank);
+        this.gridCache = CaffeineCacheMetrics.monitor(meterRegistry,
+                Caffeine.newBuilder().maximumSize(maxSize).expireAfterWrite(ttl).recordStats().buildAsync(), "sgdb.grid-selection");
+    }
+
+    //------------------------------------- PUBLIC METHODS -------------------------------------//
+
+    /**
+     * Get the best grid of a SGDB game.
+     *
+     * @param sgdbId The SGDB game id.
+     * @return The grid chosen, empty if the game has no suitable grid.
+     */
+    @Override
+    public Mono<GridResponse> getGrid(Long sgdbId) {
+        return Mono.fromFuture(() -> gridCache.get(sgdbId, (id, executor) -> steamGridDBService.getGridsById(id)
+                        .map(grids -> selectGrid(id, grids))
+                        .defaultIfEmpty(Optional.empty())
+                        .toFuture()), true)
+                .flatMap(Mono::justOrEmpty);
+    }
+
+    //------------------------------------- PRIVATE METHODS -------------------------------------//
+
+    /**
+     * Select the best grid of a grids response.
+     *
+     * @param sgdbId The SGDB game id.
+     * @param grids  The grids response.
+     * @return The grid chosen, empty if no grid is suitable.
+     */
+    private Optional<GridResponse> selectGrid(Long sgdbId, SGDBGridSuccessResponse grids) {
+        if (grids.getData() == null) {
+            return Optional.empty();
+        }
+        return grids.getData().stream()
+                .filter(grid -> grid.getUrl() != null)
+                .filter(grid -> allowNsfw || !Boolean.TRUE.equals(grid.getNsfw()))
+                .min(ranking)
+                .map(grid -> GridResponse.builder()
+                        .sgdbId(sgdbId)
+                        .url(grid.getUrl())
+                        .width(grid.getWidth())
+                        .height(grid.getHeight())
+                        .style(grid.getStyle())
+                        .build());
+    }
+
+    /**
+     * Check if a grid has the preferred dimensions.
+     *
+     * @param grid The grid.
+     * @return True if it has the preferred dimensions.
+     */
+    private boolean hasPreferredSize(SGDBGrid grid) {
+        return Objects.equals(grid.getWidth(), preferredWidth) && Objects.equals(grid.getHeight(), preferredHeight);
+    }
+
+    /**
+     * Get the rank of the grid style, styles that are not preferred go last.
+     *
+     * @param grid The grid.
+     * @return The rank.
+     */
+    private int styleRank(SGDBGrid grid) {
+        int rank = preferredStyles.indexOf(grid.getStyle());
+        return rank == -1 ? preferredStyles.size() : rank;
+    }
+}
@@ -0,0 +1,217 @@
+package quantum.service.impl;
+
+import lombok.Getter;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+import quantum.dto.importJob.ImportJobResponse;
+import quantum.dto.importJob.ImportJobStatus;
+import quantum.utils.ImportProgressListener;
+
+import java.io.IOException;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Progress of an import job, updated from the import threads and read by polling and SSE subscribers.
+ */
+@Slf4j
+final class ImportJob implements ImportProgressListener {
+
+    @Getter
+    private final String id;
+    @Getter
+    private final String username;
+    private final Instant createdAt = Instant.now();
+    private final long publishIntervalNanos;
+    private final AtomicInteger appsTotal = new AtomicInteger();
+    private final AtomicInteger appsResolved = new AtomicInteger();
+    private final AtomicInteger gamesSaved = new AtomicInteger();
+    private final AtomicInteger errors = new AtomicInteger();
+    private final AtomicLong lastPublished = new AtomicLong(System.nanoTime());
+    private final List<SseEmitter> emitters = new CopyOnWriteArrayList<>();
+    private volatile ImportJobStatus status = ImportJobStatus.QUEUED;
+    private volatile String message;
+    @Getter
+    private volatile Instant finishedAt;
+
+    ImportJob(String id, String username, Duration publishInterval) {
+        this.id = id;
+        this.username = username;
+        this.publishIntervalNanos = publishInterval.toNanos();
+    }
+
+    //------------------------------------- PROGRESS METHODS -------------------------------------//
+
+    @Override
+    public void appsFound(int apps) {
+        appsTotal.set(apps);
+        publish(true);
+    }
+
+    @Override
+    public void appResolved() {
+        appsResolved.incrementAndGet();
+        publish(false);
+    }
+
+    @Override
+    public void appFailed(Long appId, Throwable error) {
+        log.warn("[SERVICE] - [IMPORT JOB] - Job {} skipped app {}: {}", id, appId, error.getMessage());
+        errors.incrementAndGet();
+        publish(false);
+    }
+
+    /**
+     * Count saved games.
+     *
+     * @param games The number of games saved.
+     */
+    void gamesSaved(int games) {
+        gamesSaved.addAndGet(games);
+        publish(false);
+    }
+
+    /**
+     * Count games that could not be saved.
+     *
+     * @param games The number of games.
+     * @param error The error.
+     */
+    void gamesFailed(int games, Throwable error) {
+        log.warn("[SERVICE] - [IMPORT JOB] - Job {} could not save {} games: {}", id, games, error.getMessage());
+        errors.addAndGet(games);
+        publish(false);
+    }
+
+    /**
+     * Move the job to a new status.
+     *
+     * @param newStatus The status.
+     */
+    void status(ImportJobStatus newStatus) {
+        status = newStatus;
+        publish(true);
+    }
+
+    /**
+     * Finish the job successfully.
+     */
+    void complete() {
+        finish(ImportJobStatus.COMPLETED, null);
+    }
+
+    /**
+     * Finish the job with an error.
+     *
+     * @param error The error.
+     */
+    void fail(Throwable error) {
+        log.error("[SERVICE] - [IMPORT JOB] - Job {} failed", id, error);
+        errors.incrementAndGet();
+        finish(ImportJobStatus.FAILED, error.getMessage());
+    }
+
+    /**
+     * Check if the job is finished.
+     *
+     * @return Whether the job is finished.
+     */
+    boolean isFinished() {
+        return finishedAt != null;
+    }
+
+    //------------------------------------- SUBSCRIBER METHODS -------------------------------------//
+
+    /**
+     * Add a SSE subscriber, it gets the current progress right away.
+     *
+     * @param emitter The emitter.
+     */
+    void subscribe(SseEmitter emitter) {
+        emitters.add(emitter);
+        emitter.onCompletion(() -> emitters.remove(emitter));
+        emitter.onTimeout(() -> emitters.remove(emitter));
+        emitter.onError(e -> emitters.remove(emitter));
+        send(emitter, toResponse());
+        if (isFinished() && emitters.remove(emitter)) {
+            emitter.complete();
+        }
+    }
+
+    /**
+     * Map the job to its response.
+     *
+     * @return The response.
+     */
+    ImportJobResponse toResponse() {
+        return ImportJobResponse.builder()
+                .id(id)
+                .status(status)
+                .appsTotal(appsTotal.get())
+                .appsResolved(appsResolved.get())
+                .gamesSaved(gamesSaved.get())
+                .errors(errors.get())
+                .message(message)
+                .createdAt(createdAt)
+                .finishedAt(finishedAt)
+                .build();
+    }
+
+    //------------------------------------- PRIVATE METHODS -------------------------------------//
+
+    /**
+     * Finish the job, send the last progress and close the subscribers.
+     *
+     * @param finalStatus The final status.
+     * @param error       The error message.
+     */
+    private void finish(ImportJobStatus finalStatus, String error) {
+        status = finalStatus;
+        message = error;
+        finishedAt = Instant.now();
+        ImportJobResponse response = toResponse();
+        for (SseEmitter emitter : emitters) {
+            if (emitters.remove(emitter)) {
+                send(emitter, response);
+                emitter.complete();
+            }
+        }
+    }
+
+    /**
+     * Send the progress to the subscribers, at most once per publish interval unless forced.
+     *
+     * @param force Whether to skip the interval.
+     */
+    private void publish(boolean force) {
+        if (emitters.isEmpty()) {
+            return;
+        }
+        long now = System.nanoTime();
+        long last = lastPublished.get();
+        if (!force && (now - last < publishIntervalNanos || !lastPublished.compareAndSet(last, now))) {
+            return;
+        }
+        lastPublished.set(now);
+        ImportJobResponse response = toResponse();
+        emitters.forEach(emitter -> send(emitter, response));
+    }
+
+    /**
+     * Send the progress to a subscriber, dropping it if the connection is gone.
+     *
+     * @param emitter  The emitter.
+     * @param response The progress.
+     */
+    private void send(SseEmitter emitter, ImportJobResponse response) {
+        try {
+            emitter.send(SseEmitter.event().name("progress").data(response));
+        } catch (IOException | IllegalStateException e) {
+            emitters.remove(emitter);
+        }
+    }
+}
@@ -0,0 +1,345 @@
+package quantum.service.impl;
+
+import com.fasterxml.jackson.databind.JsonMappingException;
+import com.fasterxml.jackson.databind.MappingIterator;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.task.TaskExecutor;
+import org.springframework.core.task.TaskRejectedException;
+import org.springframework.http.HttpStatus;
+import org.springframework.stereotype.Service;
+import org.springframework.web.multipart.MultipartFile;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+import quantum.dto.importJob.ImportJobResponse;
+import quantum.dto.importJob.ImportJobStatus;
+import quantum.dto.steam.SteamGame;
+import quantum.dto.userGames.UserGamesListResponse;
+import quantum.dto.userGames.steamImport.UserGameImport;
+import quantum.dto.userGames.steamImport.UserGamesImportList;
+import quantum.exceptions.EntityNotFoundException;
+import quantum.exceptions.QuantumLibraryGenericException;
+import quantum.service.ImportJobService;
+import quantum.service.SteamService;
+import quantum.service.SteamSyncService;
+import quantum.service.UserGamesService;
+import quantum.utils.ImportFileFormat;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Service implementation for asynchronous import jobs.
+ * <p>
+ * Jobs run on the import executor and are kept in memory until the retention time after they finish. Files are read
+ * row by row and saved in chunks, so only one chunk of a file is held in memory at a time.
+ */
+@Slf4j
+@Service
+public class ImportJobServiceImpl implements ImportJobService {
+
+    private final SteamService steamService;
+    private final SteamSyncService steamSyncService;
+    private final UserGamesService userGamesService;
+    private final TaskExecutor importExecutor;
+    private final Map<String, ImportJob> jobs = new ConcurrentHashMap<>();
+
+    @Value("${import.job.chunk-size:250}")
+    private int chunkSize = 250;
+
+    @Value("${import.job.retention:1h}")
+    private Duration retention = Duration.ofHours(1);
+
+    @Value("${import.job.sse-timeout:30m}")
+    private Duration sseTimeout = Duration.ofMinutes(30);
+
+    @Value("${import.job.publish-interval:500ms}")
+    private Duration publishInterval = Duration.ofMillis(500);
+
+    @Autowired
+    public ImportJobServiceImpl(SteamService steamService,
+                                SteamSyncService steamSyncService,
+                                UserGamesService userGamesService,
+                                @Qualifier("importExecutor") TaskExecutor importExecutor) {
+        this.steamService = steamService;
+        this.steamSyncService = steamSyncService;
+        this.userGamesService = userGamesService;
+        this.importExecutor = importExecutor;
+    }
+
+    //------------------------------------- PUBLIC METHODS -------------------------------------//
+
+    /**
+     * Start a job that resolves the steam games of a user and imports them.
+     *
+     * @param username The username.
+     * @param steamId  The steam id to import from.
+     * @return The job created.
+     */
+    @Override
+    public ImportJobResponse startSteamImport(String username, String steamId) {
+        ImportJob job = newJob(username);
+        log.info("[SERVICE] - [IMPORT JOB] - Starting steam import job {} for user {}", job.getId(), username);
+        return submit(job, () -> {
+            job.status(ImportJobStatus.RESOLVING);
+            UserGamesImportList games = steamService.getGames(steamId, job).block();
+            save(job, username, games == null ? List.of() : games.getGames());
+        });
+    }
+
+    /**
+     * Start a job that syncs the steam games of a user, only games new to the library are resolved and imported.
+     *
+     * @param username The username.
+     * @param steamId  The steam id to sync from.
+     * @return The job created.
+     */
+    @Override
+    public ImportJobResponse startSteamSync(String username, String steamId) {
+        ImportJob job = newJob(username);
+        log.info("[SERVICE] - [IMPORT JOB] - Starting steam sync job {} for user {}", job.getId(), username);
+        return submit(job, () -> {
+            job.status(ImportJobStatus.RESOLVING);
+            List<SteamGame> newGames = steamSyncService.syncOwnedGames(username, steamId, job);
+            UserGamesImportList games = newGames.isEmpty() ? null : steamService.resolveGames(newGames, job).block();
+            save(job, username, games == null ? List.of() : games.getGames());
+        });
+    }
+
+    /**
+     * Start a job that imports a list of games.
+     *
+     * @param username The username.
+     * @param body     The games to import.
+     * @return The job created.
+     */
+    @Override
+    public ImportJobResponse startImport(String username, UserGamesImportList body) {
+        ImportJob job = newJob(username);
+        List<UserGameImport> games = body.getGames() == null ? List.of() : body.getGames();
+        log.info("[SERVICE] - [IMPORT JOB] - Starting import job {} with {} games for user {}", job.getId(), games.size(), username);
+        return submit(job, () -> {
+            job.appsFound(games.size());
+            save(job, username, games);
+        });
+    }
+
+    /**
+     * Start a job that imports the games of a NDJSON or CSV file.
+     * <p>
+     * The upload is copied to a temporary file first, the multipart files are deleted when the request ends. Rows
+     * that can not be mapped are counted as errors and the import goes on.
+     *
+     * @param username The username.
+     * @param file     The file to import.
+     * @return The job created.
+     */
+    @Override
+    public ImportJobResponse startFileImport(String username, MultipartFile file) {
+        ImportFileFormat format = ImportFileFormat.of(file.getOriginalFilename(), file.getContentType());
+        Path path;
+        try {
+            path = Files.createTempFile("library-import-", "." + format.name().toLowerCase());
+            file.transferTo(path);
+        } catch (IOException e) {
+            throw new QuantumLibraryGenericException("Error reading import file", e.getMessage(), HttpStatus.BAD_REQUEST);
+        }
+
+        ImportJob job = newJob(username);
+        log.info("[SERVICE] - [IMPORT JOB] - Starting {} file import job {} of {} bytes for user {}", format, job.getId(), file.getSize(), username);
+        try {
+            return submit(job, () -> {
+                try {
+                    saveFile(job, username, format, path);
+                } finally {
+                    deleteFile(path);
+                }
+            });
+        } catch (QuantumLibraryGenericException e) {
+            deleteFile(path);
+            throw e;
+        }
+    }
+
+    /**
+     * Get the progress of a job.
+     *
+     * @param username The username.
+     * @param jobId    The job id.
+     * @return The job found.
+     */
+    @Override
+    public ImportJobResponse getJob(String username, String jobId) {
+        return findJob(username, jobId).toResponse();
+    }
+
+    /**
+     * Stream the progress of a job.
+     *
+     * @param username The username.
+     * @param jobId    The job id.
+     * @return The emitter sending the progress events.
+     */
+    @Override
+    public SseEmitter streamJob(String username, String jobId) {
+        ImportJob job = findJob(username, jobId);
+        SseEmitter emitter = new SseEmitter(sseTimeout.toMillis());
+        job.subscribe(emitter);
+        return emitter;
+    }
+
+    //------------------------------------- PRIVATE METHODS -------------------------------------//
+
+    /**
+     * Register a new job, dropping the expired ones.
+     *
+     * @param username The username.
+     * @return The job.
+     */
+    private ImportJob newJob(String username) {
+        Instant expiredBefore = Instant.now().minus(retention);
+        jobs.values().removeIf(job -> job.isFinished() && job.getFinishedAt().isBefore(expiredBefore));
+
+        ImportJob job = new ImportJob(UUID.randomUUID().toString(), username, publishInterval);
+        jobs.put(job.getId(), job);
+        return job;
+    }
+
+    /**
+     * Run a job on the import executor.
+     *
+     * @param job  The job.
+     * @param task The job work.
+     * @return The job state at submission.
+     */
+    private ImportJobResponse submit(ImportJob job, Runnable task) {
+        try {
+            importExecutor.execute(() -> {
+                try {
+                    task.run();
+                    job.complete();
+                } catch (RuntimeException e) {
+                    job.fail(e);
+                }
+            });
+        } catch (TaskRejectedException e) {
+            jobs.remove(job.getId());
+            throw new QuantumLibraryGenericException("Import rejected", "Too many imports running, try again later", HttpStatus.SERVICE_UNAVAILABLE);
+        }
+        return job.toResponse();
+    }
+
+    /**
+     * Save the games in chunks, a failed chunk is counted as errors and the import goes on.
+     *
+     * @param job      The job.
+     * @param username The username.
+     * @param games    The games to save.
+     */
+    private void save(ImportJob job, String username, List<UserGameImport> games) {
+        job.status(ImportJobStatus.SAVING);
+        for (int from = 0; from < games.size(); from += chunkSize) {
+            saveChunk(job, username, games.subList(from, Math.min(from + chunkSize, games.size())));
+        }
+    }
+
+    /**
+     * Read the rows of a file and save them in chunks, the total of the job grows with each chunk read.
+     * <p>
+     * Rows that can not be read or have no sgdb id are counted as errors, rows without tags are imported without tags.
+     *
+     * @param job      The job.
+     * @param username The username.
+     * @param format   The file format.
+     * @param path     The file.
+     */
+    private void saveFile(ImportJob job, String username, ImportFileFormat format, Path path) {
+        job.status(ImportJobStatus.SAVING);
+        List<UserGameImport> chunk = new ArrayList<>(chunkSize);
+        int rows = 0;
+        try (InputStream inputStream = Files.newInputStream(path);
+             MappingIterator<UserGameImport> iterator = format.read(inputStream)) {
+            while (iterator.hasNextValue()) {
+                rows++;
+                UserGameImport game;
+                try {
+                    game = iterator.nextValue();
+                } catch (JsonMappingException e) {
+                    job.gamesFailed(1, e);
+                    continue;
+                }
+                // Rows are keyed by sgdb id, rows without it can not be imported
+                if (game.getSgdbId() == null) {
+                    job.gamesFailed(1, new IllegalArgumentException("Row " + rows + " has no sgdbId"));
+                    continue;
+                }
+                if (game.getTags() == null) game.setTags(List.of());
+                chunk.add(game);
+                if (chunk.size() == chunkSize) {
+                    job.appsFound(rows);
+                    saveChunk(job, username, chunk);
+                    chunk = new ArrayList<>(chunkSize);
+                }
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        job.appsFound(rows);
+        if (!chunk.isEmpty()) saveChunk(job, username, chunk);
+    }
+
+    /**
+     * Save a chunk of games, a failed chunk is counted as errors.
+     *
+     * @param job      The job.
+     * @param username The username.
+     * @param chunk    The games to save.
+     */
+    private void saveChunk(ImportJob job, String username, List<UserGameImport> chunk) {
+        try {
+            UserGamesListResponse saved = userGamesService.importUserGames(username, new UserGamesImportList(chunk));
+            job.gamesSaved(saved.getGames().size());
+        } catch (RuntimeException e) {
+            job.gamesFailed(chunk.size(), e);
+        }
+    }
+
+    /**
+     * Delete a temporary import file.
+     *
+     * @param path The file.
+     */
+    private void deleteFile(Path path) {
+        try {
+            Files.deleteIfExists(path);
+        } catch (IOException e) {
+            log.warn("[SERVICE] - [IMPORT JOB] - Could not delete import file {}", path, e);
+        }
+    }
+
+    /**
+     * Find a job of a user.
+     *
+     * @param username The username.
+     * @param jobId    The job id.
+     * @return The job.
+     */
+    private ImportJob findJob(String username, String jobId) {
+        ImportJob job = jobs.get(jobId);
+        if (job == null || !job.getUsername().equals(username)) {
+            throw new EntityNotFoundException("Import job not found");
+        }
+        return job;
+    }
+}
@@ -0,0 +1,312 @@
+package quantum.service.impl;
+
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.roaringbitmap.FastAggregation;
+import org.roaringbitmap.RoaringBitmap;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.dao.DataAccessException;
+import org.springframework.stereotype.Service;
+import quantum.model.UserGame;
+import quantum.repository.UserGamesRepository;
+import quantum.repository.projections.OwnershipProjection;
+import quantum.service.OwnershipIndexService;
+
+import java.util.*;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+import static quantum.constant.GameConstants.ONLINE_TAGS;
+
+/**
+ * Service implementation for the in memory index of the online games owned by each user.
+ * <p>
+ * Ownership is kept as compressed bitmaps of game ids per user and of user ids per game, built from the user games
+ * when the application is ready and kept current by the user games write paths. Until the index is built, or if an
+ * id does not fit in a bitmap, queries return empty and callers fall back to the database.
+ */
+@Slf4j
+@Service
+public class OwnershipIndexServiceImpl implements OwnershipIndexService {
+
+    private final UserGamesRepository repository;
+    private final Map<Integer, RoaringBitmap> gamesByUser = new HashMap<>();
+    private final Map<Integer, RoaringBitmap> ownersByGame = new HashMap<>();
+    private final ReadWriteLock lock = new ReentrantReadWriteLock();
+    private volatile boolean ready;
+
+    @Value("${ownership.index.enabled:true}")
+    private boolean enabled = true;
+
+    public OwnershipIndexServiceImpl(UserGamesRepository repository, MeterRegistry meterRegistry) {
+        this.repository = repository;
+        Gauge.builder("ownership.index.size", this, OwnershipIndexServiceImpl::sizeInBytes)
+                .baseUnit("bytes")
+                .description("Memory used by the ownership bitmaps")
+                .register(meterRegistry);
+        Gauge.builder("ownership.index.users", this, index -> index.count(index.gamesByUser)).register(meterRegistry);
+        Gauge.builder("ownership.index.games", this, index -> index.count(index.ownersByGame)).register(meterRegistry);
+    }
+
+    //------------------------------------- PUBLIC METHODS -------------------------------------//
+
+    /**
+     * Build the index from the user games. Writes wait until the build finishes, so none is lost.
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void build() {
+        if (!enabled) return;
+        lock.writeLock().lock();
+        try {
+            long startTime = System.currentTimeMillis();
+            clear();
+            for (OwnershipProjection ownership : repository.findOwnershipsByTagsIn(ONLINE_TAGS)) {
+                add(toInt(ownership.getUserId()), toInt(ownership.getGameId()));
+            }
+            gamesByUser.values().forEach(RoaringBitmap::runOptimize);
+            ownersByGame.values().forEach(RoaringBitmap::runOptimize);
+            ready = true;
+            log.info("[SERVICE] - [OWNERSHIP INDEX] - Indexed {} users and {} games in {} ms, using {} bytes",
+                    gamesByUser.size(), ownersByGame.size(), System.currentTimeMillis() - startTime, sizeInBytes());
+        } catch (DataAccessException | ArithmeticException e) {
+            disable(e);
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * Find the games owned by every user.
+     *
+     * @param userIds The user ids.
+     * @return The game ids, empty if the index can not answer.
+     */
+    @Override
+    public Optional<List<Long>> findCommonGameIds(Collection<Long> userIds) {
+        if (!ready || userIds.isEmpty() || userIds.stream().anyMatch(Objects::isNull)) return Optional.empty();
+        lock.readLock().lock();
+        try {
+            if (!ready) return Optional.empty();
+            List<RoaringBitmap> bitmaps = new ArrayList<>(userIds.size());
+            for (Long userId : userIds) {
+                RoaringBitmap games = userId > Integer.MAX_VALUE ? null : gamesByUser.get(userId.intValue());
+                if (games == null) return Optional.of(List.of());
+                bitmaps.add(games);
+            }
+            return Optional.of(toIds(FastAggregation.and(bitmaps.iterator())));
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * Find the users that own a game.
+     *
+     * @param gameId The game id.
+     * @return The user ids, empty if the index can not answer.
+     */
+    @Override
+    public Optional<List<Long>> findOwnerIds(Long gameId) {
+        if (!ready || gameId == null) return Optional.empty();
+        lock.readLock().lock();
+        try {
+            if (!ready) return Optional.empty();
+            RoaringBitmap owners = gameId > Integer.MAX_VALUE ? null : ownersByGame.get(gameId.intValue());
+            return Optional.of(owners == null ? List.of() : toIds(owners));
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * Index a created or updated user game, the game is owned while the user game has an online tag.
+     *
+     * @param userGame The user game.
+     */
+    @Override
+    public void update(UserGame userGame) {
+        boolean online = userGame.getTags() != null && userGame.getTags().stream().anyMatch(ONLINE_TAGS::contains);
+        write(userGame, online);
+    }
+
+    /**
+     * Remove a deleted user game from the index.
+     *
+     * @param userGame The user game.
+     */
+    @Override
+    public void remove(UserGame userGame) {
+        write(userGame, false);
+    }
+
+    /**
+     * Remove a deleted user from the index.
+     *
+     * @param userId The user id.
+     */
+    @Override
+    public void removeUser(Long userId) {
+        removeAll(userId, gamesByUser, ownersByGame);
+    }
+
+    /**
+     * Remove a deleted game from the index.
+     *
+     * @param gameId The game id.
+     */
+    @Override
+    public void removeGame(Long gameId) {
+        removeAll(gameId, ownersByGame, gamesByUser);
+    }
+
+    //------------------------------------- PRIVATE METHODS -------------------------------------//
+
+    /**
+     * Set whether the user of a user game owns its game.
+     *
+     * @param userGame The user game.
+     * @param owned    Whether the game is owned.
+     */
+    private void write(UserGame userGame, boolean owned) {
+        if (userGame.getUser() == null || userGame.getUser().getId() == null
+                || userGame.getGame() == null || userGame.getGame().getId() == null) return;
+        lock.writeLock().lock();
+        try {
+            if (!ready) return;
+            int userId = toInt(userGame.getUser().getId());
+            int gameId = toInt(userGame.getGame().getId());
+            if (owned) {
+                add(userId, gameId);
+            } else {
+                removeFrom(gamesByUser, userId, gameId);
+                removeFrom(ownersByGame, gameId, userId);
+            }
+        } catch (ArithmeticException e) {
+            disable(e);
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * Remove an id from one side of the index and from the bitmaps of the other side.
+     *
+     * @param id     The id.
+     * @param byId   The bitmaps of the id side.
+     * @param others The bitmaps of the other side.
+     */
+    private void removeAll(Long id, Map<Integer, RoaringBitmap> byId, Map<Integer, RoaringBitmap> others) {
+        if (id == null || id > Integer.MAX_VALUE) return;
+        lock.writeLock().lock();
+        try {
+            RoaringBitmap removed = byId.remove(id.intValue());
+            if (removed != null) {
+                removed.forEach((int other) -> removeFrom(others, other, id.intValue()));
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * Add an ownership.
+     *
+     * @param userId The user id.
+     * @param gameId The game id.
+     */
+    private void add(int userId, int gameId) {
+        gamesByUser.computeIfAbsent(userId, key -> new RoaringBitmap()).add(gameId);
+        ownersByGame.computeIfAbsent(gameId, key -> new RoaringBitmap()).add(userId);
+    }
+
+    /**
+     * Remove a value from a bitmap, dropping the bitmap once empty.
+     *
+     * @param bitmaps The bitmaps.
+     * @param key     The bitmap key.
+     * @param value   The value to remove.
+     */
+    private void removeFrom(Map<Integer, RoaringBitmap> bitmaps, int key, int value) {
+        RoaringBitmap bitmap = bitmaps.get(key);
+        if (bitmap == null) return;
+        bitmap.remove(value);
+        if (bitmap.isEmpty()) bitmaps.remove(key);
+    }
+
+    /**
+     * Stop answering queries, until the next build.
+     *
+     * @param e The cause.
+     */
+    private void disable(Exception e) {
+        ready = false;
+        clear();
+        log.warn("[SERVICE] - [OWNERSHIP INDEX] - Index disabled, falling back to the database: {}", e.getMessage());
+    }
+
+    /**
+     * Clear the bitmaps.
+     */
+    private void clear() {
+        gamesByUser.clear();
+        ownersByGame.clear();
+    }
+
+    /**
+     * Get the memory used by the bitmaps.
+     *
+     * @return The size in bytes.
+     */
+    private double sizeInBytes() {
+        lock.readLock().lock();
+        try {
+            long size = 0;
+            for (RoaringBitmap bitmap : gamesByUser.values()) size += bitmap.getLongSizeInBytes();
+            for (RoaringBitmap bitmap : ownersByGame.values()) size += bitmap.getLongSizeInBytes();
+            return size;
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * Get the number of bitmaps of one side of the index.
+     *
+     * @param bitmaps The bitmaps.
+     * @return The number of bitmaps.
+     */
+    private double count(Map<Integer, RoaringBitmap> bitmaps) {
+        lock.readLock().lock();
+        try {
+            return bitmaps.size();
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * Convert an id to a bitmap value.
+     *
+     * @param id The id.
+     * @return The bitmap value.
+     * @throws ArithmeticException if the id does not fit.
+     */
+    private static int toInt(Long id) {
+        return Math.toIntExact(id);
+    }
+
+    /**
+     * Convert a bitmap to ids.
+     *
+     * @param bitmap The bitmap.
+     * @return The ids.
+     */
+    private static List<Long> toIds(RoaringBitmap bitmap) {
+        List<Long> ids = new ArrayList<>(bitmap.getCardinality());
+        bitmap.forEach((int id) -> ids.add((long) id));
+        return ids;
+    }
+}
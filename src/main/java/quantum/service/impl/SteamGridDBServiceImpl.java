@@ -1,16 +1,18 @@
 package quantum.service.impl;
 
-import com.fasterxml.jackson.databind.ObjectMapper;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.codec.CodecException;
 import org.springframework.stereotype.Service;
 import org.springframework.web.reactive.function.client.WebClient;
 import org.springframework.web.reactive.function.client.WebClientResponseException;
 import quantum.dto.sgdb.SGDBGame;
 import quantum.dto.sgdb.SGDBGameSuccessResponse;
+import quantum.dto.sgdb.SGDBGridSuccessResponse;
 import quantum.service.SteamGridDBService;
+import reactor.core.publisher.Mono;
 
 /**
  * Service implementation for Steam Grid DB API.
@@ -20,7 +22,6 @@ import quantum.service.SteamGridDBService;
 @RequiredArgsConstructor
 public class SteamGridDBServiceImpl implements SteamGridDBService {
 
-    private final ObjectMapper objectMapper = new ObjectMapper();
     private static final String EXTERNAL_API_URL = "https://www.steamgriddb.com/api/v2/";
     private final WebClient webClient;
 
@@ -42,7 +43,7 @@ public class SteamGridDBServiceImpl implements SteamGridDBService {
      */
     @Override
     public String searchByTerm(String term) {
-        String apiUrl = EXTERNAL_API_URL + "search/autocomplete/" + term;
+        String apiUrl = "search/autocomplete/" + term;
         String response = webClient.get()
                 .uri(apiUrl)
                 .header("Authorization", "Bearer " + key)
@@ -61,26 +62,19 @@ public class SteamGridDBServiceImpl implements SteamGridDBService {
      * Get game in steam grid db by id.
      *
      * @param id The id to search for
-     * @return The game found.
+     * @return The game found, empty if there is no match.
      */
     @Override
-    public SGDBGame getBySteamId(Long id) {
-        String apiUrl = EXTERNAL_API_URL + "games/steam/" + id;
-        try {
-            String response = webClient.get()
-                    .uri(apiUrl)
-                    .header("Authorization", "Bearer " + key)
-                    .retrieve()
-                    .bodyToMono(String.class)
-                    .block();
-            try {
-                return objectMapper.readValue(response, SGDBGameSuccessResponse.class).getData();
-            } catch (Exception e) {
-                return null;
-            }
-        } catch (WebClientResponseException.NotFound ex) {
-            return null;
-        }
+    public Mono<SGDBGame> getBySteamId(Long id) {
+        String apiUrl = "games/steam/" + id;
+        return webClient.get()
+                .uri(apiUrl)
+                .header("Authorization", "Bearer " + key)
+                .retrieve()
+                .bodyToMono(SGDBGameSuccessResponse.class)
+                .mapNotNull(SGDBGameSuccessResponse::getData)
+                .onErrorResume(CodecException.class, e -> Mono.empty())
+                .onErrorResume(WebClientResponseException.NotFound.class, ex -> Mono.empty());
     }
 
     /**
@@ -90,13 +84,12 @@ public class SteamGridDBServiceImpl implements SteamGridDBService {
      * @return The game grids found.
      */
     @Override
-    public String getGridsById(Long id) {
-        String apiUrl = EXTERNAL_API_URL + "grids/game/" + id;
+    public Mono<SGDBGridSuccessResponse> getGridsById(Long id) {
+        String apiUrl = "grids/game/" + id;
         return webClient.get()
                 .uri(apiUrl)
                 .header("Authorization", "Bearer " + key)
                 .retrieve()
-                .bodyToMono(String.class)
-                .block();
+                .bodyToMono(SGDBGridSuccessResponse.class);
     }
 }
\ No newline at end of file
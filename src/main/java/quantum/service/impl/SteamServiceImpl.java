@@ -1,30 +1,31 @@
 package quantum.service.impl;
 
-import com.fasterxml.jackson.core.JsonProcessingException;
-import com.fasterxml.jackson.databind.ObjectMapper;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.codec.CodecException;
 import org.springframework.http.HttpStatus;
 import org.springframework.stereotype.Service;
 import org.springframework.web.reactive.function.client.WebClient;
-import quantum.dto.sgdb.SGDBGame;
-import quantum.dto.sgdb.SGDBGameSuccessResponse;
-import quantum.dto.sgdb.SGDBGrid;
-import quantum.dto.sgdb.SGDBGridSuccessResponse;
+import quantum.dto.sgdb.GridResponse;
+import quantum.dto.steam.SteamGame;
 import quantum.dto.steam.SteamResponse;
 import quantum.dto.steamSpy.SteamSpyGame;
 import quantum.dto.userGames.steamImport.UserGameImport;
 import quantum.dto.userGames.steamImport.UserGamesImportList;
 import quantum.exceptions.QuantumLibraryGenericException;
+import quantum.service.GridResolutionService;
 import quantum.service.SteamGridDBService;
 import quantum.service.SteamService;
 import quantum.service.SteamSpyService;
+import quantum.utils.ImportCollector;
+import quantum.utils.ImportProgressListener;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
 
 import java.util.ArrayList;
 import java.util.List;
-import java.util.Optional;
 
 /**
  * Service implementation for Steam API.
@@ -37,16 +38,29 @@ public class SteamServiceImpl implements SteamService {
     private static final String EXTERNAL_API_URL = "http://api.steampowered.com/";
     private final SteamGridDBService steamGridBDService;
     private final SteamSpyService steamSpyService;
+    private final GridResolutionService gridResolutionService;
     private final WebClient webClient;
-    private final ObjectMapper objectMapper = new ObjectMapper();
 
     @Value("${steam.api.key}")
     private String key;
 
+    @Value("${steam.import.steamspy-concurrency:4}")
+    private int steamSpyConcurrency = 4;
+
+    @Value("${steam.import.sgdb-concurrency:16}")
+    private int sgdbConcurrency = 16;
+
+    @Value("${steam.import.keep-order:true}")
+    private boolean keepOrder = true;
+
     @Autowired
-    public SteamServiceImpl(SteamGridDBService steamGridBDService, SteamSpyService steamSpyService, WebClient.Builder webClientBuilder) {
+    public SteamServiceImpl(SteamGridDBService steamGridBDService,
+                            SteamSpyService steamSpyService,
+                            GridResolutionService gridResolutionService,
+                            WebClient.Builder webClientBuilder) {
         this.steamGridBDService = steamGridBDService;
         this.steamSpyService = steamSpyService;
+        this.gridResolutionService = gridResolutionService;
         this.webClient = webClientBuilder.baseUrl(EXTERNAL_API_URL).build();
     }
 
@@ -60,7 +74,7 @@ public class SteamServiceImpl implements SteamService {
      */
     @Override
     public String getUser(String steamId) {
-        String apiUrl = EXTERNAL_API_URL + "ISteamUser/GetPlayerSummaries/v0002/?key=" + key + "&steamids=" + steamId;
+        String apiUrl = "ISteamUser/GetPlayerSummaries/v0002/?key=" + key + "&steamids=" + steamId;
         String response = webClient.get()
                 .uri(apiUrl)
                 .retrieve()
@@ -76,74 +90,148 @@ public class SteamServiceImpl implements SteamService {
 
     /**
      * Get steam games.
+     * <p>
+     * The owned games are enriched with a non-blocking pipeline, each upstream has its own concurrency limit so a
+     * large library never holds more than {@code steamSpyConcurrency + sgdbConcurrency} requests in flight.
      *
      * @param steamId The steam id to search for
      * @return The games found.
      */
     @Override
-    public UserGamesImportList getGames(String steamId) {
-        String apiUrl = EXTERNAL_API_URL + "IPlayerService/GetOwnedGames/v0001/?key=" + key + "&steamid=" + steamId;
-        String response = webClient.get()
+    public Mono<UserGamesImportList> getGames(String steamId) {
+        return getGames(steamId, ImportProgressListener.NONE);
+    }
+
+    /**
+     * Get steam games reporting the progress.
+     *
+     * @param steamId  The steam id to search for
+     * @param listener The progress listener.
+     * @return The games found.
+     */
+    @Override
+    public Mono<UserGamesImportList> getGames(String steamId, ImportProgressListener listener) {
+        return getOwnedGames(steamId)
+                .doOnNext(games -> listener.appsFound(games.size()))
+                .flatMap(games -> resolveGames(games, listener));
+    }
+
+    /**
+     * Get the owned games of a steam user, without enrichment.
+     * <p>
+     * The body is decoded straight from the response buffers, unknown fields of the games are skipped.
+     *
+     * @param steamId The steam id to search for
+     * @return The owned games.
+     */
+    @Override
+    public Mono<List<SteamGame>> getOwnedGames(String steamId) {
+        String apiUrl = "IPlayerService/GetOwnedGames/v0001/?key=" + key + "&steamid=" + steamId;
+        return webClient.get()
                 .uri(apiUrl)
                 .retrieve()
-                .bodyToMono(String.class)
-                .block();
-
-        List<UserGameImport> userGames = new ArrayList<>();
-
-        try {
-
-            SteamResponse steamResponse = objectMapper.readValue(response, SteamResponse.class);
-
-            steamResponse.getResponse().getGames().stream().parallel().forEach(game -> {
-                SteamSpyGame steamSpyGame = steamSpyService.getSteamSpyInfo(game.getAppId());
-                if (steamSpyGame == null) {
-                    return;
-                }
-                SGDBGame sgdbGame = steamGridBDService.getBySteamId(game.getAppId());
-                String imageUrl = "https://cdn.cloudflare.steamstatic.com/steam/apps/" + game.getAppId() + "/library_600x900.jpg";
-                if (sgdbGame != null) {
-                    List<SGDBGrid> sgdbGrids = getSGDBGrids(sgdbGame.getId());
-                    if (!sgdbGrids.isEmpty()) {
-                        Optional<SGDBGrid> sgdbGrid = sgdbGrids.stream().filter(e -> e.getWidth() == 600 && e.getHeight() == 900).findFirst();
-                        imageUrl = sgdbGrid.orElse(sgdbGrids.getFirst()).getUrl();
-                    }
-                }
-                assert sgdbGame != null;
-                UserGameImport newUserGame = UserGameImport.builder()
-                        .name(steamSpyGame.getName())
-                        .timePlayed(game.getPlaytime())
-                        .image(imageUrl)
-                        .sgdbId(sgdbGame.getId())
-                        .tags(steamSpyGame.getTags().keySet().stream().toList())
-                        .build();
-                userGames.add(newUserGame);
-            });
-
-        } catch (JsonProcessingException e) {
-            throw new QuantumLibraryGenericException("Error parsing response from steam", e.getLocalizedMessage(), HttpStatus.BAD_REQUEST);
-        }
+                .bodyToMono(SteamResponse.class)
+                .onErrorMap(CodecException.class, e -> new QuantumLibraryGenericException("Error parsing response from steam", e.getLocalizedMessage(), HttpStatus.BAD_REQUEST))
+                .map(this::ownedGames);
+    }
 
-        return UserGamesImportList.builder()
-                .games(userGames)
-                .build();
+    /**
+     * Enrich the owned games with steam spy and SGDB info.
+     *
+     * @param games    The owned games.
+     * @param listener The progress listener.
+     * @return The import list.
+     */
+    @Override
+    public Mono<UserGamesImportList> resolveGames(List<SteamGame> games, ImportProgressListener listener) {
+        ImportCollector<UserGameImport> collector = ImportCollector.of(games.size(), keepOrder);
+        return Flux.fromIterable(games)
+                .index()
+                .flatMap(game -> steamSpyService.getSteamSpyInfo(game.getT2().getAppId())
+                        .map(steamSpyGame -> new ResolvedApp(game.getT1(), game.getT2(), steamSpyGame))
+                        .doOnSuccess(app -> {
+                            if (app == null) listener.appResolved();
+                        })
+                        .onErrorResume(e -> skipFailedApp(game.getT2().getAppId(), e, listener)), steamSpyConcurrency)
+                .flatMap(app -> resolveImport(app)
+                        .doOnNext(userGame -> collector.add(app.index(), userGame))
+                        .doOnSuccess(userGame -> listener.appResolved())
+                        .onErrorResume(e -> skipFailedApp(app.game().getAppId(), e, listener)), sgdbConcurrency)
+                .then(Mono.fromSupplier(() -> UserGamesImportList.builder()
+                        .games(collector.toList())
+                        .build()));
     }
 
     //------------------------------------- PRIVATE METHODS -------------------------------------//
 
     /**
-     * Get steam grid db info and parse it.
+     * Get the owned games of a steam response, private profiles come without games.
      *
-     * @param steamId The steam id to search for
-     * @return The info found.
+     * @param steamResponse The steam response.
+     * @return The owned games.
      */
-    private List<SGDBGrid> getSGDBGrids(Long steamId) {
-        try {
-            String gridResponse = steamGridBDService.getGridsById(steamId);
-            return objectMapper.readValue(gridResponse, SGDBGridSuccessResponse.class).getData();
-        } catch (JsonProcessingException e) {
+    private List<SteamGame> ownedGames(SteamResponse steamResponse) {
+        if (steamResponse.getResponse() == null || steamResponse.getResponse().getGames() == null) {
             return new ArrayList<>();
         }
+        return steamResponse.getResponse().getGames();
+    }
+
+    /**
+     * Report a failed app, the listener decides whether the import goes on without it.
+     *
+     * @param appId    The steam app id.
+     * @param error    The error.
+     * @param listener The progress listener.
+     * @param <T>      The element type.
+     * @return Empty if the app is skipped.
+     */
+    private <T> Mono<T> skipFailedApp(Long appId, Throwable error, ImportProgressListener listener) {
+        return Mono.fromRunnable(() -> listener.appFailed(appId, error));
+    }
+
+    /**
+     * Resolve the SGDB game and grid of a steam app and build the import entry.
+     *
+     * @param app The steam app with its steam spy info.
+     * @return The import entry, empty if the app is not on SGDB.
+     */
+    private Mono<UserGameImport> resolveImport(ResolvedApp app) {
+        Long appId = app.game().getAppId();
+        return steamGridBDService.getBySteamId(appId)
+                .flatMap(sgdbGame -> getImage(appId, sgdbGame.getId())
+                        .map(image -> UserGameImport.builder()
+                                .name(app.steamSpyGame().getName())
+                                .timePlayed(app.game().getPlaytime())
+                                .image(image)
+                                .sgdbId(sgdbGame.getId())
+                                .steamAppId(appId)
+                                .tags(app.steamSpyGame().getTags() == null ? new ArrayList<>() : app.steamSpyGame().getTags().keySet().stream().toList())
+                                .build()));
+    }
+
+    /**
+     * Get the image of a game, the grid chosen on SGDB or the steam library capsule if there is none.
+     *
+     * @param appId  The steam app id.
+     * @param sgdbId The SGDB game id.
+     * @return The image url.
+     */
+    private Mono<String> getImage(Long appId, Long sgdbId) {
+        return gridResolutionService.getGrid(sgdbId)
+                .map(GridResponse::getUrl)
+                .onErrorResume(e -> Mono.empty())
+                .defaultIfEmpty("https://cdn.cloudflare.steamstatic.com/steam/apps/" + appId + "/library_600x900.jpg");
+    }
+
+    /**
+     * Steam app with its steam spy info.
+     *
+     * @param index        The position of the app in the owned games.
+     * @param game         The owned game.
+     * @param steamSpyGame The steam spy info.
+     */
+    private record ResolvedApp(long index, SteamGame game, SteamSpyGame steamSpyGame) {
     }
 
-}
\ No newline at end of file
+}
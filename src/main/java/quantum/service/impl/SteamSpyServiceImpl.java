@@ -1,13 +1,24 @@
 package quantum.service.impl;
 
-import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.MeterRegistry;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.codec.CodecException;
 import org.springframework.stereotype.Service;
 import org.springframework.web.reactive.function.client.WebClient;
 import quantum.dto.steamSpy.SteamSpyGame;
+import quantum.model.SteamSpyCacheEntry;
+import quantum.repository.SteamSpyCacheRepository;
 import quantum.service.SteamSpyService;
+import reactor.core.publisher.Mono;
+import reactor.core.scheduler.Scheduler;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Optional;
 
 /**
  * Service implementation for Steam API.
@@ -18,36 +29,131 @@ import quantum.service.SteamSpyService;
 public class SteamSpyServiceImpl implements SteamSpyService {
 
     private static final String EXTERNAL_API_URL = "https://steamspy.com/api.php";
+    private static final String CACHE_NAME = "steamspy";
     private final WebClient webClient;
-    private final ObjectMapper objectMapper = new ObjectMapper();
+    private final SteamSpyCacheRepository cacheRepository;
+    private final MeterRegistry meterRegistry;
+    private final Scheduler enrichmentScheduler;
+
+    @Value("${steamspy.cache.ttl:30d}")
+    private Duration ttl = Duration.ofDays(30);
+
+    @Value("${steamspy.cache.negative-ttl:1d}")
+    private Duration negativeTtl = Duration.ofDays(1);
 
     @Autowired
-    public SteamSpyServiceImpl(WebClient.Builder webClientBuilder) {
+    public SteamSpyServiceImpl(WebClient.Builder webClientBuilder,
+                               SteamSpyCacheRepository cacheRepository,
+                               MeterRegistry meterRegistry,
+                               @Qualifier("enrichmentScheduler") Scheduler enrichmentScheduler) {
         this.webClient = webClientBuilder.baseUrl(EXTERNAL_API_URL).build();
+        this.cacheRepository = cacheRepository;
+        this.meterRegistry = meterRegistry;
+        this.enrichmentScheduler = enrichmentScheduler;
     }
 
     //------------------------------------- PUBLIC METHODS -------------------------------------//
 
     /**
-     * Get steam spy info.
+     * Get steam spy info, served from the local cache while the cached entry is fresh.
+     *
+     * @param steamId The steam id to search for
+     * @return The info found, empty if it could not be parsed.
+     */
+    @Override
+    public Mono<SteamSpyGame> getSteamSpyInfo(Long steamId) {
+        return Mono.fromCallable(() -> findCached(steamId))
+                .subscribeOn(enrichmentScheduler)
+                .flatMap(cached -> cached
+                        .map(this::fromCache)
+                        .orElseGet(() -> fetchSteamSpyInfo(steamId)));
+    }
+
+    //------------------------------------- PRIVATE METHODS -------------------------------------//
+
+    /**
+     * Find a fresh cache entry.
+     *
+     * @param steamId The steam id.
+     * @return The entry, empty if it is missing or expired.
+     */
+    private Optional<SteamSpyCacheEntry> findCached(Long steamId) {
+        Optional<SteamSpyCacheEntry> entry = cacheRepository.findById(steamId).filter(this::isFresh);
+        meterRegistry.counter("cache.gets", "cache", CACHE_NAME, "result", entry.isPresent() ? "hit" : "miss").increment();
+        return entry;
+    }
+
+    /**
+     * Check if a cache entry is still valid, negative entries expire sooner.
+     *
+     * @param entry The cache entry.
+     * @return Whether the entry is fresh.
+     */
+    private boolean isFresh(SteamSpyCacheEntry entry) {
+        Duration entryTtl = Boolean.TRUE.equals(entry.getFailed()) ? negativeTtl : ttl;
+        return entry.getFetchedAt() != null && entry.getFetchedAt().plus(entryTtl).isAfter(Instant.now());
+    }
+
+    /**
+     * Map a cache entry to the steam spy info.
+     *
+     * @param entry The cache entry.
+     * @return The info, empty for negative entries.
+     */
+    private Mono<SteamSpyGame> fromCache(SteamSpyCacheEntry entry) {
+        if (Boolean.TRUE.equals(entry.getFailed())) {
+            return Mono.empty();
+        }
+        return Mono.just(SteamSpyGame.builder()
+                .appId(entry.getAppId())
+                .name(entry.getName())
+                .tags(entry.getTags())
+                .build());
+    }
+
+    /**
+     * Get steam spy info from the api and cache it, unparseable responses are cached as negative entries.
      *
      * @param steamId The steam id to search for
-     * @return The info found.
+     * @return The info found, empty if it could not be parsed.
      */
-    public SteamSpyGame getSteamSpyInfo(Long steamId) {
+    private Mono<SteamSpyGame> fetchSteamSpyInfo(Long steamId) {
         String spySteamApiUrl = "?request=appdetails&appid=" + steamId;
-        String gameResponse = webClient.get()
+        return webClient.get()
                 .uri(spySteamApiUrl)
                 .retrieve()
-                .bodyToMono(String.class)
-                .block();
-        try {
-            return objectMapper.readValue(gameResponse, SteamSpyGame.class);
-        } catch (Exception e) {
-            return null;
-        }
-
+                .bodyToMono(SteamSpyGame.class)
+                .onErrorResume(CodecException.class, e -> Mono.empty())
+                .map(steamSpyGame -> SteamSpyCacheEntry.builder()
+                        .appId(steamId)
+                        .name(steamSpyGame.getName())
+                        .tags(steamSpyGame.getTags())
+                        .failed(false)
+                        .build())
+                .defaultIfEmpty(SteamSpyCacheEntry.builder()
+                        .appId(steamId)
+                        .failed(true)
+                        .build())
+                .flatMap(entry -> saveCached(entry).then(fromCache(entry)));
     }
 
+    /**
+     * Save a cache entry, a failed write only costs a future cache miss.
+     *
+     * @param entry The cache entry.
+     * @return Completion signal.
+     */
+    private Mono<Void> saveCached(SteamSpyCacheEntry entry) {
+        return Mono.fromRunnable(() -> {
+                    entry.setFetchedAt(Instant.now());
+                    cacheRepository.save(entry);
+                })
+                .subscribeOn(enrichmentScheduler)
+                .onErrorResume(e -> {
+                    log.warn("[SERVICE] - [STEAM SPY CACHE] - Could not cache app: {}", entry.getAppId(), e);
+                    return Mono.empty();
+                })
+                .then();
+    }
 
-}
\ No newline at end of file
+}
@@ -0,0 +1,154 @@
+package quantum.service.impl;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.hibernate.QueryTimeoutException;
+import org.hibernate.exception.DataException;
+import org.hibernate.exception.JDBCConnectionException;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataAccessException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.orm.jpa.JpaSystemException;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.TransactionException;
+import org.springframework.transaction.support.TransactionTemplate;
+import quantum.dto.steam.SteamGame;
+import quantum.exceptions.DatabaseConnectionException;
+import quantum.repository.UserGamesRepository;
+import quantum.repository.projections.SteamLibraryProjection;
+import quantum.service.SteamGridDBService;
+import quantum.service.SteamService;
+import quantum.service.SteamSyncService;
+import quantum.service.UserStatsService;
+import quantum.utils.BacklogStatsDelta;
+import quantum.utils.ImportProgressListener;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.util.function.Tuple2;
+import reactor.util.function.Tuples;
+
+import java.util.*;
+
+/**
+ * Service implementation for incremental steam library syncs.
+ * <p>
+ * Owned games are matched against the library by steam app id first and by SGDB id otherwise, using the cached SGDB
+ * lookup. Matched games only get their time played updated in one batch, so a sync of an unchanged library costs a
+ * couple of queries and no enrichment calls. The batches and the stats delta are written in one transaction.
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class SteamSyncServiceImpl implements SteamSyncService {
+
+    // Physical names, Spring's naming strategy lower cases the entity table and column names
+    private static final String UPDATE_TIME_PLAYED = "UPDATE user_games SET time_played = ? WHERE user_game_id = ?";
+    private static final String UPDATE_STEAM_APP_ID = "UPDATE games_t SET steam_app_id = ? WHERE game_id = ? AND steam_app_id IS NULL";
+
+    private final SteamService steamService;
+    private final SteamGridDBService steamGridDBService;
+    private final UserGamesRepository repository;
+    private final JdbcTemplate jdbcTemplate;
+    private final TransactionTemplate transactionTemplate;
+    private final UserStatsService userStatsService;
+
+    @Value("${steam.import.sgdb-concurrency:16}")
+    private int sgdbConcurrency = 16;
+
+    //------------------------------------- PUBLIC METHODS -------------------------------------//
+
+    /**
+     * Update the games of a user library that are owned on steam and find the owned games that are new.
+     *
+     * @param username The username.
+     * @param steamId  The steam id to sync from.
+     * @param listener The progress listener.
+     * @return The owned games not in the library yet.
+     */
+    @Override
+    public List<SteamGame> syncOwnedGames(String username, String steamId, ImportProgressListener listener) {
+        List<SteamGame> ownedGames = Optional.ofNullable(steamService.getOwnedGames(steamId).block()).orElse(List.of());
+        listener.appsFound(ownedGames.size());
+
+        List<SteamLibraryProjection> library;
+        try {
+            log.info("[SERVICE] - [STEAM SYNC] - Searching library of user {}", username);
+            library = repository.findSteamLibraryByUsername(username);
+        } catch (JpaSystemException | QueryTimeoutException | JDBCConnectionException | DataException ex) {
+            throw new DatabaseConnectionException(ex);
+        }
+
+        Map<Long, SteamLibraryProjection> byAppId = new HashMap<>();
+        Map<Long, SteamLibraryProjection> bySgdbId = new HashMap<>();
+        for (SteamLibraryProjection userGame : library) {
+            if (userGame.getSteamAppId() != null) byAppId.put(userGame.getSteamAppId(), userGame);
+            if (userGame.getSgdbId() != null) bySgdbId.put(userGame.getSgdbId(), userGame);
+        }
+
+        // Only the apps without a known app id need the SGDB lookup
+        Map<Long, Long> sgdbIds = resolveSgdbIds(ownedGames.stream()
+                .filter(game -> !byAppId.containsKey(game.getAppId()))
+                .toList(), listener);
+
+        List<Object[]> timePlayedUpdates = new ArrayList<>();
+        List<Object[]> steamAppIdUpdates = new ArrayList<>();
+        List<SteamGame> newGames = new ArrayList<>();
+        BacklogStatsDelta delta = new BacklogStatsDelta();
+        for (SteamGame game : ownedGames) {
+            SteamLibraryProjection userGame = byAppId.get(game.getAppId());
+            if (userGame == null) {
+                Long sgdbId = sgdbIds.get(game.getAppId());
+                // Apps without SGDB match or that failed are already reported
+                if (sgdbId == null) continue;
+                userGame = bySgdbId.get(sgdbId);
+                if (userGame == null) {
+                    newGames.add(game);
+                    continue;
+                }
+                steamAppIdUpdates.add(new Object[]{game.getAppId(), userGame.getGameId()});
+            }
+            if (!Objects.equals(userGame.getTimePlayed(), game.getPlaytime())) {
+                timePlayedUpdates.add(new Object[]{game.getPlaytime(), userGame.getUserGameId()});
+                delta.timePlayed(userGame.getBacklog(), userGame.getTimePlayed(), game.getPlaytime());
+            }
+            listener.appResolved();
+        }
+
+        try {
+            log.info("[SERVICE] - [STEAM SYNC] - Updating time played of {} games and steam app id of {} games",
+                    timePlayedUpdates.size(), steamAppIdUpdates.size());
+            transactionTemplate.executeWithoutResult(status -> {
+                jdbcTemplate.batchUpdate(UPDATE_TIME_PLAYED, timePlayedUpdates);
+                jdbcTemplate.batchUpdate(UPDATE_STEAM_APP_ID, steamAppIdUpdates);
+                userStatsService.applyDelta(username, delta);
+            });
+        } catch (DataAccessException | TransactionException ex) {
+            throw new DatabaseConnectionException(ex);
+        }
+
+        log.info("[SERVICE] - [STEAM SYNC] - Found {} new games of {} owned", newGames.size(), ownedGames.size());
+        return newGames;
+    }
+
+    //------------------------------------- PRIVATE METHODS -------------------------------------//
+
+    /**
+     * Find the SGDB ids of steam apps.
+     *
+     * @param games    The steam games.
+     * @param listener The progress listener, told about apps without SGDB match and failed apps.
+     * @return The SGDB id by steam app id.
+     */
+    private Map<Long, Long> resolveSgdbIds(List<SteamGame> games, ImportProgressListener listener) {
+        return Flux.fromIterable(games)
+                .flatMap(game -> steamGridDBService.getBySteamId(game.getAppId())
+                        .map(sgdbGame -> Tuples.of(game.getAppId(), sgdbGame.getId()))
+                        .doOnSuccess(match -> {
+                            if (match == null) listener.appResolved();
+                        })
+                        .onErrorResume(e -> Mono.fromRunnable(() -> listener.appFailed(game.getAppId(), e))), sgdbConcurrency)
+                .collectMap(Tuple2::getT1, Tuple2::getT2)
+                .blockOptional()
+                .orElseGet(Map::of);
+    }
+}
@@ -1,15 +1,17 @@
 package quantum.service.impl;
 
+import com.fasterxml.jackson.databind.ObjectMapper;
+import jakarta.persistence.EntityManager;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.hibernate.QueryTimeoutException;
 import org.hibernate.exception.DataException;
 import org.hibernate.exception.JDBCConnectionException;
 import org.springframework.dao.DataIntegrityViolationException;
-import org.springframework.data.domain.Page;
-import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.*;
 import org.springframework.orm.jpa.JpaSystemException;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
 import quantum.dto.game.NewGameBody;
 import quantum.dto.userGames.*;
 import quantum.dto.userGames.steamImport.UserGameImport;
@@ -18,21 +20,31 @@ import quantum.exceptions.DatabaseConnectionException;
 import quantum.exceptions.EntityFoundException;
 import quantum.exceptions.EntityNotFoundException;
 import quantum.exceptions.QuantumLibraryGenericException;
-import quantum.mapping.GamesMapping;
 import quantum.mapping.UserGamesMapping;
 import quantum.model.Game;
 import quantum.model.User;
 import quantum.model.UserGame;
 import quantum.repository.UserGamesRepository;
+import quantum.repository.specifications.UserGamesSpecifications;
 import quantum.service.GameService;
+import quantum.service.OwnershipIndexService;
 import quantum.service.UserGamesService;
 import quantum.service.UserService;
-
+import quantum.service.UserStatsService;
+import quantum.utils.BacklogStatsDelta;
+import quantum.utils.InLists;
+import quantum.utils.Pageables;
+import quantum.utils.ScrollCursor;
+import quantum.utils.TagDictionary;
+
+import java.io.IOException;
+import java.io.OutputStream;
 import java.util.*;
-import java.util.concurrent.CompletableFuture;
+import java.util.stream.Stream;
 
 import static quantum.constant.ErrorConstants.DATA_INTEGRITY_ERROR;
 import static quantum.constant.ErrorConstants.ENTITY_NOT_FOUND_ERROR;
+import static quantum.constant.GameConstants.ONLINE_TAGS;
 
 
 /**
@@ -43,11 +55,19 @@ import static quantum.constant.ErrorConstants.ENTITY_NOT_FOUND_ERROR;
 @RequiredArgsConstructor
 public class UserGamesServiceImpl implements UserGamesService {
 
+    // Same as the tag batch size, the tags of a chunk are fetched in one query per collection
+    private static final int EXPORT_CHUNK_SIZE = 100;
+    private static final Map<String, Class<?>> SCROLL_KEYS = Map.of("id", Long.class, "game.name", String.class);
+
     private final UserGamesRepository repository;
     private final UserGamesMapping mapper;
     private final UserService userService;
     private final GameService gameService;
-    private final GamesMapping gamesMapper;
+    private final UserStatsService userStatsService;
+    private final OwnershipIndexService ownershipIndexService;
+    private final EntityManager entityManager;
+    private final ObjectMapper objectMapper;
+    private final TagDictionary tagDictionary;
 
     //------------------------------------- PUBLIC METHODS -------------------------------------//
 
@@ -61,18 +81,19 @@ public class UserGamesServiceImpl implements UserGamesService {
      */
     @Override
     public UserGamesListResponse getUserGames(String username, String category, Pageable pageable) {
-        Page<UserGame> result;
+        Pageable slice = Pageables.slice(pageable);
+        Slice<UserGame> result;
 
         try {
             log.info("[SERVICE] - [USER GAME FETCHING] - Searching games of a user with username: {} and category: {}", username, category);
             switch (category) {
-                case "backlog1" -> result = repository.findByUser_UsernameAndBacklog(username, 1, pageable);
-                case "backlog2" -> result = repository.findByUser_UsernameAndBacklog(username, 2, pageable);
-                case "backlog3" -> result = repository.findByUser_UsernameAndBacklog(username, 3, pageable);
-                case "favorite" -> result = repository.findByUser_UsernameAndFavorite(username, true, pageable);
-                case "finished" -> result = repository.findByUser_UsernameAndFinished(username, true, pageable);
-                case "completed" -> result = repository.findByUser_UsernameAndCompleted(username, pageable);
-                default -> result = repository.findByUser_Username(username, pageable);
+                case "backlog1" -> result = repository.findByUser_UsernameAndBacklog(username, 1, slice);
+                case "backlog2" -> result = repository.findByUser_UsernameAndBacklog(username, 2, slice);
+                case "backlog3" -> result = repository.findByUser_UsernameAndBacklog(username, 3, slice);
+                case "favorite" -> result = repository.findByUser_UsernameAndFavorite(username, true, slice);
+                case "finished" -> result = repository.findByUser_UsernameAndFinished(username, true, slice);
+                case "completed" -> result = repository.findByUser_UsernameAndCompleted(username, slice);
+                default -> result = repository.findByUser_Username(username, slice);
             }
         } catch (JpaSystemException | QueryTimeoutException | JDBCConnectionException | DataException ex) {
             throw new DatabaseConnectionException(ex);
@@ -87,6 +108,70 @@ public class UserGamesServiceImpl implements UserGamesService {
                 .build();
     }
 
+    /**
+     * Scroll user games.
+     *
+     * @param username The username.
+     * @param category The category.
+     * @param cursor   The cursor to continue from, empty to start.
+     * @param pageable The window size and sort.
+     * @return The games and the cursor of the next window.
+     */
+    @Override
+    public UserGamesListResponse scrollUserGames(String username, String category, String cursor, Pageable pageable) {
+        Sort sort = ScrollCursor.sort(pageable.getSort(), SCROLL_KEYS);
+        KeysetScrollPosition position = ScrollCursor.decode(cursor, sort, SCROLL_KEYS);
+        Window<UserGame> result;
+
+        try {
+            log.info("[SERVICE] - [USER GAME FETCHING] - Scrolling games of a user with username: {} and category: {}", username, category);
+            // Same fetch plan as the library pages, the user and game in the window query
+            result = repository.findBy(UserGamesSpecifications.byCategory(username, category).and(UserGamesSpecifications.fetchUserAndGame()), query -> query
+                    .sortBy(sort)
+                    .limit(ScrollCursor.limit(pageable).max())
+                    .scroll(position));
+        } catch (JpaSystemException | QueryTimeoutException | JDBCConnectionException | DataException ex) {
+            throw new DatabaseConnectionException(ex);
+        }
+
+        // Map entity to response and return
+        return UserGamesListResponse.builder()
+                .games(result.stream().map(mapper::map).toList())
+                .nextCursor(ScrollCursor.encode(result))
+                .build();
+    }
+
+    /**
+     * Write every game of a user as newline delimited json.
+     * <p>
+     * The games are read with a database cursor and written in chunks, each chunk fetches its tags in one batch and
+     * is detached once written, so memory stays flat whatever the library size.
+     *
+     * @param username     The username.
+     * @param outputStream The stream to write to.
+     * @throws IOException if the games can not be written.
+     */
+    @Override
+    @Transactional(readOnly = true)
+    public void exportUserGames(String username, OutputStream outputStream) throws IOException {
+        log.info("[SERVICE] - [USER GAME EXPORT] - Exporting games of a user with username: {}", username);
+        int exported = 0;
+        try (Stream<UserGame> userGames = repository.streamByUsername(username)) {
+            List<UserGame> chunk = new ArrayList<>(EXPORT_CHUNK_SIZE);
+            Iterator<UserGame> iterator = userGames.iterator();
+            while (iterator.hasNext()) {
+                chunk.add(iterator.next());
+                if (chunk.size() == EXPORT_CHUNK_SIZE) {
+                    exported += writeChunk(chunk, outputStream);
+                }
+            }
+            exported += writeChunk(chunk, outputStream);
+        } catch (JpaSystemException | QueryTimeoutException | JDBCConnectionException | DataException ex) {
+            throw new DatabaseConnectionException(ex);
+        }
+        log.info("[SERVICE] - [USER GAME EXPORT] - Exported {} games of user {}", exported, username);
+    }
+
     /**
      * Gets user games.
      *
@@ -95,7 +180,7 @@ public class UserGamesServiceImpl implements UserGamesService {
      */
     @Override
     public List<UserGame> getOnlineGames(String username) {
-        return repository.findByUser_UsernameAndTagsIn(username, Set.of("Co-op", "Online Co-Op", "Local Co-Op", "Multiplayer", "Local Multiplayer"));
+        return repository.findByUser_UsernameAndTagsIn(username, ONLINE_TAGS);
     }
 
     /**
@@ -106,26 +191,26 @@ public class UserGamesServiceImpl implements UserGamesService {
      */
     @Override
     public Set<Game> getCommonGames(List<User> users) {
-        // Create a list of CompletableFuture for fetching games of each user asynchronously
-        List<CompletableFuture<List<UserGame>>> userGameFutures = users.stream()
-                .map(user -> CompletableFuture.supplyAsync(() -> getOnlineGames(user.getUsername())))
-                .toList();
-
-        // Wait for all CompletableFuture to complete and map results to a list of games
-        List<List<Game>> userGames = userGameFutures.stream()
-                .map(CompletableFuture::join)
-                .map(list -> list.stream().map(UserGame::getGame).toList())
-                .toList();
-
-        // Find common games
-        Set<Game> commonGames = new HashSet<>(userGames.get(0));
-
-        for (List<Game> games : userGames.subList(1, userGames.size())) {
-            Set<Game> gamesSet = new HashSet<>(games);
-            commonGames.retainAll(gamesSet);
+        Set<String> usernames = new HashSet<>();
+        Set<Long> userIds = new HashSet<>();
+        users.forEach(user -> {
+            usernames.add(user.getUsername());
+            userIds.add(user.getId());
+        });
+        if (usernames.isEmpty()) return new HashSet<>();
+
+        // Intersect the libraries in the ownership index, or in the database while the index is not available
+        List<Long> commonGameIds = ownershipIndexService.findCommonGameIds(userIds).orElse(null);
+        if (commonGameIds == null) {
+            try {
+                log.info("[SERVICE] - [USER GAME SEARCH] - Searching online games common to {} users", usernames.size());
+                commonGameIds = repository.findCommonGameIds(usernames, ONLINE_TAGS, usernames.size());
+            } catch (JpaSystemException | QueryTimeoutException | JDBCConnectionException | DataException ex) {
+                throw new DatabaseConnectionException(ex);
+            }
         }
 
-        return commonGames;
+        return commonGameIds.isEmpty() ? new HashSet<>() : new HashSet<>(gameService.findGamesByIds(commonGameIds));
     }
 
     /**
@@ -167,12 +252,15 @@ public class UserGamesServiceImpl implements UserGamesService {
 
         try {
             log.info("[SERVICE] - [USER GAME CREATION] - Saving user game: {}", newUserGame);
+            tagDictionary.register(newUserGame.getTags());
             newUserGame = repository.save(newUserGame);
         } catch (DataIntegrityViolationException ex) {
             throw new DatabaseConnectionException(DATA_INTEGRITY_ERROR, ex);
         } catch (JpaSystemException | QueryTimeoutException | JDBCConnectionException | DataException ex) {
             throw new DatabaseConnectionException(ex);
         }
+        userStatsService.applyDelta(username, new BacklogStatsDelta().add(newUserGame));
+        ownershipIndexService.update(newUserGame);
 
         // Map entity to response and return
         return mapper.map(newUserGame);
@@ -193,14 +281,20 @@ public class UserGamesServiceImpl implements UserGamesService {
                     .name(game.getName())
                     .timePlayed(game.getTimePlayed())
                     .image(game.getImage())
-                    .tags(new HashSet<>(game.getTags()))
+                    .steamAppId(game.getSteamAppId())
+                    .tags(game.getTags() == null ? new HashSet<>() : new HashSet<>(game.getTags()))
                     .build();
             gamesToImport.put(game.getSgdbId(), newUserGameBody);
 
         }
         try {
             log.info("[SERVICE] - [USER GAME IMPORT] - Importing {} games", gamesToImport.size());
-            response.setGames(postUserGames(username, gamesToImport).stream().map(mapper::map).toList());
+            List<UserGame> newUserGames = postUserGames(username, gamesToImport);
+            BacklogStatsDelta delta = new BacklogStatsDelta();
+            newUserGames.forEach(delta::add);
+            userStatsService.applyDelta(username, delta);
+            newUserGames.forEach(ownershipIndexService::update);
+            response.setGames(newUserGames.stream().map(mapper::map).toList());
         } catch (DataIntegrityViolationException ex) {
             log.info("[SERVICE] - [USER GAME IMPORT] - Error importing games: {}", ex.getMessage());
         }
@@ -221,14 +315,19 @@ public class UserGamesServiceImpl implements UserGamesService {
         UserGame userGameToUpdate = findUserGame(gameId, username);
 
         // Update the user game content
+        BacklogStatsDelta delta = new BacklogStatsDelta().remove(userGameToUpdate);
         updateUserGameContent(body, userGameToUpdate);
+        delta.add(userGameToUpdate);
 
         try {
             log.info("[SERVICE] - [USER GAME UPDATE] - Saving user game: {}", userGameToUpdate);
+            tagDictionary.register(userGameToUpdate.getTags());
             userGameToUpdate = repository.save(userGameToUpdate);
         } catch (JpaSystemException | QueryTimeoutException | JDBCConnectionException | DataException ex) {
             throw new DatabaseConnectionException(ex);
         }
+        userStatsService.applyDelta(username, delta);
+        ownershipIndexService.update(userGameToUpdate);
 
         // Map entity to response and return
         return mapper.map(userGameToUpdate);
@@ -242,12 +341,15 @@ public class UserGamesServiceImpl implements UserGamesService {
      */
     @Override
     public void deleteUserGame(String username, Long gameId) {
+        UserGame userGame = findUserGame(gameId, username);
         try {
             log.info("[SERVICE] - [USER GAME DELETE] - Deleting game: {} of user: {}", gameId, username);
-            repository.delete(findUserGame(gameId, username));
+            repository.delete(userGame);
         } catch (JpaSystemException | QueryTimeoutException | JDBCConnectionException | DataException ex) {
             throw new DatabaseConnectionException(ex);
         }
+        userStatsService.applyDelta(username, new BacklogStatsDelta().remove(userGame));
+        ownershipIndexService.remove(userGame);
     }
 
     /**
@@ -257,62 +359,7 @@ public class UserGamesServiceImpl implements UserGamesService {
      */
     @Override
     public StatsResponse getStats(String username) {
-        List<UserGameResponse> allGames = getUserGames(username, "all", Pageable.unpaged()).getGames();
-        List<UserGameResponse> b1Games = getUserGames(username, "backlog1", Pageable.unpaged()).getGames();
-        List<UserGameResponse> b2Games = getUserGames(username, "backlog2", Pageable.unpaged()).getGames();
-        List<UserGameResponse> b3Games = getUserGames(username, "backlog3", Pageable.unpaged()).getGames();
-        List<UserGameResponse> leftGames = new ArrayList<>(allGames);
-        leftGames.removeAll(b1Games);
-        leftGames.removeAll(b2Games);
-        leftGames.removeAll(b3Games);
-
-        BacklogResponse time = BacklogResponse.builder()
-                .backlog1(b1Games.stream().mapToInt(game -> Objects.requireNonNullElse(game.getTimePlayed(), 0)).sum())
-                .backlog2(b2Games.stream().mapToInt(game -> Objects.requireNonNullElse(game.getTimePlayed(), 0)).sum())
-                .backlog3(b3Games.stream().mapToInt(game -> Objects.requireNonNullElse(game.getTimePlayed(), 0)).sum())
-                .backlogNA(leftGames.stream().mapToInt(game -> Objects.requireNonNullElse(game.getTimePlayed(), 0)).sum())
-                .build();
-
-        BacklogResponse achivements = BacklogResponse.builder()
-                .backlog1(b1Games.stream().mapToInt(game -> Objects.requireNonNullElse(game.getAchivements(), 0)).sum())
-                .backlog2(b2Games.stream().mapToInt(game -> Objects.requireNonNullElse(game.getAchivements(), 0)).sum())
-                .backlog3(b3Games.stream().mapToInt(game -> Objects.requireNonNullElse(game.getAchivements(), 0)).sum())
-                .backlogNA(leftGames.stream().mapToInt(game -> Objects.requireNonNullElse(game.getAchivements(), 0)).sum())
-                .build();
-
-        BacklogResponse totalAchivements = BacklogResponse.builder()
-                .backlog1(b1Games.stream().mapToInt(game -> Objects.requireNonNullElse(game.getTotalAchivements(), 0)).sum())
-                .backlog2(b2Games.stream().mapToInt(game -> Objects.requireNonNullElse(game.getTotalAchivements(), 0)).sum())
-                .backlog3(b3Games.stream().mapToInt(game -> Objects.requireNonNullElse(game.getTotalAchivements(), 0)).sum())
-                .backlogNA(leftGames.stream().mapToInt(game -> Objects.requireNonNullElse(game.getTotalAchivements(), 0)).sum())
-                .build();
-
-        BacklogResponse games = BacklogResponse.builder()
-                .backlog1(b1Games.size())
-                .backlog2(b2Games.size())
-                .backlog3(b3Games.size())
-                .backlogNA(leftGames.size())
-                .build();
-
-        BacklogResponse played = BacklogResponse.builder()
-                .backlog1((int) b1Games.stream().filter(game -> game.getTimePlayed() != null && game.getTimePlayed() > 0).count())
-                .backlog2((int) b2Games.stream().filter(game -> game.getTimePlayed() != null && game.getTimePlayed() > 0).count())
-                .backlog3((int) b3Games.stream().filter(game -> game.getTimePlayed() != null && game.getTimePlayed() > 0).count())
-                .backlogNA((int) leftGames.stream().filter(game -> game.getTimePlayed() != null && game.getTimePlayed() > 0).count())
-                .build();
-
-        int completedGames = allGames.stream().filter(game -> Objects.equals(game.getAchivements(), game.getTotalAchivements())).toList().size();
-        int finishedGames = allGames.stream().filter(game -> Objects.requireNonNullElse(game.getFinished(), false)).toList().size();
-
-        return StatsResponse.builder()
-                .numOfGames(games)
-                .numOfCompletedGames(completedGames)
-                .numOfFinishedGames(finishedGames)
-                .numOfPlayedGames(played)
-                .numOfTotalTime(time)
-                .numOfCompletedAchivements(achivements)
-                .numOfTotalAchivements(totalAchivements)
-                .build();
+        return userStatsService.getStats(username);
     }
 
     //------------------------------------- PRIVATE METHODS -------------------------------------//
@@ -350,37 +397,39 @@ public class UserGamesServiceImpl implements UserGamesService {
      */
     public List<UserGame> postUserGames(String username, Map<Long, NewUserGameBody> gamesToImport) {
 
-        // Get available games in ddbb
-        List<Game> availableGames;
-        try {
-            availableGames = new ArrayList<>(gameService.getGames(Pageable.unpaged()).getGames().stream().map(gamesMapper::map).toList());
-        } catch (EntityNotFoundException e) {
-            availableGames = new ArrayList<>();
+        // Get the games of the batch already in the database
+        Map<Long, Game> availableGames = new HashMap<>(gamesToImport.size() * 2);
+        for (Game game : gameService.findGamesBySgdbIds(gamesToImport.keySet())) {
+            availableGames.put(game.getSgdbId(), game);
         }
-        List<Long> availableGameIds = availableGames.stream().map(Game::getSgdbId).toList();
-
-        // Creates a copy of the games to import and removes games already in the database
-        Map<Long, NewUserGameBody> gamesToCreate = new HashMap<>(gamesToImport);
-        availableGameIds.forEach(gamesToCreate::remove);
 
-        // Remove games already in the user library
-        List<Long> userGames = getUserGames(username, "all", Pageable.unpaged()).getGames().stream().map(e -> e.getGame().getSgdbId()).toList();
-        userGames.forEach(gamesToImport::remove);
+        // Remove games of the batch already in the user library
+        Set<Long> userGames;
+        try {
+            log.info("[SERVICE] - [USER GAME SEARCH] - Searching {} games in the library of user: {}", gamesToImport.size(), username);
+            userGames = new HashSet<>(InLists.query(gamesToImport.keySet(),
+                    sgdbIds -> repository.findSgdbIdsByUsernameAndSgdbIdIn(username, sgdbIds)));
+        } catch (JpaSystemException | QueryTimeoutException | JDBCConnectionException | DataException ex) {
+            throw new DatabaseConnectionException(ex);
+        }
+        gamesToImport.keySet().removeAll(userGames);
 
-        // Create new games
+        // Create the games not in the database
         List<Game> newGames = new ArrayList<>();
-        for (Map.Entry<Long, NewUserGameBody> entry : gamesToCreate.entrySet()) {
+        for (Map.Entry<Long, NewUserGameBody> entry : gamesToImport.entrySet()) {
+            if (availableGames.containsKey(entry.getKey())) continue;
             Game newGame = Game.builder()
                     .name(entry.getValue().getName())
                     .tags(entry.getValue().getTags())
                     .image(entry.getValue().getImage())
                     .sgdbId(entry.getKey())
+                    .steamAppId(entry.getValue().getSteamAppId())
                     .build();
             newGames.add(newGame);
+            availableGames.put(entry.getKey(), newGame);
         }
 
-        // Add new games to available games
-        availableGames.addAll(newGames);
+        long startTime = System.currentTimeMillis();
 
         // Save new games
         gameService.postGames(newGames);
@@ -391,17 +440,14 @@ public class UserGamesServiceImpl implements UserGamesService {
         // Create new user games
         List<UserGame> newUserGames = new ArrayList<>();
         for (Map.Entry<Long, NewUserGameBody> entry : gamesToImport.entrySet()) {
-            Game game = availableGames.stream().filter(e -> e.getSgdbId().equals(entry.getKey())).findFirst().orElse(null);
-            if (game == null) continue;
-            UserGame newUserGame = generateNewUserGame(entry.getValue(), user, game);
+            UserGame newUserGame = generateNewUserGame(entry.getValue(), user, availableGames.get(entry.getKey()));
             newUserGames.add(newUserGame);
         }
 
-        long startTime = System.currentTimeMillis();
-
         // Saves userGames
         try {
             log.info("[SERVICE] - [USER GAME CREATION] - Saving {} user games", newUserGames.size());
+            newUserGames.forEach(userGame -> tagDictionary.register(userGame.getTags()));
             return repository.saveAll(newUserGames);
         } catch (DataIntegrityViolationException ex) {
             throw new DatabaseConnectionException(DATA_INTEGRITY_ERROR, ex);
@@ -483,4 +529,24 @@ public class UserGamesServiceImpl implements UserGamesService {
             userGameToUpdate.setBacklog(body.getBacklog());
         }
     }
+
+    /**
+     * Write a chunk of exported games, one json line each, and detach them.
+     *
+     * @param chunk        The user games, cleared once written.
+     * @param outputStream The stream to write to.
+     * @return The number of games written.
+     * @throws IOException if the games can not be written.
+     */
+    private int writeChunk(List<UserGame> chunk, OutputStream outputStream) throws IOException {
+        for (UserGame userGame : chunk) {
+            outputStream.write(objectMapper.writeValueAsBytes(mapper.map(userGame)));
+            outputStream.write('\n');
+        }
+        outputStream.flush();
+        int written = chunk.size();
+        chunk.clear();
+        entityManager.clear();
+        return written;
+    }
 }
@@ -6,8 +6,7 @@ import org.hibernate.QueryTimeoutException;
 import org.hibernate.exception.DataException;
 import org.hibernate.exception.JDBCConnectionException;
 import org.springframework.dao.DataIntegrityViolationException;
-import org.springframework.data.domain.Page;
-import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.*;
 import org.springframework.orm.jpa.JpaSystemException;
 import org.springframework.security.core.userdetails.UserDetails;
 import org.springframework.security.core.userdetails.UsernameNotFoundException;
@@ -20,8 +19,13 @@ import quantum.exceptions.EntityNotFoundException;
 import quantum.mapping.UsersMapping;
 import quantum.model.User;
 import quantum.repository.UserRepository;
+import quantum.security.PrincipalCache;
+import quantum.service.OwnershipIndexService;
 import quantum.service.UserService;
+import quantum.service.UserStatsService;
+import quantum.utils.ScrollCursor;
 
+import java.util.Map;
 import java.util.Optional;
 
 import static quantum.constant.ErrorConstants.DATA_INTEGRITY_ERROR;
@@ -34,8 +38,13 @@ import static quantum.constant.ErrorConstants.DATA_INTEGRITY_ERROR;
 @RequiredArgsConstructor
 public class UserServiceImpl implements UserService {
 
+    private static final Map<String, Class<?>> SCROLL_KEYS = Map.of("id", Long.class, "username", String.class);
+
     private final UserRepository repository;
     private final UsersMapping mapper;
+    private final UserStatsService userStatsService;
+    private final OwnershipIndexService ownershipIndexService;
+    private final PrincipalCache principalCache;
 
     //------------------------------------- PUBLIC METHODS -------------------------------------//
 
@@ -47,11 +56,11 @@ public class UserServiceImpl implements UserService {
      */
     @Override
     public UserListResponse getUsers(Pageable pageable) {
-        Page<User> result;
+        Slice<User> result;
 
         try {
             log.info("[SERVICE] - [USER SEARCH] - Searching users");
-            result = repository.findAll(pageable);
+            result = repository.findAllBy(pageable);
         } catch (JpaSystemException | QueryTimeoutException | JDBCConnectionException | DataException ex) {
             throw new DatabaseConnectionException(ex);
         }
@@ -68,6 +77,33 @@ public class UserServiceImpl implements UserService {
                 .build();
     }
 
+    /**
+     * Scroll Users.
+     *
+     * @param cursor   The cursor to continue from, empty to start.
+     * @param pageable The window size and sort.
+     * @return The users and the cursor of the next window.
+     */
+    @Override
+    public UserListResponse scrollUsers(String cursor, Pageable pageable) {
+        Sort sort = ScrollCursor.sort(pageable.getSort(), SCROLL_KEYS);
+        KeysetScrollPosition position = ScrollCursor.decode(cursor, sort, SCROLL_KEYS);
+        Window<User> result;
+
+        try {
+            log.info("[SERVICE] - [USER SEARCH] - Scrolling users");
+            result = repository.findAllBy(position, sort, ScrollCursor.limit(pageable));
+        } catch (JpaSystemException | QueryTimeoutException | JDBCConnectionException | DataException ex) {
+            throw new DatabaseConnectionException(ex);
+        }
+
+        // Map entity to response and return
+        return UserListResponse.builder()
+                .users(result.stream().map(mapper::map).toList())
+                .nextCursor(ScrollCursor.encode(result))
+                .build();
+    }
+
     /**
      * Retrieve User.
      *
@@ -182,6 +218,7 @@ public class UserServiceImpl implements UserService {
         } catch (JpaSystemException | QueryTimeoutException | JDBCConnectionException | DataException ex) {
             throw new DatabaseConnectionException(ex);
         }
+        principalCache.evict(username);
 
         // Map entity to response and return
         return mapper.map(userToUpdate);
@@ -214,6 +251,7 @@ public class UserServiceImpl implements UserService {
         } catch (JpaSystemException | QueryTimeoutException | JDBCConnectionException | DataException ex) {
             throw new DatabaseConnectionException(ex);
         }
+        principalCache.evict(username);
 
         // Map entity to response and return
         return mapper.map(userToUpdate);
@@ -228,7 +266,11 @@ public class UserServiceImpl implements UserService {
     public void deleteUser(String username) {
         try {
             log.info("[SERVICE] - [GAME DELETE] - Deleting user: {}", username);
-            repository.delete(findUser(username));
+            User user = findUser(username);
+            repository.delete(user);
+            userStatsService.deleteStats(user.getId());
+            ownershipIndexService.removeUser(user.getId());
+            principalCache.evict(username);
         } catch (JpaSystemException | QueryTimeoutException | JDBCConnectionException | DataException ex) {
             throw new DatabaseConnectionException(ex);
         }
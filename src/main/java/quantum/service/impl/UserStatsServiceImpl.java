@@ -0,0 +1,255 @@
+package quantum.service.impl;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.dao.DataAccessException;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import quantum.dto.userGames.BacklogResponse;
+import quantum.dto.userGames.StatsResponse;
+import quantum.exceptions.DatabaseConnectionException;
+import quantum.model.User;
+import quantum.model.UserBacklogStats;
+import quantum.repository.UserBacklogStatsRepository;
+import quantum.repository.UserGamesRepository;
+import quantum.repository.UserRepository;
+import quantum.repository.projections.BacklogStatsProjection;
+import quantum.service.UserStatsService;
+import quantum.utils.BacklogStatsDelta;
+
+import java.util.*;
+
+import static quantum.utils.BacklogStatsDelta.*;
+
+/**
+ * Service implementation for the materialized stats of the user games.
+ * <p>
+ * Each user has one stats row per backlog, built from the user games the first time the stats are read and then
+ * kept up to date with the deltas of the user games changes. A delta that fails or races with a rebuild is repaired
+ * by the consistency check.
+ */
+@Slf4j
+@Service
+public class UserStatsServiceImpl implements UserStatsService {
+
+    private final UserBacklogStatsRepository repository;
+    private final UserGamesRepository userGamesRepository;
+    private final UserRepository userRepository;
+    private final Counter driftCounter;
+
+    public UserStatsServiceImpl(UserBacklogStatsRepository repository,
+                                UserGamesRepository userGamesRepository,
+                                UserRepository userRepository,
+                                MeterRegistry meterRegistry) {
+        this.repository = repository;
+        this.userGamesRepository = userGamesRepository;
+        this.userRepository = userRepository;
+        this.driftCounter = meterRegistry.counter("user.stats.drift");
+    }
+
+    //------------------------------------- PUBLIC METHODS -------------------------------------//
+
+    /**
+     * Gets the stats of a user, building them the first time.
+     *
+     * @param username The username.
+     * @return The stats.
+     */
+    @Override
+    public StatsResponse getStats(String username) {
+        List<UserBacklogStats> stats;
+        try {
+            log.info("[SERVICE] - [USER STATS] - Searching stats of user: {}", username);
+            stats = repository.findByUsername(username);
+            if (stats.isEmpty()) {
+                stats = rebuild(username, stats);
+            }
+        } catch (DataAccessException ex) {
+            throw new DatabaseConnectionException(ex);
+        }
+        return toStatsResponse(stats);
+    }
+
+    /**
+     * Apply the changes of the user games to the stats of a user, stats not built yet are left to the first read.
+     *
+     * @param username The username.
+     * @param delta    The changes.
+     */
+    @Override
+    public void applyDelta(String username, BacklogStatsDelta delta) {
+        try {
+            for (int backlog = 0; backlog < BACKLOGS; backlog++) {
+                if (delta.isEmpty(backlog)) continue;
+                long[] values = delta.get(backlog);
+                repository.addDelta(username, backlog, values[GAMES], values[PLAYED_GAMES], values[COMPLETED_GAMES],
+                        values[FINISHED_GAMES], values[TIME_PLAYED], values[ACHIVEMENTS], values[TOTAL_ACHIVEMENTS]);
+            }
+        } catch (DataAccessException ex) {
+            // The user games are already saved, the consistency check repairs the stats
+            log.warn("[SERVICE] - [USER STATS] - Error updating stats of user: {}: {}", username, ex.getMessage());
+        }
+    }
+
+    /**
+     * Check the stats of a user against the user games, rebuilding them if they drifted.
+     *
+     * @param username The username.
+     * @return Whether the stats drifted.
+     */
+    @Override
+    public boolean verifyStats(String username) {
+        try {
+            List<UserBacklogStats> stats = repository.findByUsername(username);
+            if (stats.isEmpty()) return false;
+
+            StatsResponse stored = toStatsResponse(stats);
+            StatsResponse actual = toStatsResponse(userGamesRepository.findBacklogStatsByUsername(username));
+            if (stored.equals(actual)) return false;
+
+            log.warn("[SERVICE] - [USER STATS] - Stats of user: {} drifted, stored: {}, actual: {}", username, stored, actual);
+            driftCounter.increment();
+            rebuild(username, stats);
+            return true;
+        } catch (DataAccessException ex) {
+            throw new DatabaseConnectionException(ex);
+        }
+    }
+
+    /**
+     * Check the stats of every user with stats.
+     */
+    @Scheduled(cron = "${user.stats.check-cron:-}")
+    public void verifyAllStats() {
+        List<String> usernames = repository.findUsernames();
+        log.info("[SERVICE] - [USER STATS] - Checking stats of {} users", usernames.size());
+        long drifted = usernames.stream().filter(username -> {
+            try {
+                return verifyStats(username);
+            } catch (RuntimeException e) {
+                log.warn("[SERVICE] - [USER STATS] - Error checking stats of user: {}: {}", username, e.getMessage());
+                return false;
+            }
+        }).count();
+        log.info("[SERVICE] - [USER STATS] - Rebuilt stats of {} users", drifted);
+    }
+
+    /**
+     * Delete the stats of a user.
+     *
+     * @param userId The user id.
+     */
+    @Override
+    public void deleteStats(Long userId) {
+        try {
+            log.info("[SERVICE] - [USER STATS] - Deleting stats of user: {}", userId);
+            repository.deleteByUserId(userId);
+        } catch (DataAccessException ex) {
+            throw new DatabaseConnectionException(ex);
+        }
+    }
+
+    //------------------------------------- PRIVATE METHODS -------------------------------------//
+
+    /**
+     * Build the stats of a user from the user games.
+     *
+     * @param username The username.
+     * @param stats    The stored stats to overwrite.
+     * @return The stats built, empty if the user does not exist.
+     */
+    private List<UserBacklogStats> rebuild(String username, List<UserBacklogStats> stats) {
+        Optional<User> user = userRepository.findByUsername(username);
+        if (user.isEmpty()) return List.of();
+
+        log.info("[SERVICE] - [USER STATS] - Building stats of user: {}", username);
+        Map<Integer, UserBacklogStats> byBacklog = new HashMap<>();
+        stats.forEach(backlogStats -> byBacklog.put(backlogStats.getBacklog(), backlogStats));
+        for (int backlog = 0; backlog < BACKLOGS; backlog++) {
+            UserBacklogStats backlogStats = byBacklog.computeIfAbsent(backlog, key -> UserBacklogStats.builder()
+                    .userId(user.get().getId())
+                    .backlog(key)
+                    .build());
+            backlogStats.setGames(0L);
+            backlogStats.setPlayedGames(0L);
+            backlogStats.setCompletedGames(0L);
+            backlogStats.setFinishedGames(0L);
+            backlogStats.setTimePlayed(0L);
+            backlogStats.setAchivements(0L);
+            backlogStats.setTotalAchivements(0L);
+        }
+
+        for (BacklogStatsProjection actual : userGamesRepository.findBacklogStatsByUsername(username)) {
+            UserBacklogStats backlogStats = byBacklog.get(BacklogStatsDelta.backlog(actual.getBacklog()));
+            backlogStats.setGames(backlogStats.getGames() + actual.getGames());
+            backlogStats.setPlayedGames(backlogStats.getPlayedGames() + actual.getPlayedGames());
+            backlogStats.setCompletedGames(backlogStats.getCompletedGames() + actual.getCompletedGames());
+            backlogStats.setFinishedGames(backlogStats.getFinishedGames() + actual.getFinishedGames());
+            backlogStats.setTimePlayed(backlogStats.getTimePlayed() + actual.getTimePlayed());
+            backlogStats.setAchivements(backlogStats.getAchivements() + actual.getAchivements());
+            backlogStats.setTotalAchivements(backlogStats.getTotalAchivements() + actual.getTotalAchivements());
+        }
+
+        try {
+            return repository.saveAll(byBacklog.values());
+        } catch (DataIntegrityViolationException ex) {
+            // Another request built the stats first
+            return repository.findByUsername(username);
+        }
+    }
+
+    /**
+     * Map the stats of each backlog to a response.
+     *
+     * @param backlogs The stats of each backlog.
+     * @return The response.
+     */
+    private StatsResponse toStatsResponse(List<? extends BacklogStatsProjection> backlogs) {
+        // Index 0 to 2 hold backlogs 1 to 3, index 3 the games without one of those backlogs
+        int[] games = new int[4];
+        int[] played = new int[4];
+        int[] time = new int[4];
+        int[] achivements = new int[4];
+        int[] totalAchivements = new int[4];
+        int completedGames = 0;
+        int finishedGames = 0;
+        for (BacklogStatsProjection backlog : backlogs) {
+            int level = BacklogStatsDelta.backlog(backlog.getBacklog());
+            int index = level == 0 ? 3 : level - 1;
+            games[index] += backlog.getGames().intValue();
+            played[index] += backlog.getPlayedGames().intValue();
+            time[index] += backlog.getTimePlayed().intValue();
+            achivements[index] += backlog.getAchivements().intValue();
+            totalAchivements[index] += backlog.getTotalAchivements().intValue();
+            completedGames += backlog.getCompletedGames().intValue();
+            finishedGames += backlog.getFinishedGames().intValue();
+        }
+
+        return StatsResponse.builder()
+                .numOfGames(toBacklogResponse(games))
+                .numOfCompletedGames(completedGames)
+                .numOfFinishedGames(finishedGames)
+                .numOfPlayedGames(toBacklogResponse(played))
+                .numOfTotalTime(toBacklogResponse(time))
+                .numOfCompletedAchivements(toBacklogResponse(achivements))
+                .numOfTotalAchivements(toBacklogResponse(totalAchivements))
+                .build();
+    }
+
+    /**
+     * Map the values of each backlog to a response.
+     *
+     * @param values The values of backlogs 1 to 3 and of the games without backlog.
+     * @return The response.
+     */
+    private BacklogResponse toBacklogResponse(int[] values) {
+        return BacklogResponse.builder()
+                .backlog1(values[0])
+                .backlog2(values[1])
+                .backlog3(values[2])
+                .backlogNA(values[3])
+                .build();
+    }
+}
@@ -0,0 +1,120 @@
+package quantum.utils;
+
+import quantum.model.UserGame;
+
+import java.util.Arrays;
+import java.util.Objects;
+
+/**
+ * Changes to the backlog stats of a user, collected while user games are created, updated or deleted.
+ * <p>
+ * Backlog 0 holds the games without backlog 1, 2 or 3, like the stored stats.
+ */
+public class BacklogStatsDelta {
+
+    public static final int BACKLOGS = 4;
+
+    public static final int GAMES = 0;
+    public static final int PLAYED_GAMES = 1;
+    public static final int COMPLETED_GAMES = 2;
+    public static final int FINISHED_GAMES = 3;
+    public static final int TIME_PLAYED = 4;
+    public static final int ACHIVEMENTS = 5;
+    public static final int TOTAL_ACHIVEMENTS = 6;
+
+    private final long[][] values = new long[BACKLOGS][7];
+
+    /**
+     * Get the stats backlog of a user game backlog.
+     *
+     * @param backlog The user game backlog.
+     * @return The stats backlog.
+     */
+    public static int backlog(Integer backlog) {
+        return backlog != null && backlog >= 1 && backlog <= 3 ? backlog : 0;
+    }
+
+    /**
+     * Count a user game in the stats.
+     *
+     * @param userGame The user game.
+     * @return This delta.
+     */
+    public BacklogStatsDelta add(UserGame userGame) {
+        return apply(userGame, 1);
+    }
+
+    /**
+     * Discount a user game from the stats, call it before the user game is modified.
+     *
+     * @param userGame The user game.
+     * @return This delta.
+     */
+    public BacklogStatsDelta remove(UserGame userGame) {
+        return apply(userGame, -1);
+    }
+
+    /**
+     * Count a change of the time played of a user game.
+     *
+     * @param backlog The user game backlog.
+     * @param before  The time played before.
+     * @param after   The time played after.
+     * @return This delta.
+     */
+    public BacklogStatsDelta timePlayed(Integer backlog, Integer before, Integer after) {
+        long[] stats = values[backlog(backlog)];
+        stats[PLAYED_GAMES] += played(after) - played(before);
+        stats[TIME_PLAYED] += (long) Objects.requireNonNullElse(after, 0) - Objects.requireNonNullElse(before, 0);
+        return this;
+    }
+
+    /**
+     * Get the changes of a backlog.
+     *
+     * @param backlog The stats backlog.
+     * @return The changes, indexed by the stat constants.
+     */
+    public long[] get(int backlog) {
+        return values[backlog];
+    }
+
+    /**
+     * Whether a backlog has no changes.
+     *
+     * @param backlog The stats backlog.
+     * @return True if nothing changed.
+     */
+    public boolean isEmpty(int backlog) {
+        return Arrays.stream(values[backlog]).allMatch(value -> value == 0);
+    }
+
+    /**
+     * Add or subtract a user game from the stats.
+     *
+     * @param userGame The user game.
+     * @param sign     1 to add, -1 to subtract.
+     * @return This delta.
+     */
+    private BacklogStatsDelta apply(UserGame userGame, int sign) {
+        long[] stats = values[backlog(userGame.getBacklog())];
+        stats[GAMES] += sign;
+        stats[PLAYED_GAMES] += sign * played(userGame.getTimePlayed());
+        stats[COMPLETED_GAMES] += Objects.equals(userGame.getAchivements(), userGame.getTotalAchivements()) ? sign : 0;
+        stats[FINISHED_GAMES] += Boolean.TRUE.equals(userGame.getFinished()) ? sign : 0;
+        stats[TIME_PLAYED] += (long) sign * Objects.requireNonNullElse(userGame.getTimePlayed(), 0);
+        stats[ACHIVEMENTS] += (long) sign * Objects.requireNonNullElse(userGame.getAchivements(), 0);
+        stats[TOTAL_ACHIVEMENTS] += (long) sign * Objects.requireNonNullElse(userGame.getTotalAchivements(), 0);
+        return this;
+    }
+
+    /**
+     * Whether a time played counts as played.
+     *
+     * @param timePlayed The time played.
+     * @return 1 if played, 0 otherwise.
+     */
+    private static int played(Integer timePlayed) {
+        return timePlayed != null && timePlayed > 0 ? 1 : 0;
+    }
+}
@@ -0,0 +1,74 @@
+package quantum.utils;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+
+/**
+ * Lock-free accumulator for the results of a parallel import.
+ * <p>
+ * Workers add each result together with the position of the input it came from. In ordered mode every position
+ * owns its own slot, so concurrent adds never touch the same memory, and the slots are merged in input order once
+ * all workers are done. In unordered mode results are appended to a lock-free queue.
+ *
+ * @param <T> The result type.
+ */
+public final class ImportCollector<T> {
+
+    private final AtomicReferenceArray<T> slots;
+    private final Queue<T> queue;
+
+    private ImportCollector(AtomicReferenceArray<T> slots, Queue<T> queue) {
+        this.slots = slots;
+        this.queue = queue;
+    }
+
+    /**
+     * Create a collector.
+     *
+     * @param size      The number of inputs of the import.
+     * @param keepOrder Whether the results must keep the input order.
+     * @param <T>       The result type.
+     * @return The collector.
+     */
+    public static <T> ImportCollector<T> of(int size, boolean keepOrder) {
+        return keepOrder
+                ? new ImportCollector<>(new AtomicReferenceArray<>(size), null)
+                : new ImportCollector<>(null, new ConcurrentLinkedQueue<>());
+    }
+
+    /**
+     * Add a result, safe to call from any thread.
+     *
+     * @param index  The position of the input the result belongs to.
+     * @param result The result.
+     */
+    public void add(long index, T result) {
+        if (slots == null) {
+            queue.add(result);
+        } else if (!slots.compareAndSet(Math.toIntExact(index), null, result)) {
+            throw new IllegalStateException("Result already collected for input " + index);
+        }
+    }
+
+    /**
+     * Merge the collected results, inputs without result are skipped.
+     *
+     * @return The results.
+     */
+    public List<T> toList() {
+        if (slots == null) {
+            return new ArrayList<>(queue);
+        }
+        List<T> results = new ArrayList<>(slots.length());
+        for (int i = 0; i < slots.length(); i++) {
+            T result = slots.get(i);
+            if (result != null) {
+                results.add(result);
+            }
+        }
+        return results;
+    }
+}
@@ -0,0 +1,67 @@
+package quantum.utils;
+
+import com.fasterxml.jackson.databind.DeserializationFeature;
+import com.fasterxml.jackson.databind.MappingIterator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectReader;
+import com.fasterxml.jackson.dataformat.csv.CsvMapper;
+import com.fasterxml.jackson.dataformat.csv.CsvSchema;
+import org.springframework.http.HttpStatus;
+import quantum.dto.userGames.steamImport.UserGameImport;
+import quantum.exceptions.QuantumLibraryGenericException;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.Locale;
+
+/**
+ * Formats of the library files that can be imported.
+ * <p>
+ * Rows are read one at a time with the Jackson streaming parser, unknown columns and fields are ignored so exports of
+ * other trackers can be imported as they are.
+ */
+public enum ImportFileFormat {
+
+    /**
+     * One json object per line, as import list rows or as the rows of the library export.
+     */
+    NDJSON(new ObjectMapper().readerFor(UserGameImport.class)),
+
+    /**
+     * Comma separated values with a header row, tags are separated by semicolons.
+     */
+    CSV(new CsvMapper().readerFor(UserGameImport.class)
+            .with(CsvSchema.emptySchema().withHeader().withArrayElementSeparator(";")));
+
+    private final ObjectReader reader;
+
+    ImportFileFormat(ObjectReader reader) {
+        this.reader = reader.without(DeserializationFeature.FAIL_ON_UNKNOWN_PROPERTIES);
+    }
+
+    /**
+     * Find the format of a file from its name, or its content type otherwise.
+     *
+     * @param filename    The file name.
+     * @param contentType The content type.
+     * @return The format.
+     */
+    public static ImportFileFormat of(String filename, String contentType) {
+        String name = filename == null ? "" : filename.toLowerCase(Locale.ROOT);
+        String type = contentType == null ? "" : contentType.toLowerCase(Locale.ROOT);
+        if (name.endsWith(".ndjson") || name.endsWith(".jsonl") || type.startsWith("application/x-ndjson")) return NDJSON;
+        if (name.endsWith(".csv") || type.startsWith("text/csv")) return CSV;
+        throw new QuantumLibraryGenericException("Unsupported file", "Import files must be NDJSON or CSV", HttpStatus.BAD_REQUEST);
+    }
+
+    /**
+     * Start reading the rows of a file.
+     *
+     * @param inputStream The file content.
+     * @return The rows, the iterator must be closed.
+     * @throws IOException if the file can not be read.
+     */
+    public MappingIterator<UserGameImport> read(InputStream inputStream) throws IOException {
+        return reader.readValues(inputStream);
+    }
+}
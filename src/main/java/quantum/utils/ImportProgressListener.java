@@ -0,0 +1,39 @@
+package quantum.utils;
+
+import reactor.core.Exceptions;
+
+/**
+ * Listener for the progress of a steam import, called from the import pipeline threads.
+ */
+public interface ImportProgressListener {
+
+    /**
+     * Listener that ignores the progress and fails the import on the first failed app.
+     */
+    ImportProgressListener NONE = new ImportProgressListener() {
+    };
+
+    /**
+     * Called once the owned games are known.
+     *
+     * @param apps The number of owned apps.
+     */
+    default void appsFound(int apps) {
+    }
+
+    /**
+     * Called when an app is resolved, whether it produced an import entry or not.
+     */
+    default void appResolved() {
+    }
+
+    /**
+     * Called when an app could not be resolved. Return normally to skip the app, throw to fail the import.
+     *
+     * @param appId The steam app id.
+     * @param error The error.
+     */
+    default void appFailed(Long appId, Throwable error) {
+        throw Exceptions.propagate(error);
+    }
+}
@@ -0,0 +1,37 @@
+package quantum.utils;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.function.Function;
+
+/**
+ * Helpers of the queries filtering by an IN list of values.
+ * <p>
+ * Lists of values of any size are queried in chunks, which keeps every IN list under the database parameter limits.
+ */
+public final class InLists {
+
+    public static final int CHUNK_SIZE = 1000;
+
+    private InLists() {
+    }
+
+    /**
+     * Run a query once per chunk of values and collect the results.
+     *
+     * @param values The values of the IN list.
+     * @param query  The query of a chunk of values.
+     * @param <T>    The type of the values.
+     * @param <R>    The type of the results.
+     * @return The results of every chunk.
+     */
+    public static <T, R> List<R> query(Collection<T> values, Function<List<T>, ? extends Collection<? extends R>> query) {
+        List<T> list = new ArrayList<>(values);
+        List<R> results = new ArrayList<>(list.size());
+        for (int from = 0; from < list.size(); from += CHUNK_SIZE) {
+            results.addAll(query.apply(list.subList(from, Math.min(from + CHUNK_SIZE, list.size()))));
+        }
+        return results;
+    }
+}
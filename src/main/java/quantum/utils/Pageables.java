@@ -0,0 +1,28 @@
+package quantum.utils;
+
+import org.springframework.data.domain.Pageable;
+
+/**
+ * Pageable helpers of the list endpoints.
+ * <p>
+ * The list endpoints return every element when no size is requested. Slice queries ask for one element more than the
+ * page size, so the unbounded default is run as an unpaged query instead of overflowing the limit.
+ */
+public final class Pageables {
+
+    // Default size of the list endpoints, a request without size gets every element
+    public static final int UNBOUNDED = Integer.MAX_VALUE;
+
+    private Pageables() {
+    }
+
+    /**
+     * Get the pageable of a slice query.
+     *
+     * @param pageable The requested page.
+     * @return The requested page, unpaged with the same sort if the page is unbounded.
+     */
+    public static Pageable slice(Pageable pageable) {
+        return pageable.isPaged() && pageable.getPageSize() == UNBOUNDED ? Pageable.unpaged(pageable.getSort()) : pageable;
+    }
+}
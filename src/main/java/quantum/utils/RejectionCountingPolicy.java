@@ -0,0 +1,32 @@
+package quantum.utils;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+
+import java.util.concurrent.RejectedExecutionHandler;
+import java.util.concurrent.ThreadPoolExecutor;
+
+/**
+ * Rejection policy of the bounded executors, counts the tasks rejected in {@code executor.rejected} and aborts them.
+ * <p>
+ * The counter is tagged with the executor bean name, like the executor metrics Spring Boot binds, so rejections can
+ * be read next to the active count and the queue depth.
+ */
+public class RejectionCountingPolicy implements RejectedExecutionHandler {
+
+    private final Counter rejected;
+    private final RejectedExecutionHandler delegate = new ThreadPoolExecutor.AbortPolicy();
+
+    public RejectionCountingPolicy(MeterRegistry meterRegistry, String executorName) {
+        this.rejected = Counter.builder("executor.rejected")
+                .description("Tasks rejected because the executor queue was full")
+                .tag("name", executorName)
+                .register(meterRegistry);
+    }
+
+    @Override
+    public void rejectedExecution(Runnable task, ThreadPoolExecutor executor) {
+        rejected.increment();
+        delegate.rejectedExecution(task, executor);
+    }
+}
@@ -0,0 +1,117 @@
+package quantum.utils;
+
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.springframework.data.domain.*;
+import org.springframework.http.HttpStatus;
+import quantum.exceptions.QuantumLibraryGenericException;
+
+import java.io.IOException;
+import java.util.Base64;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * Opaque continuation tokens for keyset scrolling.
+ * <p>
+ * A token is the url safe base64 json of the sort keys of the last element returned, the next window seeks past it
+ * on {@code (sortKey, id)} so every window costs the same no matter how deep the scroll is. An empty token starts
+ * from the beginning.
+ */
+public final class ScrollCursor {
+
+    // Upper bound of a window, the list endpoints default to unbounded pages
+    public static final int MAX_SIZE = 500;
+
+    private static final String ID = "id";
+    private static final ObjectMapper OBJECT_MAPPER = new ObjectMapper();
+    private static final TypeReference<LinkedHashMap<String, Object>> KEYS = new TypeReference<>() {
+    };
+
+    private ScrollCursor() {
+    }
+
+    /**
+     * Build the sort of a scroll, only the allowed keys are accepted and the id is always the last key.
+     *
+     * @param sort     The requested sort.
+     * @param keyTypes The allowed sort keys and their types.
+     * @return The sort.
+     */
+    public static Sort sort(Sort sort, Map<String, Class<?>> keyTypes) {
+        for (Sort.Order order : sort) {
+            if (!keyTypes.containsKey(order.getProperty())) {
+                throw invalid("Sort by " + order.getProperty() + " is not supported with a cursor");
+            }
+        }
+        return sort.getOrderFor(ID) != null ? sort : sort.and(Sort.by(ID));
+    }
+
+    /**
+     * Get the window size of a scroll.
+     *
+     * @param pageable The requested page.
+     * @return The window size.
+     */
+    public static Limit limit(Pageable pageable) {
+        return Limit.of(pageable.isPaged() ? Math.min(pageable.getPageSize(), MAX_SIZE) : MAX_SIZE);
+    }
+
+    /**
+     * Decode a token into the position to scroll from.
+     *
+     * @param cursor   The token, empty to start from the beginning.
+     * @param sort     The sort of the scroll.
+     * @param keyTypes The allowed sort keys and their types.
+     * @return The position.
+     */
+    public static KeysetScrollPosition decode(String cursor, Sort sort, Map<String, Class<?>> keyTypes) {
+        if (cursor == null || cursor.isEmpty()) return ScrollPosition.keyset();
+
+        Map<String, Object> keys;
+        try {
+            keys = OBJECT_MAPPER.readValue(Base64.getUrlDecoder().decode(cursor), KEYS);
+        } catch (IllegalArgumentException | IOException e) {
+            throw invalid("Malformed cursor");
+        }
+
+        // The token must come from a scroll with the same sort
+        Map<String, Object> typedKeys = new LinkedHashMap<>();
+        for (Sort.Order order : sort) {
+            Object key = keys.get(order.getProperty());
+            if (key == null || keys.size() != sort.stream().count()) throw invalid("Cursor does not match the sort");
+            try {
+                typedKeys.put(order.getProperty(), OBJECT_MAPPER.convertValue(key, keyTypes.get(order.getProperty())));
+            } catch (IllegalArgumentException e) {
+                throw invalid("Malformed cursor");
+            }
+        }
+        return ScrollPosition.forward(typedKeys);
+    }
+
+    /**
+     * Encode the position after the last element of a window.
+     *
+     * @param window The window.
+     * @return The token, null if there are no more elements.
+     */
+    public static String encode(Window<?> window) {
+        if (window.isEmpty() || !window.hasNext()) return null;
+        KeysetScrollPosition position = (KeysetScrollPosition) window.positionAt(window.size() - 1);
+        try {
+            return Base64.getUrlEncoder().withoutPadding().encodeToString(OBJECT_MAPPER.writeValueAsBytes(position.getKeys()));
+        } catch (IOException e) {
+            throw new IllegalStateException("Cursor can not be serialized", e);
+        }
+    }
+
+    /**
+     * Build the error of an invalid scroll request.
+     *
+     * @param message The error message.
+     * @return The exception.
+     */
+    private static QuantumLibraryGenericException invalid(String message) {
+        return new QuantumLibraryGenericException("Invalid cursor", message, HttpStatus.BAD_REQUEST);
+    }
+}
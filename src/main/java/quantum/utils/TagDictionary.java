@@ -0,0 +1,159 @@
+package quantum.utils;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.dao.DataAccessResourceFailureException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+
+import javax.sql.DataSource;
+import java.sql.*;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * In memory copy of the tag dictionary, mapping tag names to their ids and back.
+ * <p>
+ * Services register the tags of the entities they save before saving them, so {@link TagIdConverter} only reads the
+ * cache while Hibernate is flushing. Unknown names are still added to the dictionary on first use. The dictionary is
+ * accessed with plain JDBC because the entity manager can not be used while flushing. New tags are committed on their
+ * own connection, so the ids cached stay valid if the caller transaction rolls back.
+ */
+@Slf4j
+@Component
+public class TagDictionary {
+
+    private static final String SELECT_ALL = "SELECT tag_id, name FROM tags_t";
+    private static final String SELECT_ID = "SELECT tag_id FROM tags_t WHERE name = ?";
+    private static final String SELECT_NAME = "SELECT name FROM tags_t WHERE tag_id = ?";
+    private static final String INSERT = "INSERT INTO tags_t (name) VALUES (?)";
+
+    private final JdbcTemplate jdbcTemplate;
+    private final Map<String, Integer> idsByName = new ConcurrentHashMap<>();
+    private final Map<Integer, String> namesById = new ConcurrentHashMap<>();
+
+    // The shared JdbcTemplate depends on the entity manager factory, which needs the dictionary for the tag converter
+    @Autowired
+    public TagDictionary(DataSource dataSource) {
+        this(new JdbcTemplate(dataSource));
+    }
+
+    TagDictionary(JdbcTemplate jdbcTemplate) {
+        this.jdbcTemplate = jdbcTemplate;
+    }
+
+    /**
+     * Load every tag of the dictionary.
+     */
+    public void load() {
+        jdbcTemplate.query(SELECT_ALL, rs -> {
+            put(rs.getInt(1), rs.getString(2));
+        });
+        log.info("[TAG DICTIONARY] - Loaded {} tags", namesById.size());
+    }
+
+    /**
+     * Get the id of a tag, adding it to the dictionary if it is new.
+     *
+     * @param name The tag name.
+     * @return The tag id.
+     */
+    public Integer idOf(String name) {
+        Integer id = idsByName.get(name);
+        if (id != null) return id;
+        // Database access outside the map, computeIfAbsent would keep the bin locked while waiting for a connection
+        id = findOrInsert(name);
+        Integer cached = idsByName.putIfAbsent(name, id);
+        return cached != null ? cached : id;
+    }
+
+    /**
+     * Add the tags missing from the dictionary, called before saving entities with the tags.
+     *
+     * @param names The tag names, may be null.
+     */
+    public void register(Collection<String> names) {
+        if (names == null) return;
+        for (String name : names) {
+            if (name != null) idOf(name);
+        }
+    }
+
+    /**
+     * Get the name of a tag.
+     *
+     * @param id The tag id.
+     * @return The tag name, the same instance for every game with the tag.
+     */
+    public String nameOf(Integer id) {
+        String name = namesById.get(id);
+        if (name != null) return name;
+        List<String> names = jdbcTemplate.queryForList(SELECT_NAME, String.class, id);
+        if (names.isEmpty()) throw new IllegalStateException("Tag " + id + " not found");
+        put(id, names.getFirst());
+        return namesById.get(id);
+    }
+
+    /**
+     * Find the id of a tag in the database, inserting the tag if it is missing.
+     *
+     * @param name The tag name.
+     * @return The tag id.
+     */
+    private Integer findOrInsert(String name) {
+        List<Integer> ids = jdbcTemplate.queryForList(SELECT_ID, Integer.class, name);
+        if (!ids.isEmpty()) return cacheName(ids.getFirst(), name);
+        // Own auto commit connection, a tag added while flushing must not be rolled back with the caller transaction
+        try (Connection connection = dataSource().getConnection();
+             PreparedStatement statement = connection.prepareStatement(INSERT, Statement.RETURN_GENERATED_KEYS)) {
+            connection.setAutoCommit(true);
+            statement.setString(1, name);
+            statement.executeUpdate();
+            try (ResultSet keys = statement.getGeneratedKeys()) {
+                keys.next();
+                log.debug("[TAG DICTIONARY] - Added tag {}", name);
+                return cacheName(keys.getInt(1), name);
+            }
+        } catch (SQLIntegrityConstraintViolationException e) {
+            // Inserted by another transaction in the meantime
+            return cacheName(jdbcTemplate.queryForObject(SELECT_ID, Integer.class, name), name);
+        } catch (SQLException e) {
+            throw new DataAccessResourceFailureException("Could not add tag " + name, e);
+        }
+    }
+
+    /**
+     * Get the data source, connections taken from it directly are not bound to the current transaction.
+     *
+     * @return The data source.
+     */
+    private DataSource dataSource() {
+        return Objects.requireNonNull(jdbcTemplate.getDataSource());
+    }
+
+    /**
+     * Add a tag to the name lookup.
+     *
+     * @param id   The tag id.
+     * @param name The tag name.
+     * @return The tag id.
+     */
+    private Integer cacheName(Integer id, String name) {
+        namesById.putIfAbsent(id, name);
+        return id;
+    }
+
+    /**
+     * Add a tag to both lookups.
+     *
+     * @param id   The tag id.
+     * @param name The tag name.
+     */
+    private void put(Integer id, String name) {
+        String interned = namesById.computeIfAbsent(id, key -> name);
+        idsByName.putIfAbsent(interned, id);
+    }
+}
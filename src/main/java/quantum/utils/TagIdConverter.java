@@ -0,0 +1,29 @@
+package quantum.utils;
+
+import jakarta.persistence.AttributeConverter;
+import jakarta.persistence.Converter;
+import org.springframework.stereotype.Component;
+
+/**
+ * Stores tag names as ids of the {@link TagDictionary}.
+ */
+@Component
+@Converter
+public class TagIdConverter implements AttributeConverter<String, Integer> {
+
+    private final TagDictionary tagDictionary;
+
+    public TagIdConverter(TagDictionary tagDictionary) {
+        this.tagDictionary = tagDictionary;
+    }
+
+    @Override
+    public Integer convertToDatabaseColumn(String name) {
+        return name != null ? tagDictionary.idOf(name) : null;
+    }
+
+    @Override
+    public String convertToEntityAttribute(Integer id) {
+        return id != null ? tagDictionary.nameOf(id) : null;
+    }
+}
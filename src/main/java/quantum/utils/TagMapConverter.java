@@ -0,0 +1,37 @@
+package quantum.utils;
+
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import jakarta.persistence.AttributeConverter;
+import jakarta.persistence.Converter;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+@Converter
+public class TagMapConverter implements AttributeConverter<Map<String, Integer>, String> {
+
+    private static final ObjectMapper OBJECT_MAPPER = new ObjectMapper();
+    private static final TypeReference<LinkedHashMap<String, Integer>> TAG_MAP = new TypeReference<>() {
+    };
+
+    @Override
+    public String convertToDatabaseColumn(Map<String, Integer> tags) {
+        try {
+            return tags != null ? OBJECT_MAPPER.writeValueAsString(tags) : "{}";
+        } catch (JsonProcessingException e) {
+            throw new IllegalArgumentException("Tags can not be serialized", e);
+        }
+    }
+
+    @Override
+    public Map<String, Integer> convertToEntityAttribute(String string) {
+        try {
+            return string != null && !string.isEmpty() ? OBJECT_MAPPER.readValue(string, TAG_MAP) : new LinkedHashMap<>();
+        } catch (JsonProcessingException e) {
+            return new LinkedHashMap<>();
+        }
+    }
+}
@@ -0,0 +1,114 @@
+package quantum.utils;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.ApplicationArguments;
+import org.springframework.boot.ApplicationRunner;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+
+import java.sql.Connection;
+import java.sql.DatabaseMetaData;
+import java.sql.ResultSet;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Copies the tags of the legacy string tag tables to the tag dictionary join tables on startup, then loads the
+ * dictionary.
+ * <p>
+ * On MySQL the tag names get a binary collation first, so tags that only differ in case are different tags. A table is
+ * only copied while its join table is empty, the legacy tables are left untouched.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class TagTableMigration implements ApplicationRunner {
+
+    private static final int BATCH_SIZE = 1000;
+    private static final String BINARY_COLLATION = "utf8mb4_bin";
+
+    private final JdbcTemplate jdbcTemplate;
+    private final TagDictionary tagDictionary;
+
+    @Override
+    public void run(ApplicationArguments args) {
+        collateTagNames();
+        migrate("game_tags", "game_game_id", "game_tags_t", "game_id");
+        migrate("user_game_tags", "user_game_user_game_id", "user_game_tags_t", "user_game_id");
+        tagDictionary.load();
+    }
+
+    //------------------------------------- PRIVATE METHODS -------------------------------------//
+
+    /**
+     * Set the binary collation on the tag names of a MySQL database, Hibernate creates them with the default one.
+     */
+    private void collateTagNames() {
+        String database = jdbcTemplate.execute((Connection connection) -> connection.getMetaData().getDatabaseProductName());
+        if (!"MySQL".equals(database)) return;
+        List<String> collation = jdbcTemplate.queryForList("SELECT collation_name FROM information_schema.columns "
+                + "WHERE table_schema = DATABASE() AND table_name = 'tags_t' AND column_name = 'name'", String.class);
+        if (collation.isEmpty() || BINARY_COLLATION.equals(collation.getFirst())) return;
+
+        jdbcTemplate.execute("ALTER TABLE tags_t MODIFY name VARCHAR(255) NOT NULL COLLATE " + BINARY_COLLATION);
+        log.info("[TAG MIGRATION] - Changed the collation of the tag names from {} to {}", collation.getFirst(), BINARY_COLLATION);
+    }
+
+    /**
+     * Copy a legacy tag table to its join table.
+     *
+     * @param legacyTable  The legacy table, with the tag names.
+     * @param legacyColumn The owner column of the legacy table.
+     * @param table        The join table, with the tag ids.
+     * @param column       The owner column of the join table.
+     */
+    private void migrate(String legacyTable, String legacyColumn, String table, String column) {
+        if (!tableExists(legacyTable)) return;
+        Integer rows = jdbcTemplate.queryForObject("SELECT COUNT(*) FROM " + table, Integer.class);
+        if (rows == null || rows > 0) return;
+
+        String insert = "INSERT INTO " + table + " (" + column + ", tag_id) VALUES (?, ?)";
+        List<Object[]> batch = new ArrayList<>(BATCH_SIZE);
+        int[] copied = {0};
+        jdbcTemplate.query("SELECT " + legacyColumn + ", tags FROM " + legacyTable + " WHERE tags IS NOT NULL", rs -> {
+            batch.add(new Object[]{rs.getLong(1), tagDictionary.idOf(rs.getString(2))});
+            if (batch.size() == BATCH_SIZE) {
+                copied[0] += flush(insert, batch);
+            }
+        });
+        copied[0] += flush(insert, batch);
+        log.info("[TAG MIGRATION] - Copied {} tags from {} to {}", copied[0], legacyTable, table);
+    }
+
+    /**
+     * Insert a batch of rows and clear it.
+     *
+     * @param insert The insert statement.
+     * @param batch  The rows.
+     * @return The number of rows inserted.
+     */
+    private int flush(String insert, List<Object[]> batch) {
+        if (batch.isEmpty()) return 0;
+        jdbcTemplate.batchUpdate(insert, batch);
+        int size = batch.size();
+        batch.clear();
+        return size;
+    }
+
+    /**
+     * Check if a table exists in the current schema.
+     *
+     * @param name The table name.
+     * @return If the table exists.
+     */
+    private boolean tableExists(String name) {
+        Boolean exists = jdbcTemplate.execute((Connection connection) -> {
+            DatabaseMetaData metaData = connection.getMetaData();
+            try (ResultSet tables = metaData.getTables(connection.getCatalog(), null, name, new String[]{"TABLE"})) {
+                return tables.next();
+            }
+        });
+        return Boolean.TRUE.equals(exists);
+    }
+}
@@ -0,0 +1,97 @@
+package quantum.utils;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PreDestroy;
+import jdk.jfr.consumer.RecordedEvent;
+import jdk.jfr.consumer.RecordedFrame;
+import jdk.jfr.consumer.RecordingStream;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnThreading;
+import org.springframework.boot.autoconfigure.thread.Threading;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.stream.Collectors;
+
+/**
+ * Reports virtual threads pinned to their carrier, from the {@code jdk.VirtualThreadPinned} JFR events.
+ * <p>
+ * A virtual thread blocking inside a {@code synchronized} block or a native frame keeps its carrier thread, so a
+ * library doing I/O while holding a monitor caps the concurrency at the number of carriers. Pinned threads over the
+ * threshold are counted in {@code jvm.threads.virtual.pinned} and logged with the frames that pinned them.
+ */
+@Slf4j
+@Component
+@ConditionalOnThreading(Threading.VIRTUAL)
+@ConditionalOnProperty(name = "virtual-threads.pinning-monitor.enabled", havingValue = "true", matchIfMissing = true)
+public class VirtualThreadPinningMonitor {
+
+    private static final String PINNED_EVENT = "jdk.VirtualThreadPinned";
+    private static final String VIRTUAL_THREAD_CLASS = "java.lang.VirtualThread";
+    private static final int LOGGED_FRAMES = 8;
+
+    private final Counter pinned;
+    private final Duration threshold;
+    private RecordingStream stream;
+
+    @Autowired
+    public VirtualThreadPinningMonitor(MeterRegistry meterRegistry,
+                                       @Value("${virtual-threads.pinning-monitor.threshold:20ms}") Duration threshold) {
+        this.pinned = Counter.builder("jvm.threads.virtual.pinned")
+                .description("Virtual threads pinned to their carrier longer than the threshold")
+                .register(meterRegistry);
+        this.threshold = threshold;
+    }
+
+    /**
+     * Start listening to the pinned events once the application is ready.
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void start() {
+        stream = new RecordingStream();
+        stream.enable(PINNED_EVENT).withThreshold(threshold).withStackTrace();
+        stream.onEvent(PINNED_EVENT, this::onPinned);
+        stream.startAsync();
+        log.info("[PINNING MONITOR] - Reporting virtual threads pinned longer than {} ms", threshold.toMillis());
+    }
+
+    /**
+     * Stop listening to the pinned events.
+     */
+    @PreDestroy
+    public void stop() {
+        if (stream != null) stream.close();
+    }
+
+    /**
+     * Count and log a pinned event.
+     *
+     * @param event The event.
+     */
+    private void onPinned(RecordedEvent event) {
+        pinned.increment();
+        String frames = event.getStackTrace() == null ? "unknown" : event.getStackTrace().getFrames().stream()
+                .filter(frame -> !frame.getMethod().getType().getName().equals(VIRTUAL_THREAD_CLASS))
+                .limit(LOGGED_FRAMES)
+                .map(this::frame)
+                .collect(Collectors.joining("\n\tat ", "\n\tat ", ""));
+        log.warn("[PINNING MONITOR] - Virtual thread {} pinned for {} ms{}",
+                event.getThread() == null ? "unknown" : event.getThread().getJavaThreadId(), event.getDuration().toMillis(), frames);
+    }
+
+    /**
+     * Format a stack frame.
+     *
+     * @param frame The frame.
+     * @return The class, method and line of the frame.
+     */
+    private String frame(RecordedFrame frame) {
+        return frame.getMethod().getType().getName() + "." + frame.getMethod().getName() + ":" + frame.getLineNumber();
+    }
+}
@@ -16,6 +16,7 @@ import quantum.dto.game.GameResponse;
 import quantum.dto.game.NewGameBody;
 import quantum.dto.game.UpdateGameBody;
 import quantum.model.Game;
+import quantum.utils.Pageables;
 
 /**
  * The api interface for {@link Game} entity.
@@ -28,13 +29,15 @@ public interface GameApi {
     /**
      * GET to /api/games to fetch games list.
      *
+     * @param cursor   the cursor to scroll from, pages by offset without it
      * @param pageable the pageable
      * @return The list of games
      */
     @Operation(summary = "Get games list", description = "Get games list", parameters = {
             @Parameter(name = "page", description = "The page number"),
             @Parameter(name = "size", description = "The page size"),
-            @Parameter(name = "sort", description = "The sort order")
+            @Parameter(name = "sort", description = "The sort order"),
+            @Parameter(name = "cursor", description = "The cursor to scroll from, empty to start a scroll")
     })
     @ApiResponses(value = {
             @ApiResponse(responseCode = "200", description = "The list of games"),
@@ -44,7 +47,9 @@ public interface GameApi {
     })
     @GetMapping(value = "/games", produces = "application/json")
     ResponseEntity<GameListResponse> getGames(
-            @PageableDefault(value = Integer.MAX_VALUE)
+            @RequestParam(value = "cursor", required = false)
+            String cursor,
+            @PageableDefault(value = Pageables.UNBOUNDED)
             Pageable pageable
     );
 
@@ -0,0 +1,151 @@
+package quantum.web.api;
+
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.responses.ApiResponse;
+import io.swagger.v3.oas.annotations.responses.ApiResponses;
+import jakarta.validation.Valid;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.validation.annotation.Validated;
+import org.springframework.web.bind.annotation.*;
+import org.springframework.web.multipart.MultipartFile;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+import quantum.dto.importJob.ImportJobResponse;
+import quantum.dto.userGames.steamImport.UserGamesImportList;
+
+/**
+ * The api interface for import jobs.
+ */
+
+@Validated
+@RequestMapping("/api/import")
+public interface ImportJobApi {
+
+    /**
+     * POST to /api/import/steam/{steam_id} to start a steam import job.
+     *
+     * @param token   The token with the authentication information.
+     * @param steamId The steam id to import from.
+     * @return The job created.
+     */
+    @Operation(summary = "Start a steam import job", description = "Start a steam import job")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "202", description = "The job created"),
+            @ApiResponse(responseCode = "503", description = "Too many imports running"),
+            @ApiResponse(responseCode = "500", description = "Internal server error")
+    })
+    @PostMapping(value = "/steam/{steam_id}", produces = "application/json")
+    ResponseEntity<ImportJobResponse> startSteamImport(
+            @RequestHeader("Authorization")
+            String token,
+            @PathVariable("steam_id")
+            String steamId
+    );
+
+    /**
+     * POST to /api/import/steam/{steam_id}/sync to start a steam sync job.
+     *
+     * @param token   The token with the authentication information.
+     * @param steamId The steam id to sync from.
+     * @return The job created.
+     */
+    @Operation(summary = "Start a steam sync job", description = "Update the time played of owned games and import only the new ones")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "202", description = "The job created"),
+            @ApiResponse(responseCode = "503", description = "Too many imports running"),
+            @ApiResponse(responseCode = "500", description = "Internal server error")
+    })
+    @PostMapping(value = "/steam/{steam_id}/sync", produces = "application/json")
+    ResponseEntity<ImportJobResponse> startSteamSync(
+            @RequestHeader("Authorization")
+            String token,
+            @PathVariable("steam_id")
+            String steamId
+    );
+
+    /**
+     * POST to /api/import/games to start an import job for a list of games.
+     *
+     * @param token The token with the authentication information.
+     * @param body  Import list body.
+     * @return The job created.
+     */
+    @Operation(summary = "Start an import job", description = "Start an import job")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "202", description = "The job created"),
+            @ApiResponse(responseCode = "400", description = "Bad request"),
+            @ApiResponse(responseCode = "503", description = "Too many imports running"),
+            @ApiResponse(responseCode = "500", description = "Internal server error")
+    })
+    @PostMapping(value = "/games", produces = "application/json")
+    ResponseEntity<ImportJobResponse> startImport(
+            @RequestHeader("Authorization")
+            String token,
+            @Valid @RequestBody
+            UserGamesImportList body
+    );
+
+    /**
+     * POST to /api/import/file to start an import job for a NDJSON or CSV file.
+     *
+     * @param token The token with the authentication information.
+     * @param file  The file to import.
+     * @return The job created.
+     */
+    @Operation(summary = "Start a file import job", description = "Start an import job for a NDJSON or CSV file")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "202", description = "The job created"),
+            @ApiResponse(responseCode = "400", description = "Unsupported file"),
+            @ApiResponse(responseCode = "503", description = "Too many imports running"),
+            @ApiResponse(responseCode = "500", description = "Internal server error")
+    })
+    @PostMapping(value = "/file", consumes = MediaType.MULTIPART_FORM_DATA_VALUE, produces = "application/json")
+    ResponseEntity<ImportJobResponse> startFileImport(
+            @RequestHeader("Authorization")
+            String token,
+            @RequestPart("file")
+            MultipartFile file
+    );
+
+    /**
+     * GET to /api/import/{job_id} to get the progress of a job.
+     *
+     * @param token The token with the authentication information.
+     * @param jobId The job id.
+     * @return The job found.
+     */
+    @Operation(summary = "Get an import job", description = "Get an import job")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "The job found"),
+            @ApiResponse(responseCode = "404", description = "No results found"),
+            @ApiResponse(responseCode = "500", description = "Internal server error")
+    })
+    @GetMapping(value = "/{job_id}", produces = "application/json")
+    ResponseEntity<ImportJobResponse> getJob(
+            @RequestHeader("Authorization")
+            String token,
+            @PathVariable("job_id")
+            String jobId
+    );
+
+    /**
+     * GET to /api/import/{job_id}/events to stream the progress of a job.
+     *
+     * @param token The token with the authentication information.
+     * @param jobId The job id.
+     * @return The progress events.
+     */
+    @Operation(summary = "Stream an import job", description = "Stream an import job")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "The progress events"),
+            @ApiResponse(responseCode = "404", description = "No results found"),
+            @ApiResponse(responseCode = "500", description = "Internal server error")
+    })
+    @GetMapping(value = "/{job_id}/events", produces = "text/event-stream")
+    SseEmitter streamJob(
+            @RequestHeader("Authorization")
+            String token,
+            @PathVariable("job_id")
+            String jobId
+    );
+}
@@ -9,6 +9,7 @@ import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.PathVariable;
 import org.springframework.web.bind.annotation.RequestMapping;
 import quantum.dto.userGames.steamImport.UserGamesImportList;
+import reactor.core.publisher.Mono;
 
 /**
  * The api interface for steam request.
@@ -50,7 +51,7 @@ public interface SteamApi {
             @ApiResponse(responseCode = "500", description = "Internal server error")
     })
     @GetMapping(value = "/games/{steam_id}", produces = "application/json")
-    ResponseEntity<UserGamesImportList> getGames(
+    Mono<ResponseEntity<UserGamesImportList>> getGames(
             @PathVariable("steam_id")
             String steamId);
 
@@ -9,6 +9,9 @@ import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.PathVariable;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RequestParam;
+import quantum.dto.sgdb.GridResponse;
+import quantum.dto.sgdb.SGDBGridSuccessResponse;
+import reactor.core.publisher.Mono;
 
 /**
  * The api interface for sgdb request.
@@ -50,11 +53,25 @@ public interface SteamGridDBApi {
             @ApiResponse(responseCode = "500", description = "Internal server error")
     })
     @GetMapping(value = "/getGrids/{game_sgdb_id}", produces = "application/json")
-    ResponseEntity<String> getGrids(
+    Mono<ResponseEntity<SGDBGridSuccessResponse>> getGrids(
             @PathVariable("game_sgdb_id")
             Long gameSgdbId);
 
-}
-
-
+    /**
+     * GET to /api/sgdb/getGrid/{game_sgdb_id} to get the grid chosen as cover of a game.
+     *
+     * @param gameSgdbId The SGDB game id.
+     * @return The grid chosen.
+     */
+    @Operation(summary = "Get the grid chosen as cover of a SGDB game", description = "Get the grid chosen as cover of a SGDB game by dimensions, style and NSFW flag")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "The grid chosen"),
+            @ApiResponse(responseCode = "404", description = "No suitable grid found"),
+            @ApiResponse(responseCode = "500", description = "Internal server error")
+    })
+    @GetMapping(value = "/getGrid/{game_sgdb_id}", produces = "application/json")
+    Mono<ResponseEntity<GridResponse>> getGrid(
+            @PathVariable("game_sgdb_id")
+            Long gameSgdbId);
 
+}
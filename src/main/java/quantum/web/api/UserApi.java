@@ -25,13 +25,15 @@ public interface UserApi {
     /**
      * GET to /api/users to fetch users list.
      *
+     * @param cursor   the cursor to scroll from, pages by offset without it
      * @param pageable the pageable
      * @return The list of users
      */
     @Operation(summary = "Get users list", description = "Get users list", parameters = {
             @Parameter(name = "page", description = "The page number"),
             @Parameter(name = "size", description = "The page size"),
-            @Parameter(name = "sort", description = "The sort order")
+            @Parameter(name = "sort", description = "The sort order"),
+            @Parameter(name = "cursor", description = "The cursor to scroll from, empty to start a scroll")
     })
     @ApiResponses(value = {
             @ApiResponse(responseCode = "200", description = "The list of users"),
@@ -43,6 +45,8 @@ public interface UserApi {
     ResponseEntity<UserListResponse> getUsers(
             @RequestHeader("Authorization")
             String token,
+            @RequestParam(value = "cursor", required = false)
+            String cursor,
             @PageableDefault
             Pageable pageable
     );
@@ -8,12 +8,15 @@ import io.swagger.v3.oas.annotations.responses.ApiResponses;
 import jakarta.validation.Valid;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.web.PageableDefault;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.validation.annotation.Validated;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 import quantum.dto.userGames.*;
 import quantum.dto.userGames.steamImport.UserGamesImportList;
 import quantum.model.UserGame;
+import quantum.utils.Pageables;
 
 import java.util.List;
 
@@ -29,13 +32,15 @@ public interface UserGamesApi {
      *
      * @param token    The token with the authentication information.
      * @param category The category.
+     * @param cursor   The cursor to scroll from, pages by offset without it.
      * @param pageable The pageable.
      * @return The list of games
      */
     @Operation(summary = "Get games list", description = "Get games list", parameters = {
             @Parameter(name = "page", description = "The page number"),
             @Parameter(name = "size", description = "The page size"),
-            @Parameter(name = "sort", description = "The sort order")
+            @Parameter(name = "sort", description = "The sort order"),
+            @Parameter(name = "cursor", description = "The cursor to scroll from, empty to start a scroll")
     })
     @ApiResponses(value = {
             @ApiResponse(responseCode = "200", description = "The list of games"),
@@ -49,10 +54,29 @@ public interface UserGamesApi {
             String token,
             @RequestParam(value = "category", required = false, defaultValue = "all")
             String category,
-            @PageableDefault(value = Integer.MAX_VALUE)
+            @RequestParam(value = "cursor", required = false)
+            String cursor,
+            @PageableDefault(value = Pageables.UNBOUNDED)
             Pageable pageable
     );
 
+    /**
+     * GET to /api/user/games/export to stream every game of a user.
+     *
+     * @param token The token with the authentication information.
+     * @return The games, one json object per line
+     */
+    @Operation(summary = "Export games list", description = "Stream every game of the user as newline delimited json")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "The games, one per line"),
+            @ApiResponse(responseCode = "500", description = "Internal server error")
+    })
+    @GetMapping(value = "/api/user/games/export", produces = MediaType.APPLICATION_NDJSON_VALUE)
+    ResponseEntity<StreamingResponseBody> exportUserGames(
+            @RequestHeader("Authorization")
+            String token
+    );
+
     /**
      * GET to /api/user/onlineGames to fetch a user game online list.
      *
@@ -30,13 +30,14 @@ public class GameController implements GameApi {
     /**
      * GET to /api/games to fetch games list.
      *
+     * @param cursor   the cursor to scroll from, pages by offset without it
      * @param pageable the pageable
      * @return The list of games
      */
     @Override
-    public ResponseEntity<GameListResponse> getGames(Pageable pageable) {
+    public ResponseEntity<GameListResponse> getGames(String cursor, Pageable pageable) {
         log.info("[CONTROLLER] - Searching games");
-        GameListResponse result = service.getGames(pageable);
+        GameListResponse result = cursor == null ? service.getGames(pageable) : service.scrollGames(cursor, pageable);
         return ResponseEntity.ok(result);
     }
 
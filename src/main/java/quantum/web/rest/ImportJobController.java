@@ -0,0 +1,114 @@
+package quantum.web.rest;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.multipart.MultipartFile;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+import quantum.dto.importJob.ImportJobResponse;
+import quantum.dto.userGames.steamImport.UserGamesImportList;
+import quantum.security.jwt.JwtUtil;
+import quantum.service.ImportJobService;
+import quantum.web.api.ImportJobApi;
+
+/**
+ * Controller for import jobs.
+ */
+
+@Slf4j
+@RestController
+@RequiredArgsConstructor
+public class ImportJobController implements ImportJobApi {
+
+    private final ImportJobService service;
+
+    /**
+     * POST to /api/import/steam/{steam_id} to start a steam import job.
+     *
+     * @param token   The token with the authentication information.
+     * @param steamId The steam id to import from.
+     * @return The job created.
+     */
+    @Override
+    public ResponseEntity<ImportJobResponse> startSteamImport(String token, String steamId) {
+        String username = JwtUtil.getUserDetails().getUsername();
+
+        log.info("[CONTROLLER] - Starting steam import job");
+        return ResponseEntity.status(HttpStatus.ACCEPTED).body(service.startSteamImport(username, steamId));
+    }
+
+    /**
+     * POST to /api/import/steam/{steam_id}/sync to start a steam sync job.
+     *
+     * @param token   The token with the authentication information.
+     * @param steamId The steam id to sync from.
+     * @return The job created.
+     */
+    @Override
+    public ResponseEntity<ImportJobResponse> startSteamSync(String token, String steamId) {
+        String username = JwtUtil.getUserDetails().getUsername();
+
+        log.info("[CONTROLLER] - Starting steam sync job");
+        return ResponseEntity.status(HttpStatus.ACCEPTED).body(service.startSteamSync(username, steamId));
+    }
+
+    /**
+     * POST to /api/import/games to start an import job for a list of games.
+     *
+     * @param token The token with the authentication information.
+     * @param body  Import list body.
+     * @return The job created.
+     */
+    @Override
+    public ResponseEntity<ImportJobResponse> startImport(String token, UserGamesImportList body) {
+        String username = JwtUtil.getUserDetails().getUsername();
+
+        log.info("[CONTROLLER] - Starting import job");
+        return ResponseEntity.status(HttpStatus.ACCEPTED).body(service.startImport(username, body));
+    }
+
+    /**
+     * POST to /api/import/file to start an import job for a NDJSON or CSV file.
+     *
+     * @param token The token with the authentication information.
+     * @param file  The file to import.
+     * @return The job created.
+     */
+    @Override
+    public ResponseEntity<ImportJobResponse> startFileImport(String token, MultipartFile file) {
+        String username = JwtUtil.getUserDetails().getUsername();
+
+        log.info("[CONTROLLER] - Starting file import job");
+        return ResponseEntity.status(HttpStatus.ACCEPTED).body(service.startFileImport(username, file));
+    }
+
+    /**
+     * GET to /api/import/{job_id} to get the progress of a job.
+     *
+     * @param token The token with the authentication information.
+     * @param jobId The job id.
+     * @return The job found.
+     */
+    @Override
+    public ResponseEntity<ImportJobResponse> getJob(String token, String jobId) {
+        String username = JwtUtil.getUserDetails().getUsername();
+
+        return ResponseEntity.ok(service.getJob(username, jobId));
+    }
+
+    /**
+     * GET to /api/import/{job_id}/events to stream the progress of a job.
+     *
+     * @param token The token with the authentication information.
+     * @param jobId The job id.
+     * @return The progress events.
+     */
+    @Override
+    public SseEmitter streamJob(String token, String jobId) {
+        String username = JwtUtil.getUserDetails().getUsername();
+
+        return service.streamJob(username, jobId);
+    }
+}
@@ -7,6 +7,7 @@ import org.springframework.web.bind.annotation.RestController;
 import quantum.dto.userGames.steamImport.UserGamesImportList;
 import quantum.service.SteamService;
 import quantum.web.api.SteamApi;
+import reactor.core.publisher.Mono;
 
 /**
  * Controller for Steam Grid DB Petitions.
@@ -37,7 +38,7 @@ public class SteamController implements SteamApi {
      * @return The games founded.
      */
     @Override
-    public ResponseEntity<UserGamesImportList> getGames(String steamId) {
-        return ResponseEntity.ok(service.getGames(steamId));
+    public Mono<ResponseEntity<UserGamesImportList>> getGames(String steamId) {
+        return service.getGames(steamId).map(ResponseEntity::ok);
     }
 }
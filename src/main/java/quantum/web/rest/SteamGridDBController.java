@@ -4,8 +4,12 @@ import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.RestController;
+import quantum.dto.sgdb.GridResponse;
+import quantum.dto.sgdb.SGDBGridSuccessResponse;
+import quantum.service.GridResolutionService;
 import quantum.service.SteamGridDBService;
 import quantum.web.api.SteamGridDBApi;
+import reactor.core.publisher.Mono;
 
 /**
  * Controller for Steam Grid DB Petitions.
@@ -17,6 +21,7 @@ import quantum.web.api.SteamGridDBApi;
 public class SteamGridDBController implements SteamGridDBApi {
 
     private final SteamGridDBService service;
+    private final GridResolutionService gridResolutionService;
 
     /**
      * GET to /api/sgdb/search to search in sgdb by term.
@@ -36,7 +41,20 @@ public class SteamGridDBController implements SteamGridDBApi {
      * @return The games founded.
      */
     @Override
-    public ResponseEntity<String> getGrids(Long gameSgdbId) {
-        return ResponseEntity.ok(service.getGridsById(gameSgdbId));
+    public Mono<ResponseEntity<SGDBGridSuccessResponse>> getGrids(Long gameSgdbId) {
+        return service.getGridsById(gameSgdbId).map(ResponseEntity::ok);
+    }
+
+    /**
+     * GET to /api/sgdb/getGrid to get the grid chosen as cover of a game.
+     *
+     * @param gameSgdbId The SGDB game id.
+     * @return The grid chosen, not found if the game has no suitable grid.
+     */
+    @Override
+    public Mono<ResponseEntity<GridResponse>> getGrid(Long gameSgdbId) {
+        return gridResolutionService.getGrid(gameSgdbId)
+                .map(ResponseEntity::ok)
+                .defaultIfEmpty(ResponseEntity.notFound().build());
     }
 }
@@ -25,13 +25,14 @@ public class UserController implements UserApi {
     /**
      * GET to /api/users to fetch users list.
      *
+     * @param cursor   the cursor to scroll from, pages by offset without it
      * @param pageable the pageable
      * @return The list of users
      */
     @Override
-    public ResponseEntity<UserListResponse> getUsers(String token, Pageable pageable) {
+    public ResponseEntity<UserListResponse> getUsers(String token, String cursor, Pageable pageable) {
         log.info("[CONTROLLER] - Searching users");
-        UserListResponse result = service.getUsers(pageable);
+        UserListResponse result = cursor == null ? service.getUsers(pageable) : service.scrollUsers(cursor, pageable);
         return ResponseEntity.ok(result);
     }
 
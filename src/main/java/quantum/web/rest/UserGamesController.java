@@ -3,8 +3,10 @@ package quantum.web.rest;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.data.domain.Pageable;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 import quantum.dto.userGames.*;
 import quantum.dto.userGames.steamImport.UserGamesImportList;
 import quantum.model.UserGame;
@@ -30,18 +32,36 @@ public class UserGamesController implements UserGamesApi {
      *
      * @param token    The token with the authentication information.
      * @param category The category.
+     * @param cursor   The cursor to scroll from, pages by offset without it.
      * @param pageable The pageable.
      * @return The list of games
      */
     @Override
-    public ResponseEntity<UserGamesListResponse> getUserGames(String token, String category, Pageable pageable) {
+    public ResponseEntity<UserGamesListResponse> getUserGames(String token, String category, String cursor, Pageable pageable) {
         String username = JwtUtil.getUserDetails().getUsername();
 
         log.info("[CONTROLLER] - Searching user games");
-        UserGamesListResponse result = service.getUserGames(username, category, pageable);
+        UserGamesListResponse result = cursor == null
+                ? service.getUserGames(username, category, pageable)
+                : service.scrollUserGames(username, category, cursor, pageable);
         return ResponseEntity.ok(result);
     }
 
+    /**
+     * GET to /api/user/games/export to stream every game of a user.
+     *
+     * @param token The token with the authentication information.
+     * @return The games, one json object per line
+     */
+    @Override
+    public ResponseEntity<StreamingResponseBody> exportUserGames(String token) {
+        String username = JwtUtil.getUserDetails().getUsername();
+
+        log.info("[CONTROLLER] - Exporting user games");
+        StreamingResponseBody body = outputStream -> service.exportUserGames(username, outputStream);
+        return ResponseEntity.ok().contentType(MediaType.APPLICATION_NDJSON).body(body);
+    }
+
     /**
      * GET to /api/user/onlineGames to fetch a user game online list.
      *
@@ -0,0 +1,108 @@
+package quantum.config;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.boot.autoconfigure.AutoConfigurations;
+import org.springframework.boot.autoconfigure.task.TaskExecutionAutoConfiguration;
+import org.springframework.boot.test.context.runner.ApplicationContextRunner;
+import org.springframework.core.task.SimpleAsyncTaskExecutor;
+import org.springframework.core.task.TaskExecutor;
+import org.springframework.core.task.TaskRejectedException;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+import reactor.core.publisher.Mono;
+import reactor.core.scheduler.Scheduler;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Test for {@link ExecutorConfig} configuration class.
+ */
+class ExecutorConfigTest {
+
+    private final ApplicationContextRunner contextRunner = new ApplicationContextRunner()
+            .withConfiguration(AutoConfigurations.of(TaskExecutionAutoConfiguration.class))
+            .withBean(SimpleMeterRegistry.class)
+            .withUserConfiguration(ExecutorConfig.class);
+
+    /**
+     * Test for {@link ExecutorConfig} with platform threads.
+     */
+    @Test
+    @DisplayName("Test executors with platform threads (OK)")
+    void platformThreads() {
+        contextRunner.run(context -> {
+            assertInstanceOf(ThreadPoolTaskExecutor.class, context.getBean("applicationTaskExecutor"));
+            assertInstanceOf(ThreadPoolTaskExecutor.class, context.getBean("importExecutor"));
+            assertFalse(runsOnVirtualThread(context.getBean("importExecutor", TaskExecutor.class)));
+            assertTrue(threadName(context.getBean("enrichmentScheduler", Scheduler.class)).startsWith("upstream-enrichment-"));
+        });
+    }
+
+    /**
+     * Test for {@link ExecutorConfig} with virtual threads.
+     */
+    @Test
+    @DisplayName("Test executors with virtual threads (OK)")
+    void virtualThreads() {
+        contextRunner.withPropertyValues("spring.threads.virtual.enabled=true").run(context -> {
+            assertInstanceOf(SimpleAsyncTaskExecutor.class, context.getBean("applicationTaskExecutor"));
+            assertInstanceOf(SimpleAsyncTaskExecutor.class, context.getBean("importExecutor"));
+            assertTrue(runsOnVirtualThread(context.getBean("importExecutor", TaskExecutor.class)));
+            assertTrue(runsOnVirtualThread(context.getBean("applicationTaskExecutor", TaskExecutor.class)));
+            assertTrue(threadName(context.getBean("enrichmentScheduler", Scheduler.class)).startsWith("upstream-enrichment-"));
+        });
+    }
+
+    /**
+     * Test for {@link ExecutorConfig} with a full executor.
+     */
+    @Test
+    @DisplayName("Test executors counting rejected tasks (OK)")
+    void rejectedTasks() {
+        contextRunner.withPropertyValues("import.executor.pool-size=1", "import.executor.queue-capacity=1").run(context -> {
+            TaskExecutor executor = context.getBean("importExecutor", TaskExecutor.class);
+            CountDownLatch release = new CountDownLatch(1);
+            executor.execute(() -> {
+                try {
+                    release.await();
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                }
+            });
+            executor.execute(() -> {
+            });
+
+            assertThrows(TaskRejectedException.class, () -> executor.execute(() -> {
+            }));
+            release.countDown();
+            assertEquals(1, context.getBean(SimpleMeterRegistry.class).get("executor.rejected")
+                    .tag("name", "importExecutor").counter().count());
+        });
+    }
+
+    /**
+     * Run a task and check the thread it runs on.
+     *
+     * @param executor The executor.
+     * @return Whether the task ran on a virtual thread.
+     */
+    private boolean runsOnVirtualThread(TaskExecutor executor) {
+        CompletableFuture<Boolean> virtual = new CompletableFuture<>();
+        executor.execute(() -> virtual.complete(Thread.currentThread().isVirtual()));
+        return virtual.join();
+    }
+
+    /**
+     * Run a task on a scheduler and get the name of its thread.
+     *
+     * @param scheduler The scheduler.
+     * @return The thread name.
+     */
+    private String threadName(Scheduler scheduler) {
+        return Mono.fromCallable(() -> Thread.currentThread().getName()).subscribeOn(scheduler).block();
+    }
+}
@@ -0,0 +1,180 @@
+package quantum.config;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.Metrics;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import okhttp3.mockwebserver.MockResponse;
+import okhttp3.mockwebserver.MockWebServer;
+import okhttp3.mockwebserver.RecordedRequest;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.support.StaticListableBeanFactory;
+import org.springframework.boot.web.codec.CodecCustomizer;
+import org.springframework.core.ResolvableType;
+import org.springframework.core.io.buffer.DataBuffer;
+import org.springframework.http.codec.json.Jackson2JsonDecoder;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+import org.springframework.util.MimeType;
+import org.springframework.util.unit.DataSize;
+import org.springframework.web.reactive.function.client.WebClient;
+import quantum.dto.steam.SteamGame;
+import quantum.dto.steam.SteamResponse;
+import quantum.filter.UpstreamRateLimitFilter;
+import reactor.netty.resources.ConnectionProvider;
+
+import java.io.IOException;
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Test for {@link HttpClientConfig} configuration class.
+ */
+class HttpClientConfigTest {
+
+    private final HttpClientConfig config = new HttpClientConfig();
+
+    private MockWebServer mockWebServer;
+
+    private ConnectionProvider connectionProvider;
+
+    private WebClient webClient;
+
+    private final AtomicInteger jsonDecodes = new AtomicInteger();
+
+    // The connection provider publishes its metrics to the global registry
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+
+    @BeforeEach
+    void setup() throws IOException {
+        Metrics.addRegistry(meterRegistry);
+        mockWebServer = new MockWebServer();
+        mockWebServer.start();
+        connectionProvider = config.upstreamConnectionProvider(10, 100, Duration.ofSeconds(5), Duration.ofSeconds(30), Duration.ofMinutes(10));
+        UpstreamRateLimitFilter filter = new UpstreamRateLimitFilter(new SimpleMeterRegistry(), 1000, Map.of(), 100, 0, Duration.ofMillis(10), Duration.ofMillis(50));
+        // Application codecs, the decoder counts the bodies it reads
+        ObjectMapper objectMapper = Jackson2ObjectMapperBuilder.json().build();
+        CodecCustomizer jacksonCodecCustomizer = codecs -> codecs.defaultCodecs().jackson2JsonDecoder(new Jackson2JsonDecoder(objectMapper) {
+            @Override
+            public Object decode(DataBuffer dataBuffer, ResolvableType targetType,
+                                 MimeType mimeType, Map<String, Object> hints) {
+                jsonDecodes.incrementAndGet();
+                return super.decode(dataBuffer, targetType, mimeType, hints);
+            }
+        });
+        webClient = config.webClientBuilder(
+                        config.upstreamHttpClient(connectionProvider, Duration.ofSeconds(5), Duration.ofMillis(500)),
+                        filter,
+                        new StaticListableBeanFactory(Map.of("jacksonCodecCustomizer", jacksonCodecCustomizer)).getBeanProvider(CodecCustomizer.class),
+                        DataSize.ofMegabytes(1))
+                .baseUrl(mockWebServer.url("/").toString())
+                .build();
+    }
+
+    @AfterEach
+    void tearDown() throws IOException {
+        connectionProvider.dispose();
+        mockWebServer.shutdown();
+        Metrics.removeRegistry(meterRegistry);
+    }
+
+    /**
+     * Test for {@link HttpClientConfig#webClientBuilder} reusing connections.
+     *
+     * @throws InterruptedException if the test is interrupted.
+     */
+    @Test
+    @DisplayName("Test web client reusing the connection and asking for gzip (OK)")
+    void reuseConnection() throws InterruptedException {
+        mockWebServer.enqueue(new MockResponse().setBody("first"));
+        mockWebServer.enqueue(new MockResponse().setBody("second"));
+
+        assertEquals("first", webClient.get().uri("/first").retrieve().bodyToMono(String.class).block());
+        // The connection goes back to the pool asynchronously
+        awaitConnections("idle", 1);
+        assertEquals("second", webClient.get().uri("/second").retrieve().bodyToMono(String.class).block());
+        awaitConnections("idle", 1);
+
+        assertEquals(1, connections("total"));
+        RecordedRequest first = mockWebServer.takeRequest(1, TimeUnit.SECONDS);
+        assertNotNull(first);
+        assertEquals("gzip", first.getHeader("Accept-Encoding"));
+    }
+
+    /**
+     * Test for {@link HttpClientConfig#webClientBuilder} with a body over the default buffer limit.
+     */
+    @Test
+    @DisplayName("Test web client reading a body over the default buffer limit (OK)")
+    void largeBody() {
+        String body = "a".repeat(512 * 1024);
+        mockWebServer.enqueue(new MockResponse().setBody(body));
+
+        assertEquals(body.length(), webClient.get().uri("/large").retrieve().bodyToMono(String.class).block().length());
+    }
+
+    /**
+     * Test for {@link HttpClientConfig#webClientBuilder} decoding a typed body with the application codecs.
+     */
+    @Test
+    @DisplayName("Test web client decoding a typed body skipping unknown fields (OK)")
+    void typedBody() {
+        mockWebServer.enqueue(new MockResponse()
+                .setHeader("Content-Type", "application/json")
+                .setBody("{\"response\":{\"game_count\":1,\"games\":[{\"appid\":400,\"name\":\"Portal\",\"playtime_forever\":12,\"rtime_last_played\":0}]},\"extra\":{}}"));
+
+        SteamResponse response = webClient.get().uri("/games").retrieve().bodyToMono(SteamResponse.class).block();
+
+        assertNotNull(response);
+        assertEquals(List.of(new SteamGame(400L, 12)), response.getResponse().getGames());
+        assertEquals(1, jsonDecodes.get());
+    }
+
+    /**
+     * Test for {@link HttpClientConfig#upstreamHttpClient} with a slow upstream.
+     */
+    @Test
+    @DisplayName("Test web client response timeout (KO)")
+    void responseTimeout() {
+        mockWebServer.enqueue(new MockResponse().setBody("slow").setHeadersDelay(2, TimeUnit.SECONDS));
+
+        assertThrows(RuntimeException.class, () -> webClient.get().uri("/slow").retrieve().bodyToMono(String.class).block());
+    }
+
+    /**
+     * Wait until the pool holds a number of connections.
+     *
+     * @param state    The connection state, idle, active or total.
+     * @param expected The expected number of connections.
+     * @throws InterruptedException if the wait is interrupted.
+     */
+    private void awaitConnections(String state, int expected) throws InterruptedException {
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+        while (connections(state) != expected && System.nanoTime() < deadline) {
+            Thread.sleep(10);
+        }
+        assertEquals(expected, connections(state));
+    }
+
+    /**
+     * Get the number of connections of the upstream pool.
+     *
+     * @param state The connection state, idle, active or total.
+     * @return The number of connections.
+     */
+    private int connections(String state) {
+        return (int) meterRegistry.find("reactor.netty.connection.provider." + state + ".connections")
+                .tag("name", "upstream")
+                .gauges()
+                .stream()
+                .mapToDouble(Gauge::value)
+                .sum();
+    }
+}
@@ -0,0 +1,117 @@
+package quantum.filter;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import okhttp3.mockwebserver.MockResponse;
+import okhttp3.mockwebserver.MockWebServer;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpStatus;
+import org.springframework.web.reactive.function.client.WebClient;
+import quantum.exceptions.QuantumLibraryGenericException;
+import reactor.core.publisher.Flux;
+
+import java.io.IOException;
+import java.time.Duration;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Test for {@link UpstreamRateLimitFilter} class.
+ */
+class UpstreamRateLimitFilterTest {
+
+    private MockWebServer mockWebServer;
+
+    private SimpleMeterRegistry meterRegistry;
+
+    private WebClient webClient;
+
+    @BeforeEach
+    void setup() throws IOException {
+        mockWebServer = new MockWebServer();
+        mockWebServer.start();
+        meterRegistry = new SimpleMeterRegistry();
+
+        UpstreamRateLimitFilter filter = new UpstreamRateLimitFilter(meterRegistry, 20, Map.of(), 1, 2, Duration.ofMillis(10), Duration.ofMillis(50));
+        webClient = WebClient.builder()
+                .baseUrl(String.format("http://localhost:%s", mockWebServer.getPort()))
+                .filter(filter)
+                .build();
+    }
+
+    @AfterEach
+    void tearDown() throws IOException {
+        mockWebServer.shutdown();
+    }
+
+    /**
+     * Test for {@link UpstreamRateLimitFilter#filter} method retrying a 429 response.
+     */
+    @Test
+    @DisplayName("Test filter method retrying too many requests (OK)")
+    void filterRetriesTooManyRequests() {
+        mockWebServer.enqueue(new MockResponse().setResponseCode(429).setHeader("Retry-After", "0"));
+        mockWebServer.enqueue(new MockResponse().setResponseCode(200).setBody("ok"));
+
+        String response = webClient.get().uri("api").retrieve().bodyToMono(String.class).block();
+
+        assertEquals("ok", response);
+        assertEquals(2, mockWebServer.getRequestCount());
+        assertEquals(1, meterRegistry.counter("upstream.requests.retried", "host", "localhost").count());
+    }
+
+    /**
+     * Test for {@link UpstreamRateLimitFilter#filter} method when the retries run out.
+     */
+    @Test
+    @DisplayName("Test filter method with retries exhausted (KO)")
+    void filterRetriesExhausted() {
+        for (int i = 0; i < 3; i++) {
+            mockWebServer.enqueue(new MockResponse().setResponseCode(503));
+        }
+
+        QuantumLibraryGenericException exception = assertThrows(QuantumLibraryGenericException.class,
+                () -> webClient.get().uri("api").retrieve().bodyToMono(String.class).block());
+
+        assertEquals(HttpStatus.SERVICE_UNAVAILABLE, exception.getHttpStatus());
+        assertEquals(3, mockWebServer.getRequestCount());
+    }
+
+    /**
+     * Test for {@link UpstreamRateLimitFilter#filter} method not retrying client errors.
+     */
+    @Test
+    @DisplayName("Test filter method not retrying not found (OK)")
+    void filterDoesNotRetryNotFound() {
+        mockWebServer.enqueue(new MockResponse().setResponseCode(404));
+
+        String response = webClient.get().uri("api").exchangeToMono(r -> r.releaseBody().thenReturn(String.valueOf(r.statusCode().value()))).block();
+
+        assertEquals("404", response);
+        assertEquals(1, mockWebServer.getRequestCount());
+    }
+
+    /**
+     * Test for {@link UpstreamRateLimitFilter#filter} method throttling a burst of requests.
+     */
+    @Test
+    @DisplayName("Test filter method throttling over the rate (OK)")
+    void filterThrottlesOverRate() {
+        for (int i = 0; i < 5; i++) {
+            mockWebServer.enqueue(new MockResponse().setResponseCode(200).setBody("ok"));
+        }
+
+        long start = System.nanoTime();
+        Flux.range(0, 5)
+                .flatMap(i -> webClient.get().uri("api").retrieve().bodyToMono(String.class))
+                .blockLast();
+        Duration elapsed = Duration.ofNanos(System.nanoTime() - start);
+
+        // 20 permits per second with a burst of 1, the last request waits for four intervals
+        assertTrue(elapsed.compareTo(Duration.ofMillis(190)) >= 0);
+        assertEquals(4, meterRegistry.counter("upstream.requests.throttled", "host", "localhost").count());
+    }
+}
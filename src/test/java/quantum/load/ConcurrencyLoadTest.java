@@ -0,0 +1,105 @@
+package quantum.load;
+
+import lombok.extern.slf4j.Slf4j;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.EnabledIfSystemProperty;
+
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executors;
+import java.util.stream.IntStream;
+
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Load test of the concurrency ceiling of a running instance.
+ * <p>
+ * Sends waves of concurrent requests to one endpoint and logs the requests served and their latencies for each wave.
+ * Run it against an instance started with {@code VIRTUAL_THREADS=false} and again with {@code VIRTUAL_THREADS=true}
+ * to compare both modes, with a slow endpoint like a SGDB search:
+ * <pre>
+ * mvn test -Dgroups=load -Dtest=ConcurrencyLoadTest -Dload.base-url=http://localhost:8080 \
+ *     -Dload.path=/api/sgdb/search/portal -Dload.token=&lt;token&gt; -Dload.waves=200,1000,4000
+ * </pre>
+ * Skipped unless {@code load.base-url} is set.
+ */
+@Slf4j
+@Tag("load")
+@EnabledIfSystemProperty(named = "load.base-url", matches = ".+")
+class ConcurrencyLoadTest {
+
+    private static final Duration REQUEST_TIMEOUT = Duration.ofSeconds(60);
+
+    /**
+     * Test the waves of concurrent requests against the configured endpoint.
+     */
+    @Test
+    @DisplayName("Test concurrent requests waves (OK)")
+    void concurrentRequests() {
+        URI uri = URI.create(System.getProperty("load.base-url") + System.getProperty("load.path", "/api/sgdb/search/portal"));
+        int[] waves = Arrays.stream(System.getProperty("load.waves", "200,1000,4000").split(","))
+                .mapToInt(Integer::parseInt)
+                .toArray();
+        HttpRequest request = HttpRequest.newBuilder(uri)
+                .header("Authorization", "Bearer " + System.getProperty("load.token", ""))
+                .timeout(REQUEST_TIMEOUT)
+                .GET()
+                .build();
+
+        try (HttpClient client = HttpClient.newBuilder()
+                .executor(Executors.newVirtualThreadPerTaskExecutor())
+                .connectTimeout(Duration.ofSeconds(10))
+                .build()) {
+            for (int clients : waves) {
+                assertTrue(wave(client, request, clients) > 0, "No request served with " + clients + " clients");
+            }
+        }
+    }
+
+    /**
+     * Send a wave of concurrent requests and log its results.
+     *
+     * @param client  The http client.
+     * @param request The request.
+     * @param clients The number of concurrent requests.
+     * @return The number of requests served.
+     */
+    private int wave(HttpClient client, HttpRequest request, int clients) {
+        long start = System.nanoTime();
+        List<CompletableFuture<Long>> responses = IntStream.range(0, clients)
+                .mapToObj(i -> {
+                    long sent = System.nanoTime();
+                    return client.sendAsync(request, HttpResponse.BodyHandlers.discarding())
+                            .thenApply(response -> response.statusCode() < 400 ? System.nanoTime() - sent : -1L)
+                            .exceptionally(e -> -1L);
+                })
+                .toList();
+        long[] latencies = responses.stream()
+                .mapToLong(CompletableFuture::join)
+                .filter(latency -> latency >= 0)
+                .sorted()
+                .toArray();
+        long wall = System.nanoTime() - start;
+
+        log.info("[LOAD] - Clients: {}, served: {}, failed: {}, p50: {} ms, p99: {} ms, wall: {} ms", clients,
+                latencies.length, clients - latencies.length, millis(percentile(latencies, 0.5)),
+                millis(percentile(latencies, 0.99)), millis(wall));
+        return latencies.length;
+    }
+
+    private long percentile(long[] sorted, double percentile) {
+        return sorted.length == 0 ? 0 : sorted[(int) Math.ceil(percentile * sorted.length) - 1];
+    }
+
+    private long millis(long nanos) {
+        return Duration.ofNanos(nanos).toMillis();
+    }
+}
@@ -0,0 +1,79 @@
+package quantum.repository;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+import org.springframework.context.annotation.Import;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.domain.Sort;
+import org.springframework.test.context.TestPropertySource;
+import quantum.model.Game;
+import quantum.utils.Pageables;
+import quantum.utils.TagDictionary;
+import quantum.utils.TagIdConverter;
+
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Test for {@link GameRepository} repository on an in memory database.
+ */
+@DataJpaTest
+@Import({TagDictionary.class, TagIdConverter.class})
+@TestPropertySource(properties = {
+        "spring.jpa.properties.hibernate.dialect=org.hibernate.dialect.H2Dialect"
+})
+class GameRepositoryTest {
+
+    private static final int GAMES = 12;
+
+    @Autowired
+    private GameRepository repository;
+
+    @Autowired
+    private TestEntityManager entityManager;
+
+    @BeforeEach
+    void setup() {
+        for (int i = 0; i < GAMES; i++) {
+            entityManager.persist(Game.builder()
+                    .name("Game" + i)
+                    .sgdbId((long) i)
+                    .tags(Set.of("Tag" + i))
+                    .build());
+        }
+        entityManager.flush();
+        entityManager.clear();
+    }
+
+    /**
+     * Test for {@link GameRepository#findAllBy(org.springframework.data.domain.Pageable)} method with the default page
+     * of the list endpoint.
+     */
+    @Test
+    @DisplayName("Test findAllBy method with the unbounded default page (OK)")
+    void findAllByUnbounded() {
+        Slice<Game> games = repository.findAllBy(Pageables.slice(PageRequest.of(0, Pageables.UNBOUNDED, Sort.by("name"))));
+
+        assertEquals(GAMES, games.getNumberOfElements());
+        assertFalse(games.hasNext());
+        assertEquals("Game0", games.getContent().getFirst().getName());
+    }
+
+    /**
+     * Test for {@link GameRepository#findAllBy(org.springframework.data.domain.Pageable)} method with a requested size.
+     */
+    @Test
+    @DisplayName("Test findAllBy method with a bounded page (OK)")
+    void findAllByBounded() {
+        Slice<Game> games = repository.findAllBy(Pageables.slice(PageRequest.of(0, 5)));
+
+        assertEquals(5, games.getNumberOfElements());
+        assertTrue(games.hasNext());
+    }
+}
@@ -0,0 +1,206 @@
+package quantum.repository;
+
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+import org.springframework.context.annotation.Import;
+import org.springframework.data.domain.*;
+import org.springframework.test.context.TestPropertySource;
+import quantum.model.Game;
+import quantum.model.User;
+import quantum.model.UserGame;
+import quantum.repository.specifications.UserGamesSpecifications;
+import quantum.utils.Pageables;
+import quantum.utils.TagDictionary;
+import quantum.utils.TagIdConverter;
+
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.stream.Stream;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Test for {@link UserGamesRepository} repository on an in memory database.
+ */
+@DataJpaTest
+@Import({TagDictionary.class, TagIdConverter.class})
+@TestPropertySource(properties = {
+        "spring.jpa.properties.hibernate.dialect=org.hibernate.dialect.H2Dialect",
+        "spring.jpa.properties.hibernate.generate_statistics=true"
+})
+class UserGamesRepositoryTest {
+
+    private static final String USERNAME = "user";
+    private static final int GAMES = 30;
+
+    @Autowired
+    private UserGamesRepository repository;
+
+    @Autowired
+    private TestEntityManager entityManager;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    @BeforeEach
+    void setup() {
+        User user = entityManager.persist(User.builder().username(USERNAME).role("USER").build());
+        for (int i = 0; i < GAMES; i++) {
+            Game game = entityManager.persist(Game.builder()
+                    .name("Game" + i)
+                    .sgdbId((long) i)
+                    .tags(Set.of("Co-Op", "Tag" + i))
+                    .build());
+            entityManager.persist(UserGame.builder()
+                    .user(user)
+                    .game(game)
+                    .backlog(1)
+                    .tags(Set.of("Online Co-Op", "Tag" + i))
+                    .build());
+        }
+        entityManager.flush();
+        entityManager.clear();
+    }
+
+    /**
+     * Test for {@link UserGamesRepository#findByUser_Username(String, org.springframework.data.domain.Pageable)} method.
+     */
+    @Test
+    @DisplayName("Test findByUser_Username method query count (OK)")
+    void findByUsernameQueryCount() {
+        assertEquals(3, queriesToLoadPage(10));
+        assertEquals(3, queriesToLoadPage(GAMES));
+    }
+
+    /**
+     * Test for {@link UserGamesRepository#findByUser_UsernameAndBacklog} method.
+     */
+    @Test
+    @DisplayName("Test findByUser_UsernameAndBacklog method query count (OK)")
+    void findByBacklogQueryCount() {
+        Statistics statistics = statistics();
+        Slice<UserGame> page = repository.findByUser_UsernameAndBacklog(USERNAME, 1, PageRequest.of(0, 20));
+        page.forEach(this::touch);
+
+        assertEquals(20, page.getNumberOfElements());
+        assertEquals(3, statistics.getPrepareStatementCount());
+    }
+
+    /**
+     * Test for {@link UserGamesRepository#findByUser_Username(String, org.springframework.data.domain.Pageable)} method
+     * with the default page of the list endpoint.
+     */
+    @Test
+    @DisplayName("Test findByUser_Username method with the unbounded default page (OK)")
+    void findByUsernameUnbounded() {
+        Pageable pageable = Pageables.slice(PageRequest.of(0, Pageables.UNBOUNDED, Sort.by("id")));
+
+        Slice<UserGame> all = repository.findByUser_Username(USERNAME, pageable);
+        Slice<UserGame> backlog = repository.findByUser_UsernameAndBacklog(USERNAME, 1, pageable);
+
+        assertEquals(GAMES, all.getNumberOfElements());
+        assertFalse(all.hasNext());
+        assertEquals(GAMES, backlog.getNumberOfElements());
+    }
+
+    /**
+     * Test for {@link UserGamesRepository#findBy(org.springframework.data.jpa.domain.Specification, java.util.function.Function)} method.
+     */
+    @Test
+    @DisplayName("Test library scroll query count (OK)")
+    void scrollQueryCount() {
+        Sort sort = Sort.by(Sort.Order.desc("game.name"), Sort.Order.asc("id"));
+        ScrollPosition position = ScrollPosition.keyset();
+        Set<Long> seen = new HashSet<>();
+        int windows = 0;
+        Window<UserGame> window;
+        do {
+            entityManager.clear();
+            Statistics statistics = statistics();
+            ScrollPosition from = position;
+            window = repository.findBy(UserGamesSpecifications.byCategory(USERNAME, "backlog1").and(UserGamesSpecifications.fetchUserAndGame()), query -> query
+                    .sortBy(sort)
+                    .limit(10)
+                    .scroll(from));
+            window.forEach(this::touch);
+            window.forEach(userGame -> assertTrue(seen.add(userGame.getId())));
+
+            // Every window costs the window query and one tag query per collection
+            assertEquals(3, statistics.getPrepareStatementCount());
+            if (!window.isEmpty()) position = window.positionAt(window.size() - 1);
+            windows++;
+        } while (window.hasNext());
+
+        assertEquals(GAMES, seen.size());
+        assertEquals(3, windows);
+    }
+
+    /**
+     * Test for {@link UserGamesRepository#streamByUsername} method.
+     */
+    @Test
+    @DisplayName("Test streamByUsername method query count (OK)")
+    void streamByUsernameQueryCount() {
+        Statistics statistics = statistics();
+        List<UserGame> userGames;
+        try (Stream<UserGame> stream = repository.streamByUsername(USERNAME)) {
+            userGames = stream.toList();
+        }
+        userGames.forEach(userGame -> {
+            assertEquals(2, userGame.getTags().size());
+            assertEquals(2, userGame.getGame().getTags().size());
+        });
+
+        // The rows with their games, then one batch per tag collection
+        assertEquals(GAMES, userGames.size());
+        assertEquals(3, statistics.getPrepareStatementCount());
+    }
+
+    /**
+     * Load a page of the library and read everything the response mapping reads.
+     *
+     * @param size The page size.
+     * @return The number of statements run.
+     */
+    private long queriesToLoadPage(int size) {
+        entityManager.clear();
+        Statistics statistics = statistics();
+        Slice<UserGame> page = repository.findByUser_Username(USERNAME, PageRequest.of(0, size));
+        page.forEach(this::touch);
+
+        assertEquals(size, page.getNumberOfElements());
+        return statistics.getPrepareStatementCount();
+    }
+
+    /**
+     * Read the associations of a user game.
+     *
+     * @param userGame The user game.
+     */
+    private void touch(UserGame userGame) {
+        assertEquals(2, userGame.getTags().size());
+        assertEquals(2, userGame.getGame().getTags().size());
+        userGame.getUser().getUsername();
+    }
+
+    /**
+     * Get the cleared session statistics.
+     *
+     * @return The statistics.
+     */
+    private Statistics statistics() {
+        Statistics statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        statistics.clear();
+        return statistics;
+    }
+}
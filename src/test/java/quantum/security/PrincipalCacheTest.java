@@ -0,0 +1,87 @@
+package quantum.security;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.security.core.userdetails.UserDetails;
+import org.springframework.security.core.userdetails.UsernameNotFoundException;
+import quantum.repository.UserRepository;
+
+import java.time.Duration;
+import java.util.Optional;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+import static quantum.constant.TestConstants.SAMPLE_USER;
+import static quantum.constant.TestConstants.SAMPLE_USERNAME;
+
+/**
+ * Test for {@link PrincipalCache} class.
+ */
+@ExtendWith(MockitoExtension.class)
+class PrincipalCacheTest {
+
+    @Mock
+    private UserRepository repository;
+
+    private SimpleMeterRegistry meterRegistry;
+
+    private PrincipalCache cache;
+
+    @BeforeEach
+    void setup() {
+        meterRegistry = new SimpleMeterRegistry();
+        cache = new PrincipalCache(repository, meterRegistry, 100, Duration.ofMinutes(1));
+    }
+
+    /**
+     * Test for {@link PrincipalCache#get} method.
+     */
+    @Test
+    @DisplayName("Test get method loading the user once (OK)")
+    void getCached() {
+        when(repository.findByUsername(SAMPLE_USERNAME)).thenReturn(Optional.of(SAMPLE_USER));
+
+        UserDetails first = cache.get(SAMPLE_USERNAME);
+        UserDetails second = cache.get(SAMPLE_USERNAME);
+
+        assertSame(first, second);
+        assertEquals(SAMPLE_USER.getUsername(), first.getUsername());
+        assertEquals(SAMPLE_USER.getRole(), first.getAuthorities().iterator().next().getAuthority());
+        assertNull(first.getPassword());
+        verify(repository, times(1)).findByUsername(SAMPLE_USERNAME);
+        assertEquals(1, meterRegistry.get("cache.gets").tag("cache", "auth.principals").tag("result", "hit").functionCounter().count());
+    }
+
+    /**
+     * Test for {@link PrincipalCache#evict} method.
+     */
+    @Test
+    @DisplayName("Test evict method reloading the user (OK)")
+    void evict() {
+        when(repository.findByUsername(SAMPLE_USERNAME)).thenReturn(Optional.of(SAMPLE_USER));
+
+        cache.get(SAMPLE_USERNAME);
+        cache.evict(SAMPLE_USERNAME);
+        cache.get(SAMPLE_USERNAME);
+
+        verify(repository, times(2)).findByUsername(SAMPLE_USERNAME);
+    }
+
+    /**
+     * Test for {@link PrincipalCache#get} method with an unknown user.
+     */
+    @Test
+    @DisplayName("Test get method with an unknown user (UsernameNotFoundException)")
+    void getNotFound() {
+        when(repository.findByUsername(SAMPLE_USERNAME)).thenReturn(Optional.empty());
+
+        assertThrows(UsernameNotFoundException.class, () -> cache.get(SAMPLE_USERNAME));
+        assertThrows(UsernameNotFoundException.class, () -> cache.get(SAMPLE_USERNAME));
+        verify(repository, times(2)).findByUsername(SAMPLE_USERNAME);
+    }
+}
@@ -0,0 +1,66 @@
+package quantum.security.jwt;
+
+import io.jsonwebtoken.Jwts;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+import quantum.model.User;
+
+import java.security.GeneralSecurityException;
+import java.time.Duration;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Benchmark of the token verification of {@link quantum.filter.AuthTokenFilter}.
+ * <p>
+ * Run with {@code mvn test-compile exec:java -Dexec.classpathScope=test
+ * -Dexec.mainClass=quantum.security.jwt.JwtVerificationBenchmark}.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class JwtVerificationBenchmark {
+
+    private String token;
+    private JwtVerifier verifier;
+
+    @Setup
+    public void setup() {
+        token = JwtUtil.generateJwtToken(User.builder().username("user").build());
+        verifier = new JwtVerifier(new SimpleMeterRegistry(), 10_000, Duration.ofMinutes(5));
+    }
+
+    /**
+     * The filter before, a parser built and the token parsed twice per request.
+     */
+    @Benchmark
+    public String parserPerCall() {
+        Jwts.parser().verifyWith(JwtUtil.key).build().parseSignedClaims(token);
+        return Jwts.parser().verifyWith(JwtUtil.key).build().parseSignedClaims(token).getPayload().getSubject();
+    }
+
+    /**
+     * The token parsed once with the shared parser.
+     */
+    @Benchmark
+    public String sharedParser() {
+        return JwtUtil.parser.parseSignedClaims(token).getPayload().getSubject();
+    }
+
+    /**
+     * The filter after, a verified token found by digest.
+     */
+    @Benchmark
+    public String cachedVerifier() throws GeneralSecurityException {
+        return verifier.verify(token).getSubject();
+    }
+
+    public static void main(String[] args) throws RunnerException {
+        new Runner(new OptionsBuilder().include(JwtVerificationBenchmark.class.getSimpleName()).build()).run();
+    }
+}
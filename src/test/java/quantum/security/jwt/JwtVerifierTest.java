@@ -0,0 +1,75 @@
+package quantum.security.jwt;
+
+import io.jsonwebtoken.Jwts;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import quantum.model.User;
+
+import java.security.GeneralSecurityException;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Date;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Test for {@link JwtVerifier} class.
+ */
+class JwtVerifierTest {
+
+    private SimpleMeterRegistry meterRegistry;
+
+    private JwtVerifier verifier;
+
+    @BeforeEach
+    void setup() {
+        meterRegistry = new SimpleMeterRegistry();
+        verifier = new JwtVerifier(meterRegistry, 100, Duration.ofMinutes(5));
+    }
+
+    /**
+     * Test for {@link JwtVerifier#verify} method.
+     *
+     * @throws GeneralSecurityException if the token is not valid.
+     */
+    @Test
+    @DisplayName("Test verify method caching the claims (OK)")
+    void verifyCached() throws GeneralSecurityException {
+        String token = JwtUtil.generateJwtToken(User.builder().username("user").build());
+
+        assertEquals("user", verifier.verify(token).getSubject());
+        assertEquals("user", verifier.verify(token).getSubject());
+        assertEquals(1, meterRegistry.get("cache.gets").tag("cache", "auth.tokens").tag("result", "hit").functionCounter().count());
+    }
+
+    /**
+     * Test for {@link JwtVerifier#verify} method with a tampered token.
+     */
+    @Test
+    @DisplayName("Test verify method with a tampered token (GeneralSecurityException)")
+    void verifyTampered() {
+        String token = JwtUtil.generateJwtToken(User.builder().username("user").build());
+        String forged = Jwts.builder().subject("admin").signWith(Jwts.SIG.HS256.key().build()).compact();
+
+        assertThrows(GeneralSecurityException.class, () -> verifier.verify(token.substring(0, token.length() - 2)));
+        assertThrows(GeneralSecurityException.class, () -> verifier.verify(forged));
+        assertThrows(GeneralSecurityException.class, () -> verifier.verify("not a token"));
+    }
+
+    /**
+     * Test for {@link JwtVerifier#verify} method with an expired token.
+     */
+    @Test
+    @DisplayName("Test verify method with an expired token (GeneralSecurityException)")
+    void verifyExpired() {
+        String token = Jwts.builder()
+                .subject("user")
+                .expiration(Date.from(Instant.now().minusSeconds(60)))
+                .signWith(JwtUtil.key)
+                .compact();
+
+        assertThrows(GeneralSecurityException.class, () -> verifier.verify(token));
+    }
+}
@@ -0,0 +1,161 @@
+package quantum.service;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.test.util.ReflectionTestUtils;
+import quantum.dto.sgdb.SGDBGame;
+import quantum.dto.sgdb.SGDBGridSuccessResponse;
+import quantum.repository.GameRepository;
+import quantum.service.impl.CachedSteamGridDBServiceImpl;
+import quantum.service.impl.SteamGridDBServiceImpl;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.core.scheduler.Schedulers;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+/**
+ * Test for {@link CachedSteamGridDBServiceImpl} service class.
+ */
+@ExtendWith(MockitoExtension.class)
+class CachedSteamGridDBServiceImplTest {
+
+    @Mock
+    private SteamGridDBServiceImpl delegate;
+
+    @Mock
+    private GameRepository gameRepository;
+
+    private CachedSteamGridDBServiceImpl service;
+
+    @BeforeEach
+    void setup() {
+        service = new CachedSteamGridDBServiceImpl(delegate, gameRepository, new SimpleMeterRegistry(), Schedulers.boundedElastic(), 100, 10, Duration.ofMinutes(1));
+    }
+
+    /**
+     * Test for {@link CachedSteamGridDBServiceImpl#getBySteamId} method with concurrent requests.
+     */
+    @Test
+    @DisplayName("Test getBySteamId method deduplicating concurrent requests (OK)")
+    void getBySteamIdSingleFlight() {
+        AtomicInteger calls = new AtomicInteger();
+        SGDBGame game = SGDBGame.builder().id(5L).name("Game").build();
+        when(delegate.getBySteamId(400L)).thenAnswer(invocation -> {
+            calls.incrementAndGet();
+            return Mono.just(game).delayElement(Duration.ofMillis(100));
+        });
+
+        List<SGDBGame> result = Flux.range(0, 20)
+                .flatMap(i -> service.getBySteamId(400L))
+                .collectList()
+                .block();
+
+        assertNotNull(result);
+        assertEquals(20, result.size());
+        assertEquals(1, calls.get());
+        assertEquals(game, service.getBySteamId(400L).block());
+        verify(delegate, times(1)).getBySteamId(400L);
+    }
+
+    /**
+     * Test for {@link CachedSteamGridDBServiceImpl#getBySteamId} method without match.
+     */
+    @Test
+    @DisplayName("Test getBySteamId method caching games without match (OK)")
+    void getBySteamIdNotFoundCached() {
+        when(delegate.getBySteamId(400L)).thenReturn(Mono.empty());
+
+        assertNull(service.getBySteamId(400L).block());
+        assertNull(service.getBySteamId(400L).block());
+        verify(delegate, times(1)).getBySteamId(400L);
+    }
+
+    /**
+     * Test for {@link CachedSteamGridDBServiceImpl#getGridsById} method with an upstream error.
+     */
+    @Test
+    @DisplayName("Test getGridsById method not caching errors (KO)")
+    void getGridsByIdErrorNotCached() {
+        SGDBGridSuccessResponse grids = SGDBGridSuccessResponse.builder().success(true).data(List.of()).build();
+        when(delegate.getGridsById(5L))
+                .thenReturn(Mono.error(new IllegalStateException("Upstream down")))
+                .thenReturn(Mono.just(grids));
+
+        assertThrows(IllegalStateException.class, () -> service.getGridsById(5L).block());
+        assertEquals(grids, service.getGridsById(5L).block());
+        assertEquals(grids, service.getGridsById(5L).block());
+        verify(delegate, times(2)).getGridsById(5L);
+    }
+
+    /**
+     * Test for {@link CachedSteamGridDBServiceImpl#searchByTerm} method.
+     */
+    @Test
+    @DisplayName("Test searchByTerm method (OK)")
+    void searchByTermCached() {
+        when(delegate.searchByTerm("Game")).thenReturn("{\"data\":[]}");
+
+        assertEquals("{\"data\":[]}", service.searchByTerm("Game"));
+        assertEquals("{\"data\":[]}", service.searchByTerm("Game"));
+        verify(delegate, times(1)).searchByTerm("Game");
+    }
+
+    /**
+     * Test for {@link CachedSteamGridDBServiceImpl#preloadGrids} method.
+     */
+    @Test
+    @DisplayName("Test preloadGrids method (OK)")
+    void preloadGrids() {
+        ReflectionTestUtils.setField(service, "preload", true);
+        when(gameRepository.findMostOwnedSgdbIds(PageRequest.of(0, 10))).thenReturn(List.of(1L, 2L));
+        SGDBGridSuccessResponse grids = SGDBGridSuccessResponse.builder().success(true).data(List.of()).build();
+        when(delegate.getGridsById(1L)).thenReturn(Mono.just(grids));
+        when(delegate.getGridsById(2L)).thenReturn(Mono.error(new IllegalStateException("Upstream down")));
+
+        service.preloadGrids();
+
+        verify(delegate, timeout(1000)).getGridsById(2L);
+        assertEquals(grids, service.getGridsById(1L).block());
+        verify(delegate, times(1)).getGridsById(1L);
+    }
+
+    /**
+     * Test for {@link CachedSteamGridDBServiceImpl#preloadGrids} method with less hot games than the grids cache size.
+     */
+    @Test
+    @DisplayName("Test preloadGrids method bounded to the preload size (OK)")
+    void preloadGridsBounded() {
+        ReflectionTestUtils.setField(service, "preload", true);
+        ReflectionTestUtils.setField(service, "preloadSize", 1);
+        when(gameRepository.findMostOwnedSgdbIds(PageRequest.of(0, 1))).thenReturn(List.of(1L));
+        when(delegate.getGridsById(1L)).thenReturn(Mono.just(SGDBGridSuccessResponse.builder().success(true).data(List.of()).build()));
+
+        service.preloadGrids();
+
+        verify(delegate, timeout(1000)).getGridsById(1L);
+        verify(gameRepository).findMostOwnedSgdbIds(PageRequest.of(0, 1));
+    }
+
+    /**
+     * Test for {@link CachedSteamGridDBServiceImpl#preloadGrids} method when disabled.
+     */
+    @Test
+    @DisplayName("Test preloadGrids method disabled (OK)")
+    void preloadGridsDisabled() {
+        service.preloadGrids();
+
+        verifyNoInteractions(gameRepository, delegate);
+    }
+}
@@ -4,32 +4,37 @@ import org.hibernate.exception.JDBCConnectionException;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.Spy;
 import org.mockito.junit.jupiter.MockitoExtension;
 import org.springframework.dao.DataIntegrityViolationException;
-import org.springframework.data.domain.Page;
-import org.springframework.data.domain.PageImpl;
-import org.springframework.data.domain.PageRequest;
-import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.*;
+import org.springframework.http.HttpStatus;
 import quantum.dto.game.GameListResponse;
 import quantum.dto.game.GameResponse;
 import quantum.dto.game.NewGameBody;
 import quantum.dto.game.UpdateGameBody;
 import quantum.exceptions.DatabaseConnectionException;
 import quantum.exceptions.EntityNotFoundException;
+import quantum.exceptions.QuantumLibraryGenericException;
 import quantum.mapping.GamesMappingImpl;
 import quantum.model.Game;
+import quantum.model.User;
+import quantum.model.UserGame;
 import quantum.repository.GameRepository;
+import quantum.repository.UserGamesRepository;
 import quantum.service.impl.GameServiceImpl;
+import quantum.utils.BacklogStatsDelta;
+import quantum.utils.TagDictionary;
 
 import java.util.*;
 
 import static org.junit.jupiter.api.Assertions.*;
 import static org.mockito.ArgumentMatchers.any;
-import static org.mockito.Mockito.doThrow;
-import static org.mockito.Mockito.when;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
 import static quantum.constant.TestConstants.SAMPLE_GAME;
 
 /**
@@ -44,6 +49,18 @@ class GameServiceImplTest {
     @Spy
     private GamesMappingImpl mapper;
 
+    @Mock
+    private OwnershipIndexService ownershipIndexService;
+
+    @Mock
+    private UserGamesRepository userGamesRepository;
+
+    @Mock
+    private UserStatsService userStatsService;
+
+    @Mock
+    private TagDictionary tagDictionary;
+
     @InjectMocks
     private GameServiceImpl service;
 
@@ -79,7 +96,7 @@ class GameServiceImplTest {
         Page<Game> pagedResult = new PageImpl<>(resultContent, pageable, resultContent.size());
 
         // Mock dependencies
-        when(gameRepository.findAll(any(Pageable.class))).thenReturn(pagedResult);
+        when(gameRepository.findAllBy(any(Pageable.class))).thenReturn(pagedResult);
         when(mapper.map(any(Game.class))).thenCallRealMethod();
 
         // Verify result
@@ -100,7 +117,7 @@ class GameServiceImplTest {
     @DisplayName("Test getGames method (DatabaseConnectionException)")
     void getGamesDatabaseConnectionException() {
         Pageable pageable = PageRequest.of(0, 10);
-        when(gameRepository.findAll(any(Pageable.class))).thenThrow(JDBCConnectionException.class);
+        when(gameRepository.findAllBy(any(Pageable.class))).thenThrow(JDBCConnectionException.class);
         assertThrows(DatabaseConnectionException.class, () -> service.getGames(pageable));
     }
 
@@ -113,10 +130,48 @@ class GameServiceImplTest {
         Pageable pageable = PageRequest.of(0, 10);
         List<Game> resultContent = Collections.nCopies(0, SAMPLE_GAME);
         Page<Game> pagedResult = new PageImpl<>(resultContent, pageable, resultContent.size());
-        when(gameRepository.findAll(any(Pageable.class))).thenReturn(pagedResult);
+        when(gameRepository.findAllBy(any(Pageable.class))).thenReturn(pagedResult);
         assertThrows(EntityNotFoundException.class, () -> service.getGames(pageable));
     }
 
+    /**
+     * Test for {@link GameServiceImpl#scrollGames} method.
+     */
+    @Test
+    @DisplayName("Test scrollGames method (OK)")
+    void scrollGamesOK() {
+        Pageable pageable = PageRequest.of(0, 2, Sort.by("name"));
+        Window<Game> window = Window.from(List.of(SAMPLE_GAME, SAMPLE_GAME),
+                index -> ScrollPosition.forward(Map.of("name", SAMPLE_GAME.getName(), "id", SAMPLE_GAME.getId())), true);
+
+        // Mock dependencies
+        when(gameRepository.findAllBy(any(ScrollPosition.class), eq(Sort.by("name", "id")), eq(Limit.of(2)))).thenReturn(window);
+        when(mapper.map(any(Game.class))).thenCallRealMethod();
+
+        // Verify result
+        GameListResponse response = service.scrollGames("", pageable);
+
+        assertEquals(2, response.getGames().size());
+        assertNotNull(response.getNextCursor());
+
+        // The next scroll continues after the last game
+        service.scrollGames(response.getNextCursor(), pageable);
+        verify(gameRepository).findAllBy(eq(ScrollPosition.forward(Map.of("name", SAMPLE_GAME.getName(), "id", SAMPLE_GAME.getId()))),
+                eq(Sort.by("name", "id")), eq(Limit.of(2)));
+    }
+
+    /**
+     * Test for {@link GameServiceImpl#scrollGames} method with an unsupported sort.
+     */
+    @Test
+    @DisplayName("Test scrollGames method (QuantumLibraryGenericException)")
+    void scrollGamesUnsupportedSort() {
+        Pageable pageable = PageRequest.of(0, 2, Sort.by("image"));
+        QuantumLibraryGenericException exception = assertThrows(QuantumLibraryGenericException.class, () -> service.scrollGames("", pageable));
+        assertEquals(HttpStatus.BAD_REQUEST, exception.getHttpStatus());
+        verifyNoInteractions(gameRepository);
+    }
+
     /**
      * Test for {@link GameServiceImpl#findGameById} method.
      */
@@ -174,6 +229,36 @@ class GameServiceImplTest {
         assertDoesNotThrow(() -> service.findGameById(SAMPLE_GAME.getId(), true));
     }
 
+    /**
+     * Test for {@link GameServiceImpl#findGamesBySgdbIds} method.
+     */
+    @Test
+    @DisplayName("Test findGamesBySgdbIds method (OK)")
+    void findGamesBySgdbIdsOK() {
+        List<Long> sgdbIds = new ArrayList<>();
+        for (long i = 0; i < 1500; i++) {
+            sgdbIds.add(i);
+        }
+
+        // Mock dependencies
+        when(gameRepository.findBySgdbIdIn(any(Collection.class))).thenReturn(List.of(SAMPLE_GAME));
+
+        // Verify result, one query per chunk of ids
+        List<Game> response = service.findGamesBySgdbIds(sgdbIds);
+        assertEquals(List.of(SAMPLE_GAME, SAMPLE_GAME), response);
+        verify(gameRepository, times(2)).findBySgdbIdIn(any(Collection.class));
+    }
+
+    /**
+     * Test for {@link GameServiceImpl#findGamesBySgdbIds} method.
+     */
+    @Test
+    @DisplayName("Test findGamesBySgdbIds method (DatabaseConnectionException)")
+    void findGamesBySgdbIdsDatabaseConnectionException() {
+        when(gameRepository.findBySgdbIdIn(any(Collection.class))).thenThrow(JDBCConnectionException.class);
+        assertThrows(DatabaseConnectionException.class, () -> service.findGamesBySgdbIds(List.of(SAMPLE_GAME.getSgdbId())));
+    }
+
     /**
      * Test for {@link GameServiceImpl#postGame} method.
      */
@@ -191,6 +276,7 @@ class GameServiceImplTest {
         assertEquals(SAMPLE_GAME.getImage(), response.getImage());
         assertEquals(SAMPLE_GAME.getSgdbId(), response.getSgdbId());
         assertEquals(SAMPLE_GAME.getTags().stream().toList(), response.getTags());
+        verify(tagDictionary).register(SAMPLE_NEW_GAME_BODY.getTags());
     }
 
     /**
@@ -247,7 +333,7 @@ class GameServiceImplTest {
     @DisplayName("Test updateGame method (OK)")
     void updateGameOK() {
         // Clone the entity so the test doesn't modify the original object
-        Game testGame = new Game(SAMPLE_GAME.getId(), SAMPLE_GAME.getName(), SAMPLE_GAME.getImage(), SAMPLE_GAME.getTags(), SAMPLE_GAME.getSgdbId(), SAMPLE_GAME.getUserGames());
+        Game testGame = new Game(SAMPLE_GAME.getId(), SAMPLE_GAME.getName(), SAMPLE_GAME.getImage(), SAMPLE_GAME.getTags(), SAMPLE_GAME.getSgdbId(), SAMPLE_GAME.getSteamAppId(), SAMPLE_GAME.getUserGames());
 
         // Mock dependencies
         when(gameRepository.findById(any(Long.class))).thenReturn(Optional.of(testGame));
@@ -291,13 +377,37 @@ class GameServiceImplTest {
     @DisplayName("Test deleteGame method (OK)")
     void deleteGameOK() {
         // Clone the entity so the test doesn't modify the original object
-        Game testGame = new Game(SAMPLE_GAME.getId(), SAMPLE_GAME.getName(), SAMPLE_GAME.getImage(), SAMPLE_GAME.getTags(), SAMPLE_GAME.getSgdbId(), SAMPLE_GAME.getUserGames());
+        Game testGame = new Game(SAMPLE_GAME.getId(), SAMPLE_GAME.getName(), SAMPLE_GAME.getImage(), SAMPLE_GAME.getTags(), SAMPLE_GAME.getSgdbId(), SAMPLE_GAME.getSteamAppId(), SAMPLE_GAME.getUserGames());
 
         // Mock dependencies
         when(gameRepository.findById(any(Long.class))).thenReturn(Optional.of(testGame));
 
         // Verify result
         assertDoesNotThrow(() -> service.deleteGame(SAMPLE_GAME.getId()));
+        verify(ownershipIndexService).removeGame(SAMPLE_GAME.getId());
+    }
+
+    /**
+     * Test for {@link GameServiceImpl#deleteGame} method with owners.
+     */
+    @Test
+    @DisplayName("Test deleteGame method discounting the owners stats (OK)")
+    void deleteGameOwned() {
+        User owner = User.builder().username("owner").build();
+        when(gameRepository.findById(SAMPLE_GAME.getId())).thenReturn(Optional.of(SAMPLE_GAME));
+        when(userGamesRepository.findByGame_Id(SAMPLE_GAME.getId())).thenReturn(List.of(
+                UserGame.builder().user(owner).backlog(1).timePlayed(30).finished(true).build(),
+                UserGame.builder().user(User.builder().username("other").build()).backlog(2).timePlayed(0).build()));
+
+        service.deleteGame(SAMPLE_GAME.getId());
+
+        ArgumentCaptor<BacklogStatsDelta> delta = ArgumentCaptor.forClass(BacklogStatsDelta.class);
+        verify(userStatsService).applyDelta(eq("owner"), delta.capture());
+        assertEquals(-1, delta.getValue().get(1)[BacklogStatsDelta.GAMES]);
+        assertEquals(-1, delta.getValue().get(1)[BacklogStatsDelta.FINISHED_GAMES]);
+        assertEquals(-30, delta.getValue().get(1)[BacklogStatsDelta.TIME_PLAYED]);
+        verify(userStatsService).applyDelta(eq("other"), any(BacklogStatsDelta.class));
+        verify(gameRepository).delete(SAMPLE_GAME);
     }
 
     /**
@@ -309,6 +419,7 @@ class GameServiceImplTest {
         when(gameRepository.findById(any(Long.class))).thenReturn(Optional.of(SAMPLE_GAME));
         doThrow(JDBCConnectionException.class).when(gameRepository).delete(any(Game.class));
         assertThrows(DatabaseConnectionException.class, () -> service.deleteGame(SAMPLE_GAME.getId()));
+        verifyNoInteractions(userStatsService);
     }
 
 }
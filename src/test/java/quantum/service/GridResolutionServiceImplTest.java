@@ -0,0 +1,116 @@
+package quantum.service;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import quantum.dto.sgdb.GridResponse;
+import quantum.dto.sgdb.SGDBGrid;
+import quantum.dto.sgdb.SGDBGridSuccessResponse;
+import quantum.service.impl.GridResolutionServiceImpl;
+import reactor.core.publisher.Mono;
+
+import java.time.Duration;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+/**
+ * Test for {@link GridResolutionServiceImpl} service class.
+ */
+@ExtendWith(MockitoExtension.class)
+class GridResolutionServiceImplTest {
+
+    @Mock
+    private SteamGridDBService steamGridDBService;
+
+    private GridResolutionServiceImpl service;
+
+    @BeforeEach
+    void setup() {
+        service = new GridResolutionServiceImpl(steamGridDBService, new SimpleMeterRegistry(), 600, 900,
+                List.of("alternate", "material"), false, 100, Duration.ofMinutes(1));
+    }
+
+    /**
+     * Test for {@link GridResolutionServiceImpl#getGrid} method.
+     */
+    @Test
+    @DisplayName("Test getGrid method choosing by dimensions, style and NSFW flag (OK)")
+    void getGrid() {
+        when(steamGridDBService.getGridsById(1L)).thenReturn(Mono.just(grids(
+                new SGDBGrid(1L, "https://cdn/1.png", 920, 430, "alternate", false),
+                new SGDBGrid(2L, "https://cdn/2.png", 600, 900, "blurred", false),
+                new SGDBGrid(3L, "https://cdn/3.png", 600, 900, "alternate", true),
+                new SGDBGrid(4L, "https://cdn/4.png", 600, 900, "material", false),
+                new SGDBGrid(5L, "https://cdn/5.png", 600, 900, "alternate", false))));
+
+        GridResponse grid = service.getGrid(1L).block();
+
+        assertNotNull(grid);
+        assertEquals(1L, grid.getSgdbId());
+        assertEquals("https://cdn/5.png", grid.getUrl());
+        assertEquals("alternate", grid.getStyle());
+    }
+
+    /**
+     * Test for {@link GridResolutionServiceImpl#getGrid} method without grids of the preferred dimensions.
+     */
+    @Test
+    @DisplayName("Test getGrid method falling back to other dimensions (OK)")
+    void getGridOtherDimensions() {
+        when(steamGridDBService.getGridsById(1L)).thenReturn(Mono.just(grids(
+                new SGDBGrid(1L, "https://cdn/1.png", 920, 430, "blurred", false),
+                new SGDBGrid(2L, "https://cdn/2.png", 460, 215, "material", false))));
+
+        assertEquals("https://cdn/2.png", service.getGrid(1L).map(GridResponse::getUrl).block());
+    }
+
+    /**
+     * Test for {@link GridResolutionServiceImpl#getGrid} method caching the chosen grid and games without grid.
+     */
+    @Test
+    @DisplayName("Test getGrid method caching the result (OK)")
+    void getGridCached() {
+        when(steamGridDBService.getGridsById(1L)).thenReturn(Mono.just(grids(
+                new SGDBGrid(1L, "https://cdn/1.png", 600, 900, "alternate", false))));
+        when(steamGridDBService.getGridsById(2L)).thenReturn(Mono.just(grids(
+                new SGDBGrid(2L, "https://cdn/2.png", 600, 900, "alternate", true))));
+
+        assertEquals("https://cdn/1.png", service.getGrid(1L).map(GridResponse::getUrl).block());
+        assertEquals("https://cdn/1.png", service.getGrid(1L).map(GridResponse::getUrl).block());
+        assertNull(service.getGrid(2L).block());
+        assertNull(service.getGrid(2L).block());
+        verify(steamGridDBService, times(1)).getGridsById(1L);
+        verify(steamGridDBService, times(1)).getGridsById(2L);
+    }
+
+    /**
+     * Test for {@link GridResolutionServiceImpl#getGrid} method with an upstream error.
+     */
+    @Test
+    @DisplayName("Test getGrid method not caching errors (KO)")
+    void getGridErrorNotCached() {
+        when(steamGridDBService.getGridsById(1L))
+                .thenReturn(Mono.error(new IllegalStateException("Upstream down")))
+                .thenReturn(Mono.just(grids(new SGDBGrid(1L, "https://cdn/1.png", 600, 900, "alternate", false))));
+
+        assertThrows(IllegalStateException.class, () -> service.getGrid(1L).block());
+        assertEquals("https://cdn/1.png", service.getGrid(1L).map(GridResponse::getUrl).block());
+        verify(steamGridDBService, times(2)).getGridsById(1L);
+    }
+
+    /**
+     * Build a grids response.
+     *
+     * @param grids The grids.
+     * @return The grids response.
+     */
+    private SGDBGridSuccessResponse grids(SGDBGrid... grids) {
+        return SGDBGridSuccessResponse.builder().success(true).data(List.of(grids)).build();
+    }
+}
@@ -0,0 +1,346 @@
+package quantum.service;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import jakarta.persistence.EntityManager;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.core.task.SyncTaskExecutor;
+import org.springframework.core.task.TaskRejectedException;
+import org.springframework.http.HttpStatus;
+import org.springframework.mock.web.MockMultipartFile;
+import org.springframework.test.util.ReflectionTestUtils;
+import quantum.dto.importJob.ImportJobResponse;
+import quantum.dto.importJob.ImportJobStatus;
+import quantum.dto.steam.SteamGame;
+import quantum.dto.userGames.UserGameResponse;
+import quantum.dto.userGames.UserGamesListResponse;
+import quantum.dto.userGames.steamImport.UserGameImport;
+import quantum.dto.userGames.steamImport.UserGamesImportList;
+import quantum.exceptions.EntityNotFoundException;
+import quantum.exceptions.QuantumLibraryGenericException;
+import quantum.mapping.UserGamesMappingImpl;
+import quantum.model.Game;
+import quantum.repository.UserGamesRepository;
+import quantum.service.impl.ImportJobServiceImpl;
+import quantum.service.impl.UserGamesServiceImpl;
+import quantum.utils.ImportProgressListener;
+import quantum.utils.TagDictionary;
+import reactor.core.publisher.Mono;
+
+import java.nio.charset.StandardCharsets;
+import java.util.*;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+import static quantum.constant.TestConstants.SAMPLE_USER;
+import static quantum.constant.TestConstants.SAMPLE_USERNAME;
+
+/**
+ * Test for {@link ImportJobServiceImpl} service class.
+ */
+@ExtendWith(MockitoExtension.class)
+class ImportJobServiceImplTest {
+
+    @Mock
+    private SteamService steamService;
+
+    @Mock
+    private SteamSyncService steamSyncService;
+
+    @Mock
+    private UserGamesService userGamesService;
+
+    private ImportJobServiceImpl service;
+
+    @BeforeEach
+    void setup() {
+        service = new ImportJobServiceImpl(steamService, steamSyncService, userGamesService, new SyncTaskExecutor());
+        ReflectionTestUtils.setField(service, "chunkSize", 2);
+    }
+
+    /**
+     * Test for {@link ImportJobServiceImpl#startSteamImport} method.
+     */
+    @Test
+    @DisplayName("Test startSteamImport method (OK)")
+    void startSteamImport() {
+        when(steamService.getGames(eq("steam"), any(ImportProgressListener.class))).thenAnswer(invocation -> {
+            ImportProgressListener listener = invocation.getArgument(1);
+            listener.appsFound(4);
+            IntStream.range(0, 3).forEach(i -> listener.appResolved());
+            listener.appFailed(40L, new IllegalStateException("Upstream down"));
+            return Mono.just(importList(3));
+        });
+        when(userGamesService.importUserGames(eq(SAMPLE_USERNAME), any(UserGamesImportList.class)))
+                .thenAnswer(invocation -> savedGames(invocation.<UserGamesImportList>getArgument(1).getGames().size()));
+
+        ImportJobResponse started = service.startSteamImport(SAMPLE_USERNAME, "steam");
+        ImportJobResponse job = service.getJob(SAMPLE_USERNAME, started.getId());
+
+        assertEquals(ImportJobStatus.COMPLETED, job.getStatus());
+        assertEquals(4, job.getAppsTotal());
+        assertEquals(3, job.getAppsResolved());
+        assertEquals(3, job.getGamesSaved());
+        assertEquals(1, job.getErrors());
+        assertNotNull(job.getFinishedAt());
+        verify(userGamesService, times(2)).importUserGames(eq(SAMPLE_USERNAME), any(UserGamesImportList.class));
+    }
+
+    /**
+     * Test for {@link ImportJobServiceImpl#startSteamImport} method with a failed steam request.
+     */
+    @Test
+    @DisplayName("Test startSteamImport method (KO)")
+    void startSteamImportFailed() {
+        when(steamService.getGames(eq("steam"), any(ImportProgressListener.class)))
+                .thenReturn(Mono.error(new QuantumLibraryGenericException("Error parsing response from steam", "Bad json", HttpStatus.BAD_REQUEST)));
+
+        ImportJobResponse job = service.startSteamImport(SAMPLE_USERNAME, "steam");
+
+        assertEquals(ImportJobStatus.FAILED, job.getStatus());
+        assertEquals("Bad json", job.getMessage());
+        verifyNoInteractions(userGamesService);
+    }
+
+    /**
+     * Test for {@link ImportJobServiceImpl#startSteamSync} method.
+     */
+    @Test
+    @DisplayName("Test startSteamSync method (OK)")
+    void startSteamSync() {
+        List<SteamGame> newGames = List.of(new SteamGame(30L, 5));
+        when(steamSyncService.syncOwnedGames(eq(SAMPLE_USERNAME), eq("steam"), any(ImportProgressListener.class))).thenAnswer(invocation -> {
+            ImportProgressListener listener = invocation.getArgument(2);
+            listener.appsFound(3);
+            IntStream.range(0, 2).forEach(i -> listener.appResolved());
+            return newGames;
+        });
+        when(steamService.resolveGames(eq(newGames), any(ImportProgressListener.class))).thenAnswer(invocation -> {
+            invocation.<ImportProgressListener>getArgument(1).appResolved();
+            return Mono.just(importList(1));
+        });
+        when(userGamesService.importUserGames(eq(SAMPLE_USERNAME), any(UserGamesImportList.class))).thenReturn(savedGames(1));
+
+        ImportJobResponse job = service.startSteamSync(SAMPLE_USERNAME, "steam");
+
+        assertEquals(ImportJobStatus.COMPLETED, job.getStatus());
+        assertEquals(3, job.getAppsTotal());
+        assertEquals(3, job.getAppsResolved());
+        assertEquals(1, job.getGamesSaved());
+    }
+
+    /**
+     * Test for {@link ImportJobServiceImpl#startSteamSync} method without new games.
+     */
+    @Test
+    @DisplayName("Test startSteamSync method without new games (OK)")
+    void startSteamSyncUpToDate() {
+        when(steamSyncService.syncOwnedGames(eq(SAMPLE_USERNAME), eq("steam"), any(ImportProgressListener.class))).thenReturn(List.of());
+
+        ImportJobResponse job = service.startSteamSync(SAMPLE_USERNAME, "steam");
+
+        assertEquals(ImportJobStatus.COMPLETED, job.getStatus());
+        verifyNoInteractions(steamService, userGamesService);
+    }
+
+    /**
+     * Test for {@link ImportJobServiceImpl#startImport} method with a failed chunk.
+     */
+    @Test
+    @DisplayName("Test startImport method with a failed chunk (OK)")
+    void startImportChunkFailed() {
+        when(userGamesService.importUserGames(eq(SAMPLE_USERNAME), any(UserGamesImportList.class)))
+                .thenReturn(savedGames(2))
+                .thenThrow(new IllegalStateException("Database down"))
+                .thenReturn(savedGames(1));
+
+        ImportJobResponse job = service.startImport(SAMPLE_USERNAME, importList(5));
+
+        assertEquals(ImportJobStatus.COMPLETED, job.getStatus());
+        assertEquals(5, job.getAppsTotal());
+        assertEquals(3, job.getGamesSaved());
+        assertEquals(2, job.getErrors());
+    }
+
+    /**
+     * Test for {@link ImportJobServiceImpl#startImport} method when the executor is full.
+     */
+    @Test
+    @DisplayName("Test startImport method rejected (KO)")
+    void startImportRejected() {
+        service = new ImportJobServiceImpl(steamService, steamSyncService, userGamesService, task -> {
+            throw new TaskRejectedException("Full");
+        });
+
+        QuantumLibraryGenericException exception = assertThrows(QuantumLibraryGenericException.class,
+                () -> service.startImport(SAMPLE_USERNAME, importList(1)));
+
+        assertEquals(HttpStatus.SERVICE_UNAVAILABLE, exception.getHttpStatus());
+    }
+
+    /**
+     * Test for {@link ImportJobServiceImpl#startFileImport} method with a NDJSON file.
+     */
+    @Test
+    @DisplayName("Test startFileImport method with a NDJSON file (OK)")
+    void startFileImportNdjson() {
+        when(userGamesService.importUserGames(eq(SAMPLE_USERNAME), any(UserGamesImportList.class)))
+                .thenAnswer(invocation -> savedGames(invocation.<UserGamesImportList>getArgument(1).getGames().size()));
+        String content = """
+                {"name":"Game0","sgdbId":0,"timePlayed":10,"tags":["Action"],"unknown":true}
+                {"name":"Game1","sgdbId":"not a number"}
+                {"name":"Game2","sgdbId":2}
+                {"name":"Game3","sgdbId":3}
+                """;
+
+        ImportJobResponse job = service.startFileImport(SAMPLE_USERNAME,
+                new MockMultipartFile("file", "library.ndjson", "application/x-ndjson", content.getBytes(StandardCharsets.UTF_8)));
+
+        assertEquals(ImportJobStatus.COMPLETED, job.getStatus());
+        assertEquals(4, job.getAppsTotal());
+        assertEquals(3, job.getGamesSaved());
+        assertEquals(1, job.getErrors());
+
+        ArgumentCaptor<UserGamesImportList> chunks = ArgumentCaptor.forClass(UserGamesImportList.class);
+        verify(userGamesService, times(2)).importUserGames(eq(SAMPLE_USERNAME), chunks.capture());
+        UserGameImport first = chunks.getAllValues().getFirst().getGames().getFirst();
+        assertEquals(0L, first.getSgdbId());
+        assertEquals(10, first.getTimePlayed());
+        assertEquals(List.of("Action"), first.getTags());
+    }
+
+    /**
+     * Test for {@link ImportJobServiceImpl#startFileImport} method with a CSV file.
+     */
+    @Test
+    @DisplayName("Test startFileImport method with a CSV file (OK)")
+    void startFileImportCsv() {
+        when(userGamesService.importUserGames(eq(SAMPLE_USERNAME), any(UserGamesImportList.class)))
+                .thenAnswer(invocation -> savedGames(invocation.<UserGamesImportList>getArgument(1).getGames().size()));
+        String content = """
+                name,sgdbId,timePlayed,tags
+                Game0,0,10,Action;RPG
+                Game1,1,0,
+                Game2,2,5,Indie
+                """;
+
+        ImportJobResponse job = service.startFileImport(SAMPLE_USERNAME,
+                new MockMultipartFile("file", "library.csv", "text/csv", content.getBytes(StandardCharsets.UTF_8)));
+
+        assertEquals(ImportJobStatus.COMPLETED, job.getStatus());
+        assertEquals(3, job.getAppsTotal());
+        assertEquals(3, job.getGamesSaved());
+        assertEquals(0, job.getErrors());
+
+        ArgumentCaptor<UserGamesImportList> chunks = ArgumentCaptor.forClass(UserGamesImportList.class);
+        verify(userGamesService, times(2)).importUserGames(eq(SAMPLE_USERNAME), chunks.capture());
+        assertEquals(List.of("Action", "RPG"), chunks.getAllValues().getFirst().getGames().getFirst().getTags());
+    }
+
+    /**
+     * Test for {@link ImportJobServiceImpl#startFileImport} method importing rows without tags or sgdb id and rows of
+     * the library export through the user games service.
+     */
+    @Test
+    @DisplayName("Test startFileImport method with incomplete and exported rows (OK)")
+    @SuppressWarnings("unchecked")
+    void startFileImportRows() {
+        UserGamesRepository userGamesRepository = mock(UserGamesRepository.class);
+        GameService gameService = mock(GameService.class);
+        UserService userService = mock(UserService.class);
+        UserGamesServiceImpl userGames = new UserGamesServiceImpl(userGamesRepository, new UserGamesMappingImpl(),
+                userService, gameService, mock(UserStatsService.class), mock(OwnershipIndexService.class), mock(EntityManager.class),
+                new ObjectMapper(), mock(TagDictionary.class));
+        service = new ImportJobServiceImpl(steamService, steamSyncService, userGames, new SyncTaskExecutor());
+        when(gameService.findGamesBySgdbIds(any(Collection.class))).thenReturn(List.of());
+        when(userGamesRepository.findSgdbIdsByUsernameAndSgdbIdIn(eq(SAMPLE_USERNAME), any(Collection.class))).thenReturn(Set.of());
+        when(userService.findUser(SAMPLE_USERNAME)).thenReturn(SAMPLE_USER);
+        when(userGamesRepository.saveAll(any(List.class))).thenAnswer(invocation -> invocation.getArgument(0));
+        String content = """
+                {"name":"Game0","sgdbId":0}
+                {"name":"Game1","tags":["Action"]}
+                {"game":{"id":9,"name":"Game2","sgdbId":2,"steamAppId":20,"tags":["RPG"]},"timePlayed":5,"tags":["RPG","Indie"]}
+                """;
+
+        ImportJobResponse job = service.startFileImport(SAMPLE_USERNAME,
+                new MockMultipartFile("file", "library.ndjson", "application/x-ndjson", content.getBytes(StandardCharsets.UTF_8)));
+
+        assertEquals(ImportJobStatus.COMPLETED, job.getStatus());
+        assertEquals(3, job.getAppsTotal());
+        assertEquals(2, job.getGamesSaved());
+        assertEquals(1, job.getErrors());
+
+        ArgumentCaptor<List<Game>> games = ArgumentCaptor.forClass(List.class);
+        verify(gameService).postGames(games.capture());
+        Map<Long, Game> bySgdbId = games.getValue().stream().collect(Collectors.toMap(Game::getSgdbId, Function.identity()));
+        assertEquals(Set.of(0L, 2L), bySgdbId.keySet());
+        assertTrue(bySgdbId.get(0L).getTags().isEmpty());
+        assertEquals("Game2", bySgdbId.get(2L).getName());
+        assertEquals(20L, bySgdbId.get(2L).getSteamAppId());
+        assertEquals(Set.of("RPG", "Indie"), bySgdbId.get(2L).getTags());
+    }
+
+    /**
+     * Test for {@link ImportJobServiceImpl#startFileImport} method with an unsupported file.
+     */
+    @Test
+    @DisplayName("Test startFileImport method with an unsupported file (KO)")
+    void startFileImportUnsupported() {
+        MockMultipartFile file = new MockMultipartFile("file", "library.xml", "application/xml", new byte[0]);
+
+        QuantumLibraryGenericException exception = assertThrows(QuantumLibraryGenericException.class,
+                () -> service.startFileImport(SAMPLE_USERNAME, file));
+
+        assertEquals(HttpStatus.BAD_REQUEST, exception.getHttpStatus());
+        verifyNoInteractions(userGamesService);
+    }
+
+    /**
+     * Test for {@link ImportJobServiceImpl#getJob} method with a job of another user.
+     */
+    @Test
+    @DisplayName("Test getJob method of another user (KO)")
+    void getJobOtherUser() {
+        when(userGamesService.importUserGames(eq(SAMPLE_USERNAME), any(UserGamesImportList.class))).thenReturn(savedGames(1));
+        ImportJobResponse job = service.startImport(SAMPLE_USERNAME, importList(1));
+
+        assertThrows(EntityNotFoundException.class, () -> service.getJob("other", job.getId()));
+        assertThrows(EntityNotFoundException.class, () -> service.getJob(SAMPLE_USERNAME, "missing"));
+    }
+
+    /**
+     * Build an import list.
+     *
+     * @param size The number of games.
+     * @return The import list.
+     */
+    private UserGamesImportList importList(int size) {
+        List<UserGameImport> games = new ArrayList<>();
+        for (long i = 0; i < size; i++) {
+            games.add(UserGameImport.builder().name("Game" + i).sgdbId(i).tags(List.of()).build());
+        }
+        return new UserGamesImportList(games);
+    }
+
+    /**
+     * Build a response of saved games.
+     *
+     * @param size The number of games.
+     * @return The response.
+     */
+    private UserGamesListResponse savedGames(int size) {
+        return UserGamesListResponse.builder()
+                .games(new ArrayList<>(Collections.nCopies(size, new UserGameResponse())))
+                .build();
+    }
+}
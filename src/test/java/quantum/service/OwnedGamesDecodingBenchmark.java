@@ -0,0 +1,117 @@
+package quantum.service;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.netty.buffer.PooledByteBufAllocator;
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.profile.GCProfiler;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+import org.springframework.core.ResolvableType;
+import org.springframework.core.codec.StringDecoder;
+import org.springframework.core.io.buffer.DataBuffer;
+import org.springframework.core.io.buffer.NettyDataBufferFactory;
+import org.springframework.http.MediaType;
+import org.springframework.http.codec.json.Jackson2JsonDecoder;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+import quantum.dto.steam.SteamResponse;
+
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Benchmark of the decoding of a large steam owned games response by {@link quantum.service.impl.SteamServiceImpl}.
+ * <p>
+ * Both decoders read the body from a pooled buffer, as the response arrives from reactor-netty. The allocations per
+ * decode are reported by the GC profiler as {@code gc.alloc.rate.norm}.
+ * <p>
+ * Run with {@code mvn test-compile exec:java -Dexec.classpathScope=test
+ * -Dexec.mainClass=quantum.service.OwnedGamesDecodingBenchmark}.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class OwnedGamesDecodingBenchmark {
+
+    private static final ResolvableType STRING_TYPE = ResolvableType.forClass(String.class);
+    private static final ResolvableType STEAM_RESPONSE_TYPE = ResolvableType.forClass(SteamResponse.class);
+
+    @Param({"5000"})
+    private int games;
+
+    private byte[] body;
+    private NettyDataBufferFactory bufferFactory;
+    private StringDecoder stringDecoder;
+    private ObjectMapper objectMapper;
+    private Jackson2JsonDecoder jsonDecoder;
+
+    @Setup
+    public void setup() {
+        body = ownedGamesBody(games).getBytes(StandardCharsets.UTF_8);
+        bufferFactory = new NettyDataBufferFactory(PooledByteBufAllocator.DEFAULT);
+        stringDecoder = StringDecoder.allMimeTypes();
+        objectMapper = new ObjectMapper();
+        jsonDecoder = new Jackson2JsonDecoder(Jackson2ObjectMapperBuilder.json().build());
+        jsonDecoder.setMaxInMemorySize(-1);
+        stringDecoder.setMaxInMemorySize(-1);
+    }
+
+    /**
+     * The clients before, the body decoded into a string and parsed again by a private object mapper.
+     */
+    @Benchmark
+    public SteamResponse stringThenParse() throws Exception {
+        String response = stringDecoder.decode(pooledBody(), STRING_TYPE, MediaType.APPLICATION_JSON, null);
+        return objectMapper.readValue(response, SteamResponse.class);
+    }
+
+    /**
+     * The clients after, the body decoded straight into the DTO by the application codec.
+     */
+    @Benchmark
+    public Object typedDecode() {
+        return jsonDecoder.decode(pooledBody(), STEAM_RESPONSE_TYPE, MediaType.APPLICATION_JSON, null);
+    }
+
+    /**
+     * Copy the body into a pooled buffer, released by the decoder.
+     *
+     * @return The buffer.
+     */
+    private DataBuffer pooledBody() {
+        return bufferFactory.allocateBuffer(body.length).write(body);
+    }
+
+    /**
+     * Build an owned games response with every field steam sends for a game.
+     *
+     * @param count The number of games.
+     * @return The response body.
+     */
+    private static String ownedGamesBody(int count) {
+        StringBuilder builder = new StringBuilder("{\"response\":{\"game_count\":").append(count).append(",\"games\":[");
+        for (int i = 0; i < count; i++) {
+            if (i > 0) builder.append(',');
+            builder.append("{\"appid\":").append(10 + i * 10)
+                    .append(",\"name\":\"Game number ").append(i).append('"')
+                    .append(",\"playtime_forever\":").append(i * 7 % 10_000)
+                    .append(",\"img_icon_url\":\"4a6f25cfa2426445d0d9d6e233408de4d371ce8b\"")
+                    .append(",\"has_community_visible_stats\":true")
+                    .append(",\"playtime_windows_forever\":").append(i * 5 % 10_000)
+                    .append(",\"playtime_mac_forever\":0,\"playtime_linux_forever\":").append(i * 2 % 10_000)
+                    .append(",\"playtime_deck_forever\":0,\"rtime_last_played\":1700000000")
+                    .append(",\"content_descriptorids\":[2,5],\"playtime_disconnected\":0}");
+        }
+        return builder.append("]}}").toString();
+    }
+
+    public static void main(String[] args) throws RunnerException {
+        new Runner(new OptionsBuilder()
+                .include(OwnedGamesDecodingBenchmark.class.getSimpleName())
+                .addProfiler(GCProfiler.class)
+                .build()).run();
+    }
+}
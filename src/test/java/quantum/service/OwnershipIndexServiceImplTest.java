@@ -0,0 +1,142 @@
+package quantum.service;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import quantum.model.Game;
+import quantum.model.User;
+import quantum.model.UserGame;
+import quantum.repository.UserGamesRepository;
+import quantum.repository.projections.OwnershipProjection;
+import quantum.service.impl.OwnershipIndexServiceImpl;
+
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.anyCollection;
+import static org.mockito.Mockito.when;
+
+/**
+ * Test for {@link OwnershipIndexServiceImpl} service class.
+ */
+@ExtendWith(MockitoExtension.class)
+class OwnershipIndexServiceImplTest {
+
+    @Mock
+    private UserGamesRepository repository;
+
+    private MeterRegistry meterRegistry;
+
+    private OwnershipIndexServiceImpl service;
+
+    @BeforeEach
+    void setup() {
+        meterRegistry = new SimpleMeterRegistry();
+        service = new OwnershipIndexServiceImpl(repository, meterRegistry);
+    }
+
+    /**
+     * Test for {@link OwnershipIndexServiceImpl#findCommonGameIds} method.
+     */
+    @Test
+    @DisplayName("Test findCommonGameIds method (OK)")
+    void findCommonGameIdsOK() {
+        // Not answered before the index is built
+        assertEquals(Optional.empty(), service.findCommonGameIds(List.of(1L)));
+
+        when(repository.findOwnershipsByTagsIn(anyCollection())).thenReturn(List.of(
+                ownership(1L, 10L), ownership(1L, 20L), ownership(1L, 30L),
+                ownership(2L, 20L), ownership(2L, 30L),
+                ownership(3L, 30L)));
+        service.build();
+
+        assertEquals(Optional.of(List.of(20L, 30L)), service.findCommonGameIds(List.of(1L, 2L)));
+        assertEquals(Optional.of(List.of(30L)), service.findCommonGameIds(List.of(1L, 2L, 3L)));
+        assertEquals(Optional.of(List.of()), service.findCommonGameIds(List.of(1L, 4L)));
+        assertEquals(Optional.of(List.of(1L, 2L, 3L)), service.findOwnerIds(30L));
+        assertTrue(meterRegistry.get("ownership.index.size").gauge().value() > 0);
+        assertEquals(3.0, meterRegistry.get("ownership.index.users").gauge().value());
+    }
+
+    /**
+     * Test for the write methods of {@link OwnershipIndexServiceImpl}.
+     */
+    @Test
+    @DisplayName("Test update and remove methods (OK)")
+    void updateAndRemove() {
+        when(repository.findOwnershipsByTagsIn(anyCollection())).thenReturn(List.of(ownership(1L, 10L), ownership(2L, 10L)));
+        service.build();
+
+        // Online tag added, then removed
+        service.update(userGame(1L, 20L, Set.of("Multiplayer")));
+        assertEquals(Optional.of(List.of(10L, 20L)), service.findCommonGameIds(List.of(1L)));
+        service.update(userGame(1L, 20L, Set.of("Singleplayer")));
+        assertEquals(Optional.of(List.of(10L)), service.findCommonGameIds(List.of(1L)));
+
+        service.remove(userGame(2L, 10L, Set.of("Co-op")));
+        assertEquals(Optional.of(List.of(1L)), service.findOwnerIds(10L));
+
+        service.removeGame(10L);
+        assertEquals(Optional.of(List.of()), service.findCommonGameIds(List.of(1L)));
+
+        service.update(userGame(2L, 30L, Set.of("Co-op")));
+        service.removeUser(2L);
+        assertEquals(Optional.of(List.of()), service.findOwnerIds(30L));
+    }
+
+    /**
+     * Test for {@link OwnershipIndexServiceImpl#build} method with ids that do not fit in a bitmap.
+     */
+    @Test
+    @DisplayName("Test build method with large ids (OK)")
+    void buildLargeIds() {
+        when(repository.findOwnershipsByTagsIn(anyCollection())).thenReturn(List.of(ownership(1L, Integer.MAX_VALUE + 1L)));
+        service.build();
+
+        assertEquals(Optional.empty(), service.findCommonGameIds(List.of(1L)));
+    }
+
+    /**
+     * Build an ownership.
+     *
+     * @param userId The user id.
+     * @param gameId The game id.
+     * @return The ownership.
+     */
+    private OwnershipProjection ownership(Long userId, Long gameId) {
+        return new OwnershipProjection() {
+            @Override
+            public Long getUserId() {
+                return userId;
+            }
+
+            @Override
+            public Long getGameId() {
+                return gameId;
+            }
+        };
+    }
+
+    /**
+     * Build a user game.
+     *
+     * @param userId The user id.
+     * @param gameId The game id.
+     * @param tags   The tags.
+     * @return The user game.
+     */
+    private UserGame userGame(Long userId, Long gameId, Set<String> tags) {
+        return UserGame.builder()
+                .user(User.builder().id(userId).build())
+                .game(Game.builder().id(gameId).build())
+                .tags(tags)
+                .build();
+    }
+}
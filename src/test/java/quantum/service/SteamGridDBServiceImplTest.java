@@ -15,11 +15,15 @@ import org.springframework.test.context.ActiveProfiles;
 import org.springframework.test.util.ReflectionTestUtils;
 import org.springframework.web.reactive.function.client.WebClient;
 import quantum.dto.sgdb.SGDBGame;
+import quantum.dto.sgdb.SGDBGrid;
+import quantum.dto.sgdb.SGDBGridSuccessResponse;
 import quantum.filter.AuthTokenFilter;
 import quantum.service.impl.SteamGridDBServiceImpl;
 
 import java.io.IOException;
+import java.util.List;
 
+import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertNotNull;
 import static org.junit.jupiter.api.Assertions.assertNull;
 import static org.mockito.ArgumentMatchers.anyString;
@@ -101,11 +105,12 @@ class SteamGridDBServiceImplTest {
         // Mock API response for getBySteamId
         mockWebServer.enqueue(new MockResponse()
                 .setResponseCode(200)
+                .setHeader("Content-Type", "application/json")
                 .setBody("{\"steam_id\": 76561198034336239, \"name\": \"Test Steam Game\"}")
         );
 
         // Call the method and assert the response
-        SGDBGame response = steamGridDBService.getBySteamId(76561198034336239L);
+        SGDBGame response = steamGridDBService.getBySteamId(76561198034336239L).block();
         assertNull(response);
     }
 
@@ -119,7 +124,7 @@ class SteamGridDBServiceImplTest {
         );
 
         // Call the method and assert the response is null
-        SGDBGame response = steamGridDBService.getBySteamId(76561198034336239L);
+        SGDBGame response = steamGridDBService.getBySteamId(76561198034336239L).block();
         assertNull(response);
     }
 
@@ -129,11 +134,13 @@ class SteamGridDBServiceImplTest {
         // Mock API response for getGridsById
         mockWebServer.enqueue(new MockResponse()
                 .setResponseCode(200)
-                .setBody("{\"grids\": [\"Grid1\", \"Grid2\"]}")
+                .setHeader("Content-Type", "application/json")
+                .setBody("{\"success\":true,\"data\":[{\"id\":103242,\"style\":\"alternate\",\"width\":600,\"height\":900,\"nsfw\":false,\"url\":\"https://cdn2.steamgriddb.com/grid/1.png\",\"author\":{\"name\":\"Author\"}}]}")
         );
 
         // Call the method and assert the response
-        String response = steamGridDBService.getGridsById(456L);
+        SGDBGridSuccessResponse response = steamGridDBService.getGridsById(456L).block();
         assertNotNull(response);
+        assertEquals(List.of(new SGDBGrid(103242L, "https://cdn2.steamgriddb.com/grid/1.png", 600, 900, "alternate", false)), response.getData());
     }
 }
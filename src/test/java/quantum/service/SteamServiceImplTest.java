@@ -14,16 +14,22 @@ import org.springframework.boot.test.mock.mockito.MockBean;
 import org.springframework.test.context.ActiveProfiles;
 import org.springframework.test.util.ReflectionTestUtils;
 import org.springframework.web.reactive.function.client.WebClient;
+import quantum.dto.sgdb.GridResponse;
 import quantum.dto.sgdb.SGDBGame;
 import quantum.dto.steamSpy.SteamSpyGame;
 import quantum.dto.userGames.steamImport.UserGamesImportList;
 import quantum.filter.AuthTokenFilter;
 import quantum.service.impl.SteamServiceImpl;
+import quantum.utils.ImportProgressListener;
+import reactor.core.publisher.Mono;
 
 import java.io.IOException;
 import java.util.HashMap;
 import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.atomic.AtomicInteger;
 
+import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertNotNull;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.anyString;
@@ -48,6 +54,9 @@ class SteamServiceImplTest {
     @Mock
     private SteamSpyService steamSpyService;
 
+    @Mock
+    private GridResolutionService gridResolutionService;
+
     @Mock
     private WebClient.Builder webClientBuilder;
 
@@ -78,7 +87,7 @@ class SteamServiceImplTest {
         when(webClientBuilder.baseUrl(anyString())).thenReturn(webClientBuilder);
         when(webClientBuilder.build()).thenReturn(webClient);
 
-        this.steamService = new SteamServiceImpl(steamGridDBService, steamSpyService, webClientBuilder);
+        this.steamService = new SteamServiceImpl(steamGridDBService, steamSpyService, gridResolutionService, webClientBuilder);
 
         // Start the MockWebServer
         mockWebServer = new MockWebServer();
@@ -99,7 +108,7 @@ class SteamServiceImplTest {
     @Test
     @DisplayName("Test RequiredArgsConstructor method (OK)")
     void testRequiredArgsConstructor() {
-        SteamServiceImpl service = new SteamServiceImpl(steamGridDBService, steamSpyService, webClient);
+        SteamServiceImpl service = new SteamServiceImpl(steamGridDBService, steamSpyService, gridResolutionService, webClient);
         assertNotNull(service);
         ReflectionTestUtils.setField(service, "key", testKey);
     }
@@ -130,24 +139,106 @@ class SteamServiceImplTest {
         // Mock web server response
         mockWebServer.enqueue(new MockResponse()
                 .setResponseCode(200)
+                .setHeader("Content-Type", "application/json")
                 .setBody("{\"response\":{\"game_count\":170,\"games\":[{\"appid\":4000,\"playtime_forever\":3770}]}}")
         );
 
         mockWebServer.enqueue(new MockResponse()
                 .setResponseCode(200)
+                .setHeader("Content-Type", "application/json")
                 .setBody("{\"response\":{\"game_count\":170,\"games\":[{\"appid\":4000,\"name\":\"Garry's Mod\",\"developer\":\"Facepunch Studios\",\"publisher\":\"Valve\",\"score_rank\":\"\",\"positive\":1091540,\"negative\":36287,\"userscore\":0,\"owners\":\"20,000,000 .. 50,000,000\",\"average_forever\":13444,\"average_2weeks\":246,\"median_forever\":1679,\"median_2weeks\":86,\"price\":\"999\",\"initialprice\":\"999\",\"discount\":\"0\",\"ccu\":31594,\"languages\":\"English\",\"genre\":\"Casual, Indie, Simulation\",\"tags\":{\"Sandbox\":18633,\"Moddable\":14430}]}}")
 
         );
 
         // Mock steam spy service
-        when(steamSpyService.getSteamSpyInfo(any(Long.class))).thenReturn(SAMPLE_STEAM_SPY_GAME);
+        when(steamSpyService.getSteamSpyInfo(any(Long.class))).thenReturn(Mono.just(SAMPLE_STEAM_SPY_GAME));
 
         // Mock sgdb service
-        when(steamGridDBService.getBySteamId(any(Long.class))).thenReturn(SAMPLE_SGDB_GAME);
-        when(steamGridDBService.getGridsById(any(Long.class))).thenReturn("{\"success\":true,\"data\":[{\"id\":103242,\"score\":0,\"style\":\"alternate\",\"width\":600,\"height\":900,\"nsfw\":false,\"humor\":false,\"notes\":null,\"mime\":\"image/png\",\"language\":\"en\",\"url\":\"https://cdn2.steamgriddb.com/grid/41a69c66f821f25c8184aea3bb35225d.png\",\"thumb\":\"https://cdn2.steamgriddb.com/thumb/41a69c66f821f25c8184aea3bb35225d.jpg\",\"lock\":false,\"epilepsy\":false,\"upvotes\":0,\"downvotes\":0,\"author\":{\"name\":\"Reiisen\",\"steam64\":\"76561198275966827\",\"avatar\":\"https://avatars.steamstatic.com/7e89e3dd262e818b545a5dc1a2f225f71984a9a0_medium.jpg\"}}]}");
+        when(steamGridDBService.getBySteamId(any(Long.class))).thenReturn(Mono.just(SAMPLE_SGDB_GAME));
+        when(gridResolutionService.getGrid(any(Long.class))).thenReturn(Mono.just(GridResponse.builder()
+                .sgdbId(9022L)
+                .url("https://cdn2.steamgriddb.com/grid/41a69c66f821f25c8184aea3bb35225d.png")
+                .width(600)
+                .height(900)
+                .build()));
 
         // Verify result
-        UserGamesImportList response = steamService.getGames("76561198356072322");
+        UserGamesImportList response = steamService.getGames("76561198356072322").block();
         assertNotNull(response.getGames());
+        assertEquals("https://cdn2.steamgriddb.com/grid/41a69c66f821f25c8184aea3bb35225d.png", response.getGames().getFirst().getImage());
+    }
+
+    /**
+     * Test for {@link SteamServiceImpl#getGames} method.
+     */
+    @Test
+    @DisplayName("Test getGames method without SGDB match (OK)")
+    void testGetGamesWithoutSgdbMatch() {
+        // Mock web server response
+        mockWebServer.enqueue(new MockResponse()
+                .setResponseCode(200)
+                .setHeader("Content-Type", "application/json")
+                .setBody("{\"response\":{\"game_count\":2,\"games\":[{\"appid\":4000,\"playtime_forever\":3770},{\"appid\":400,\"playtime_forever\":12}]}}")
+        );
+
+        // Mock steam spy and sgdb services
+        when(steamSpyService.getSteamSpyInfo(any(Long.class))).thenReturn(Mono.just(SAMPLE_STEAM_SPY_GAME));
+        when(steamGridDBService.getBySteamId(4000L)).thenReturn(Mono.empty());
+        when(steamGridDBService.getBySteamId(400L)).thenReturn(Mono.just(SAMPLE_SGDB_GAME));
+        when(gridResolutionService.getGrid(any(Long.class))).thenReturn(Mono.empty());
+
+        // Verify result
+        UserGamesImportList response = steamService.getGames("76561198356072322").block();
+        assertNotNull(response);
+        assertEquals(1, response.getGames().size());
+        assertEquals("https://cdn.cloudflare.steamstatic.com/steam/apps/400/library_600x900.jpg", response.getGames().getFirst().getImage());
+    }
+
+    /**
+     * Test for {@link SteamServiceImpl#getGames} method reporting the progress.
+     */
+    @Test
+    @DisplayName("Test getGames method with progress listener skipping failed apps (OK)")
+    void testGetGamesWithProgress() {
+        // Mock web server response
+        mockWebServer.enqueue(new MockResponse()
+                .setResponseCode(200)
+                .setHeader("Content-Type", "application/json")
+                .setBody("{\"response\":{\"game_count\":2,\"games\":[{\"appid\":4000,\"playtime_forever\":3770},{\"appid\":400,\"playtime_forever\":12}]}}")
+        );
+
+        // Mock steam spy and sgdb services, steam spy is down for the first app
+        when(steamSpyService.getSteamSpyInfo(4000L)).thenReturn(Mono.error(new IllegalStateException("Upstream down")));
+        when(steamSpyService.getSteamSpyInfo(400L)).thenReturn(Mono.just(SAMPLE_STEAM_SPY_GAME));
+        when(steamGridDBService.getBySteamId(400L)).thenReturn(Mono.just(SAMPLE_SGDB_GAME));
+        when(gridResolutionService.getGrid(any(Long.class))).thenReturn(Mono.empty());
+
+        AtomicInteger found = new AtomicInteger();
+        AtomicInteger resolved = new AtomicInteger();
+        List<Long> failed = new CopyOnWriteArrayList<>();
+        ImportProgressListener listener = new ImportProgressListener() {
+            @Override
+            public void appsFound(int apps) {
+                found.set(apps);
+            }
+
+            @Override
+            public void appResolved() {
+                resolved.incrementAndGet();
+            }
+
+            @Override
+            public void appFailed(Long appId, Throwable error) {
+                failed.add(appId);
+            }
+        };
+
+        // Verify result
+        UserGamesImportList response = steamService.getGames("76561198356072322", listener).block();
+        assertNotNull(response);
+        assertEquals(1, response.getGames().size());
+        assertEquals(2, found.get());
+        assertEquals(1, resolved.get());
+        assertEquals(List.of(4000L), failed);
     }
-}
\ No newline at end of file
+}
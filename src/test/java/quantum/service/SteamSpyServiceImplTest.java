@@ -1,5 +1,6 @@
 package quantum.service;
 
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
 import okhttp3.mockwebserver.MockResponse;
 import okhttp3.mockwebserver.MockWebServer;
 import org.junit.jupiter.api.AfterEach;
@@ -17,16 +18,23 @@ import org.springframework.web.reactive.function.client.WebClient;
 import quantum.dto.sgdb.SGDBGame;
 import quantum.dto.steamSpy.SteamSpyGame;
 import quantum.filter.AuthTokenFilter;
+import quantum.model.SteamSpyCacheEntry;
+import quantum.repository.SteamSpyCacheRepository;
 import quantum.service.impl.GameServiceImpl;
 import quantum.service.impl.SteamGridDBServiceImpl;
 import quantum.service.impl.SteamSpyServiceImpl;
+import reactor.core.scheduler.Schedulers;
 
 import java.io.IOException;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Map;
+import java.util.Optional;
 
-import static org.junit.jupiter.api.Assertions.assertNotNull;
-import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.*;
 import static org.mockito.ArgumentMatchers.anyString;
-import static org.mockito.Mockito.when;
+import static org.mockito.ArgumentMatchers.argThat;
+import static org.mockito.Mockito.*;
 
 
 /**
@@ -48,6 +56,11 @@ class SteamSpyServiceImplTest {
     @Mock
     private WebClient webClient;
 
+    @Mock
+    private SteamSpyCacheRepository cacheRepository;
+
+    private SimpleMeterRegistry meterRegistry;
+
     private static MockWebServer mockWebServer;
 
     @BeforeEach
@@ -55,7 +68,8 @@ class SteamSpyServiceImplTest {
         when(webClientBuilder.baseUrl(anyString())).thenReturn(webClientBuilder);
         when(webClientBuilder.build()).thenReturn(webClient);
 
-        this.steamSpyService = new SteamSpyServiceImpl(webClientBuilder);
+        this.meterRegistry = new SimpleMeterRegistry();
+        this.steamSpyService = new SteamSpyServiceImpl(webClientBuilder, cacheRepository, meterRegistry, Schedulers.boundedElastic());
 
         // Start the MockWebServer
         mockWebServer = new MockWebServer();
@@ -78,7 +92,7 @@ class SteamSpyServiceImplTest {
     @Test
     @DisplayName("Test RequiredArgsConstructor method (OK)")
     void testRequiredArgsConstructor() {
-        SteamSpyServiceImpl service = new SteamSpyServiceImpl(webClient);
+        SteamSpyServiceImpl service = new SteamSpyServiceImpl(webClient, cacheRepository, meterRegistry, Schedulers.boundedElastic());
         assertNotNull(service);
     }
 
@@ -91,13 +105,97 @@ class SteamSpyServiceImplTest {
         // Mock API response
         mockWebServer.enqueue(new MockResponse()
                 .setResponseCode(200)
+                .setHeader("Content-Type", "application/json")
                 .setBody("{\"appid\":4000,\"name\":\"Garry's Mod\",\"developer\":\"Facepunch Studios\",\"publisher\":\"Valve\",\"score_rank\":\"\",\"positive\":1091540,\"negative\":36287,\"userscore\":0,\"owners\":\"20,000,000 .. 50,000,000\",\"average_forever\":13444,\"average_2weeks\":246,\"median_forever\":1679,\"median_2weeks\":86,\"price\":\"999\",\"initialprice\":\"999\",\"discount\":\"0\",\"ccu\":31594,\"languages\":\"English\",\"genre\":\"Casual, Indie, Simulation\",\"tags\":{\"Sandbox\":18633}}")
 
         );
 
         // Call the method and assert the response
-        SteamSpyGame response = steamSpyService.getSteamSpyInfo(400L);
+        SteamSpyGame response = steamSpyService.getSteamSpyInfo(400L).block();
+        assertNotNull(response);
+    }
+
+    /**
+     * Test for {@link SteamSpyServiceImpl#getSteamSpyInfo} method with a fresh cache entry.
+     */
+    @Test
+    @DisplayName("Test getSteamSpyInfo method from cache (OK)")
+    void getSteamSpyInfoCached() {
+        when(cacheRepository.findById(4000L)).thenReturn(Optional.of(SteamSpyCacheEntry.builder()
+                .appId(4000L)
+                .name("Garry's Mod")
+                .tags(Map.of("Sandbox", 18633))
+                .failed(false)
+                .fetchedAt(Instant.now())
+                .build()));
+
+        SteamSpyGame response = steamSpyService.getSteamSpyInfo(4000L).block();
+
+        assertNotNull(response);
+        assertEquals("Garry's Mod", response.getName());
+        assertEquals(0, mockWebServer.getRequestCount());
+        assertEquals(1, meterRegistry.counter("cache.gets", "cache", "steamspy", "result", "hit").count());
+    }
+
+    /**
+     * Test for {@link SteamSpyServiceImpl#getSteamSpyInfo} method with a fresh negative cache entry.
+     */
+    @Test
+    @DisplayName("Test getSteamSpyInfo method from negative cache (OK)")
+    void getSteamSpyInfoNegativeCached() {
+        when(cacheRepository.findById(4000L)).thenReturn(Optional.of(SteamSpyCacheEntry.builder()
+                .appId(4000L)
+                .failed(true)
+                .fetchedAt(Instant.now())
+                .build()));
+
+        SteamSpyGame response = steamSpyService.getSteamSpyInfo(4000L).block();
+
+        assertNull(response);
+        assertEquals(0, mockWebServer.getRequestCount());
+    }
+
+    /**
+     * Test for {@link SteamSpyServiceImpl#getSteamSpyInfo} method with an expired cache entry.
+     */
+    @Test
+    @DisplayName("Test getSteamSpyInfo method with expired cache (OK)")
+    void getSteamSpyInfoExpired() {
+        when(cacheRepository.findById(4000L)).thenReturn(Optional.of(SteamSpyCacheEntry.builder()
+                .appId(4000L)
+                .name("Old name")
+                .failed(false)
+                .fetchedAt(Instant.now().minus(Duration.ofDays(365)))
+                .build()));
+        mockWebServer.enqueue(new MockResponse()
+                .setResponseCode(200)
+                .setHeader("Content-Type", "application/json")
+                .setBody("{\"appid\":4000,\"name\":\"Garry's Mod\",\"tags\":{\"Sandbox\":18633}}"));
+
+        SteamSpyGame response = steamSpyService.getSteamSpyInfo(4000L).block();
+
         assertNotNull(response);
+        assertEquals("Garry's Mod", response.getName());
+        assertEquals(1, mockWebServer.getRequestCount());
+        assertEquals(1, meterRegistry.counter("cache.gets", "cache", "steamspy", "result", "miss").count());
+        verify(cacheRepository).save(argThat(entry -> !entry.getFailed() && "Garry's Mod".equals(entry.getName())));
+    }
+
+    /**
+     * Test for {@link SteamSpyServiceImpl#getSteamSpyInfo} method with an unparseable response.
+     */
+    @Test
+    @DisplayName("Test getSteamSpyInfo method caching a failed lookup (OK)")
+    void getSteamSpyInfoNegativeStored() {
+        mockWebServer.enqueue(new MockResponse()
+                .setResponseCode(200)
+                .setHeader("Content-Type", "application/json")
+                .setBody("not json"));
+
+        SteamSpyGame response = steamSpyService.getSteamSpyInfo(4000L).block();
+
+        assertNull(response);
+        verify(cacheRepository).save(argThat(SteamSpyCacheEntry::getFailed));
     }
 
 }
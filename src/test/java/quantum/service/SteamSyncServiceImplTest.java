@@ -0,0 +1,193 @@
+package quantum.service;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.Spy;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.dao.DataAccessResourceFailureException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+import quantum.dto.sgdb.SGDBGame;
+import quantum.dto.steam.SteamGame;
+import quantum.exceptions.DatabaseConnectionException;
+import quantum.repository.UserGamesRepository;
+import quantum.repository.projections.SteamLibraryProjection;
+import quantum.service.impl.SteamSyncServiceImpl;
+import quantum.utils.BacklogStatsDelta;
+import quantum.utils.ImportProgressListener;
+import reactor.core.publisher.Mono;
+
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+import static quantum.constant.TestConstants.SAMPLE_USERNAME;
+
+/**
+ * Test for {@link SteamSyncServiceImpl} service class.
+ */
+@ExtendWith(MockitoExtension.class)
+class SteamSyncServiceImplTest {
+
+    @Mock
+    private SteamService steamService;
+
+    @Mock
+    private SteamGridDBService steamGridDBService;
+
+    @Mock
+    private UserGamesRepository repository;
+
+    @Mock
+    private JdbcTemplate jdbcTemplate;
+
+    @Mock
+    private UserStatsService userStatsService;
+
+    private final PlatformTransactionManager transactionManager = mock(PlatformTransactionManager.class);
+
+    @Spy
+    private TransactionTemplate transactionTemplate = new TransactionTemplate(transactionManager);
+
+    @InjectMocks
+    private SteamSyncServiceImpl service;
+
+    /**
+     * Test for {@link SteamSyncServiceImpl#syncOwnedGames} method.
+     */
+    @Test
+    @DisplayName("Test syncOwnedGames method (OK)")
+    @SuppressWarnings("unchecked")
+    void syncOwnedGames() {
+        // Owned apps: 10 known by app id, 20 known by sgdb id, 30 new, 40 without SGDB match, 50 unchanged
+        when(steamService.getOwnedGames("steam")).thenReturn(Mono.just(List.of(
+                new SteamGame(10L, 120),
+                new SteamGame(20L, 60),
+                new SteamGame(30L, 5),
+                new SteamGame(40L, 1),
+                new SteamGame(50L, 7))));
+        when(repository.findSteamLibraryByUsername(SAMPLE_USERNAME)).thenReturn(List.of(
+                libraryEntry(1L, 11L, 100L, 10L, 100, 2),
+                libraryEntry(2L, 12L, 200L, null, 60, null),
+                libraryEntry(3L, 13L, 500L, 50L, 7, 1)));
+        when(steamGridDBService.getBySteamId(20L)).thenReturn(Mono.just(SGDBGame.builder().id(200L).build()));
+        when(steamGridDBService.getBySteamId(30L)).thenReturn(Mono.just(SGDBGame.builder().id(300L).build()));
+        when(steamGridDBService.getBySteamId(40L)).thenReturn(Mono.empty());
+
+        AtomicInteger resolved = new AtomicInteger();
+        List<SteamGame> newGames = service.syncOwnedGames(SAMPLE_USERNAME, "steam", new ImportProgressListener() {
+            @Override
+            public void appResolved() {
+                resolved.incrementAndGet();
+            }
+        });
+
+        assertEquals(List.of(new SteamGame(30L, 5)), newGames);
+        assertEquals(4, resolved.get());
+        verify(steamGridDBService, never()).getBySteamId(10L);
+        verify(steamGridDBService, never()).getBySteamId(50L);
+
+        ArgumentCaptor<List<Object[]>> timePlayed = ArgumentCaptor.forClass(List.class);
+        ArgumentCaptor<List<Object[]>> steamAppIds = ArgumentCaptor.forClass(List.class);
+        verify(jdbcTemplate).batchUpdate(eq("UPDATE user_games SET time_played = ? WHERE user_game_id = ?"), timePlayed.capture());
+        verify(jdbcTemplate).batchUpdate(eq("UPDATE games_t SET steam_app_id = ? WHERE game_id = ? AND steam_app_id IS NULL"), steamAppIds.capture());
+        assertEquals(1, timePlayed.getValue().size());
+        assertArrayEquals(new Object[]{120, 1L}, timePlayed.getValue().getFirst());
+        assertEquals(1, steamAppIds.getValue().size());
+        assertArrayEquals(new Object[]{20L, 12L}, steamAppIds.getValue().getFirst());
+
+        ArgumentCaptor<BacklogStatsDelta> delta = ArgumentCaptor.forClass(BacklogStatsDelta.class);
+        verify(userStatsService).applyDelta(eq(SAMPLE_USERNAME), delta.capture());
+        assertEquals(20, delta.getValue().get(2)[BacklogStatsDelta.TIME_PLAYED]);
+        assertEquals(0, delta.getValue().get(2)[BacklogStatsDelta.PLAYED_GAMES]);
+        verify(transactionManager).commit(any());
+    }
+
+    /**
+     * Test for {@link SteamSyncServiceImpl#syncOwnedGames} method with a failed update.
+     */
+    @Test
+    @DisplayName("Test syncOwnedGames method (DatabaseConnectionException)")
+    void syncOwnedGamesDatabaseConnectionException() {
+        when(steamService.getOwnedGames("steam")).thenReturn(Mono.just(List.of(new SteamGame(10L, 120))));
+        when(repository.findSteamLibraryByUsername(SAMPLE_USERNAME)).thenReturn(List.of(libraryEntry(1L, 11L, 100L, 10L, 100, 2)));
+        when(jdbcTemplate.batchUpdate(eq("UPDATE user_games SET time_played = ? WHERE user_game_id = ?"), anyList()))
+                .thenThrow(new DataAccessResourceFailureException("Connection lost"));
+
+        assertThrows(DatabaseConnectionException.class,
+                () -> service.syncOwnedGames(SAMPLE_USERNAME, "steam", ImportProgressListener.NONE));
+
+        verifyNoInteractions(userStatsService);
+        verify(transactionManager).rollback(any());
+        verify(transactionManager, never()).commit(any());
+    }
+
+    /**
+     * Test for {@link SteamSyncServiceImpl#syncOwnedGames} method with a private profile.
+     */
+    @Test
+    @DisplayName("Test syncOwnedGames method without owned games (OK)")
+    void syncOwnedGamesEmpty() {
+        when(steamService.getOwnedGames("steam")).thenReturn(Mono.just(List.of()));
+        when(repository.findSteamLibraryByUsername(SAMPLE_USERNAME)).thenReturn(List.of());
+
+        List<SteamGame> newGames = service.syncOwnedGames(SAMPLE_USERNAME, "steam", ImportProgressListener.NONE);
+
+        assertTrue(newGames.isEmpty());
+        verifyNoInteractions(steamGridDBService);
+    }
+
+    /**
+     * Build a library entry.
+     *
+     * @param userGameId The user game id.
+     * @param gameId     The game id.
+     * @param sgdbId     The SGDB id.
+     * @param steamAppId The steam app id.
+     * @param timePlayed The time played.
+     * @param backlog    The backlog.
+     * @return The library entry.
+     */
+    private SteamLibraryProjection libraryEntry(Long userGameId, Long gameId, Long sgdbId, Long steamAppId, Integer timePlayed, Integer backlog) {
+        return new SteamLibraryProjection() {
+            @Override
+            public Long getUserGameId() {
+                return userGameId;
+            }
+
+            @Override
+            public Long getGameId() {
+                return gameId;
+            }
+
+            @Override
+            public Long getSgdbId() {
+                return sgdbId;
+            }
+
+            @Override
+            public Long getSteamAppId() {
+                return steamAppId;
+            }
+
+            @Override
+            public Integer getTimePlayed() {
+                return timePlayed;
+            }
+
+            @Override
+            public Integer getBacklog() {
+                return backlog;
+            }
+        };
+    }
+}
@@ -1,35 +1,45 @@
 package quantum.service;
 
+import com.fasterxml.jackson.databind.ObjectMapper;
+import jakarta.persistence.EntityManager;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.Spy;
 import org.mockito.junit.jupiter.MockitoExtension;
-import org.springframework.data.domain.Page;
-import org.springframework.data.domain.PageImpl;
-import org.springframework.data.domain.Pageable;
-import quantum.dto.game.GameListResponse;
-import quantum.dto.game.GameResponse;
+import org.springframework.data.domain.*;
+import org.springframework.data.jpa.domain.Specification;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
 import quantum.dto.userGames.*;
 import quantum.dto.userGames.steamImport.UserGameImport;
 import quantum.dto.userGames.steamImport.UserGamesImportList;
-import quantum.mapping.GamesMappingImpl;
 import quantum.mapping.UserGamesMappingImpl;
 import quantum.model.Game;
 import quantum.model.User;
 import quantum.model.UserGame;
 import quantum.repository.UserGamesRepository;
 import quantum.service.impl.UserGamesServiceImpl;
+import quantum.utils.BacklogStatsDelta;
+import quantum.utils.TagDictionary;
 
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
 import java.util.*;
+import java.util.function.Function;
+import java.util.stream.Stream;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.junit.jupiter.api.Assertions.assertDoesNotThrow;
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
 import static org.mockito.ArgumentMatchers.any;
-import static org.mockito.Mockito.when;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
 import static quantum.constant.TestConstants.*;
 
 /**
@@ -46,11 +56,23 @@ class UserGamesServiceImplTest {
     @Mock
     private GameService gameService;
 
+    @Mock
+    private UserStatsService userStatsService;
+
+    @Mock
+    private OwnershipIndexService ownershipIndexService;
+
+    @Mock
+    private EntityManager entityManager;
+
+    @Mock
+    private TagDictionary tagDictionary;
+
     @Spy
-    private UserGamesMappingImpl mapper;
+    private ObjectMapper objectMapper = Jackson2ObjectMapperBuilder.json().build();
 
     @Spy
-    private GamesMappingImpl gamesMapper;
+    private UserGamesMappingImpl mapper;
 
     @InjectMocks
     private UserGamesServiceImpl service;
@@ -79,14 +101,6 @@ class UserGamesServiceImplTest {
             .totalAchivements(2)
             .build();
 
-    public static final GameResponse SAMPLE_GAME_RESPONSE = GameResponse.builder()
-            .id(1L)
-            .name("GameName")
-            .tags(List.of("GameTag1", "GameTag2"))
-            .image("GameImage")
-            .sgdbId(1L)
-            .build();
-
     public static final UserGameImport SAMPLE_USER_GAME_IMPORT = UserGameImport.builder()
             .sgdbId(5L)
             .name("ImportedGame")
@@ -117,6 +131,45 @@ class UserGamesServiceImplTest {
         assertEquals(SAMPLE_USER_GAME.getImage(), response.getGames().getFirst().getImage());
     }
 
+    /**
+     * Test for {@link UserGamesServiceImpl#scrollUserGames} method.
+     */
+    @Test
+    @DisplayName("Test scrollUserGames method (OK)")
+    @SuppressWarnings("unchecked")
+    void scrollUserGamesOK() {
+        Window<UserGame> window = Window.from(List.of(SAMPLE_USER_GAME), index -> ScrollPosition.forward(Map.of("id", 1L)), false);
+
+        // Mock dependencies
+        when(repository.findBy(any(Specification.class), any(Function.class))).thenReturn(window);
+
+        // Verify result
+        UserGamesListResponse response = service.scrollUserGames(SAMPLE_USERNAME, "favorite", "", PageRequest.of(0, 20));
+
+        assertEquals(1, response.getGames().size());
+        assertEquals(SAMPLE_USER_GAME.getGame(), response.getGames().getFirst().getGame());
+        assertNull(response.getNextCursor());
+    }
+
+    /**
+     * Test for {@link UserGamesServiceImpl#exportUserGames} method.
+     *
+     * @throws IOException if the games can not be written.
+     */
+    @Test
+    @DisplayName("Test exportUserGames method (OK)")
+    void exportUserGamesOK() throws IOException {
+        when(repository.streamByUsername(SAMPLE_USERNAME)).thenReturn(Stream.of(SAMPLE_USER_GAME, SAMPLE_USER_GAME));
+        ByteArrayOutputStream outputStream = new ByteArrayOutputStream();
+
+        service.exportUserGames(SAMPLE_USERNAME, outputStream);
+
+        String[] lines = outputStream.toString(StandardCharsets.UTF_8).split("\n");
+        assertEquals(2, lines.length);
+        assertEquals(SAMPLE_USER_GAME.getTimePlayed(), objectMapper.readValue(lines[0], UserGameResponse.class).getTimePlayed());
+        verify(entityManager).clear();
+    }
+
     /**
      * Test for {@link UserGamesServiceImpl#getOnlineGames} method.
      */
@@ -143,7 +196,8 @@ class UserGamesServiceImplTest {
         List<User> users = List.of(User.builder().username("user1").build(), User.builder().username("user2").build());
 
         // Mock dependencies
-        when(repository.findByUser_UsernameAndTagsIn(any(String.class), any(Set.class))).thenReturn(List.of(SAMPLE_USER_GAME));
+        when(repository.findCommonGameIds(eq(Set.of("user1", "user2")), any(Collection.class), eq(2L))).thenReturn(List.of(SAMPLE_USER_GAME.getGame().getId()));
+        when(gameService.findGamesByIds(List.of(SAMPLE_USER_GAME.getGame().getId()))).thenReturn(List.of(SAMPLE_USER_GAME.getGame()));
 
         // Verify result
         Set<Game> result = service.getCommonGames(users);
@@ -151,6 +205,40 @@ class UserGamesServiceImplTest {
         assertThat(result).hasSize(1).extracting(Game::getName).containsExactly(SAMPLE_USER_GAME.getGame().getName());
     }
 
+    /**
+     * Test for {@link UserGamesServiceImpl#getCommonGames} method answered by the ownership index.
+     */
+    @Test
+    @DisplayName("Test getCommonGames method with the ownership index (OK)")
+    void getCommonGamesIndexed() {
+        List<User> users = List.of(User.builder().id(1L).username("user1").build(), User.builder().id(2L).username("user2").build());
+
+        // Mock dependencies
+        when(ownershipIndexService.findCommonGameIds(Set.of(1L, 2L))).thenReturn(Optional.of(List.of(SAMPLE_GAME.getId())));
+        when(gameService.findGamesByIds(List.of(SAMPLE_GAME.getId()))).thenReturn(List.of(SAMPLE_GAME));
+
+        // Verify result
+        assertThat(service.getCommonGames(users)).containsExactly(SAMPLE_GAME);
+        verify(repository, never()).findCommonGameIds(any(), any(), anyLong());
+    }
+
+    /**
+     * Test for {@link UserGamesServiceImpl#getCommonGames} method without common games.
+     */
+    @Test
+    @DisplayName("Test getCommonGames method without common games (OK)")
+    void getCommonGamesEmpty() {
+        List<User> users = List.of(User.builder().username("user1").build());
+
+        // Mock dependencies
+        when(repository.findCommonGameIds(any(Collection.class), any(Collection.class), eq(1L))).thenReturn(List.of());
+
+        // Verify result
+        assertThat(service.getCommonGames(users)).isEmpty();
+        assertThat(service.getCommonGames(List.of())).isEmpty();
+        verifyNoInteractions(gameService);
+    }
+
     /**
      * Test for {@link UserGamesServiceImpl#postUserGame} method.
      */
@@ -211,6 +299,12 @@ class UserGamesServiceImplTest {
 
         // Verify result
         assertDoesNotThrow(() -> service.deleteUserGame(SAMPLE_USER.getUsername(), SAMPLE_GAME.getId()));
+
+        // Verify the game is discounted from its backlog stats
+        ArgumentCaptor<BacklogStatsDelta> delta = ArgumentCaptor.forClass(BacklogStatsDelta.class);
+        verify(userStatsService).applyDelta(eq(SAMPLE_USER.getUsername()), delta.capture());
+        assertEquals(-1, delta.getValue().get(1)[BacklogStatsDelta.GAMES]);
+        assertEquals(-123, delta.getValue().get(1)[BacklogStatsDelta.TIME_PLAYED]);
     }
 
     /**
@@ -220,8 +314,7 @@ class UserGamesServiceImplTest {
     @DisplayName("Test getStats method (OK)")
     void getStatsOK() {
         // Mock dependencies
-        when(repository.findByUser_UsernameAndBacklog(any(String.class), any(Integer.class), any(Pageable.class))).thenReturn(new PageImpl<>(new ArrayList<>()));
-        when(repository.findByUser_Username(any(String.class), any(Pageable.class))).thenReturn(new PageImpl<>(List.of(SAMPLE_USER_GAME)));
+        when(userStatsService.getStats(SAMPLE_USERNAME)).thenReturn(StatsResponse.builder().numOfFinishedGames(1).build());
 
         // Verify result
         StatsResponse stats = service.getStats(SAMPLE_USERNAME);
@@ -239,8 +332,8 @@ class UserGamesServiceImplTest {
                 .games(List.of(SAMPLE_USER_GAME_IMPORT)).build();
 
         // Mock dependencies
-        when(gameService.getGames(any(Pageable.class))).thenReturn(GameListResponse.builder().games(List.of(SAMPLE_GAME_RESPONSE)).build());
-        when(repository.findByUser_Username(any(String.class), any(Pageable.class))).thenReturn(Page.empty());
+        when(gameService.findGamesBySgdbIds(any(Collection.class))).thenReturn(List.of());
+        when(repository.findSgdbIdsByUsernameAndSgdbIdIn(any(String.class), any(Collection.class))).thenReturn(Set.of());
         when(userService.findUser(any(String.class))).thenReturn(SAMPLE_USER);
         when(repository.saveAll(any(List.class))).thenAnswer(invocation -> invocation.getArgument(0));
 
@@ -251,4 +344,59 @@ class UserGamesServiceImplTest {
         assertEquals(SAMPLE_USER_GAME_IMPORT.getTimePlayed(), response.getGames().getFirst().getTimePlayed());
         assertEquals(SAMPLE_USER_GAME_IMPORT.getImage(), response.getGames().getFirst().getImage());
     }
+
+    /**
+     * Test for {@link UserGamesServiceImpl#importUserGames} method with games already stored.
+     */
+    @Test
+    @DisplayName("Test importUserGames method with stored games (OK)")
+    void importUserGamesStoredGames() {
+        UserGameImport ownedGame = UserGameImport.builder()
+                .sgdbId(6L)
+                .name("OwnedGame")
+                .tags(List.of())
+                .build();
+        UserGamesImportList userGamesImportList = UserGamesImportList.builder()
+                .games(List.of(SAMPLE_USER_GAME_IMPORT, ownedGame)).build();
+        Game storedGame = Game.builder().id(2L).name("StoredGame").sgdbId(5L).tags(Set.of()).build();
+
+        // Mock dependencies
+        when(gameService.findGamesBySgdbIds(any(Collection.class))).thenReturn(List.of(storedGame));
+        when(repository.findSgdbIdsByUsernameAndSgdbIdIn(any(String.class), any(Collection.class))).thenReturn(Set.of(6L));
+        when(userService.findUser(any(String.class))).thenReturn(SAMPLE_USER);
+        when(repository.saveAll(any(List.class))).thenAnswer(invocation -> invocation.getArgument(0));
+
+        // Verify result
+        UserGamesListResponse response = service.importUserGames(SAMPLE_USERNAME, userGamesImportList);
+
+        assertEquals(1, response.getGames().size());
+        assertEquals(storedGame.getId(), response.getGames().getFirst().getGame().getId());
+        verify(gameService).postGames(List.of());
+    }
+
+    /**
+     * Test for {@link UserGamesServiceImpl#postUserGames} method with more games than an IN list chunk.
+     */
+    @Test
+    @DisplayName("Test postUserGames method searching the library by chunks (OK)")
+    void postUserGamesChunked() {
+        Map<Long, NewUserGameBody> gamesToImport = new HashMap<>();
+        for (long i = 0; i < 1500; i++) {
+            gamesToImport.put(i, NewUserGameBody.builder().name("Game" + i).tags(Set.of()).build());
+        }
+
+        // Mock dependencies
+        when(gameService.findGamesBySgdbIds(any(Collection.class))).thenReturn(List.of());
+        when(repository.findSgdbIdsByUsernameAndSgdbIdIn(any(String.class), any(Collection.class)))
+                .thenReturn(Set.of(1L))
+                .thenReturn(Set.of(1200L));
+        when(userService.findUser(any(String.class))).thenReturn(SAMPLE_USER);
+        when(repository.saveAll(any(List.class))).thenAnswer(invocation -> invocation.getArgument(0));
+
+        // Verify result, one query per chunk of ids
+        List<UserGame> response = service.postUserGames(SAMPLE_USERNAME, gamesToImport);
+
+        assertEquals(1498, response.size());
+        verify(repository, times(2)).findSgdbIdsByUsernameAndSgdbIdIn(any(String.class), any(Collection.class));
+    }
 }
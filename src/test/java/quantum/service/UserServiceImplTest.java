@@ -24,6 +24,7 @@ import quantum.exceptions.EntityNotFoundException;
 import quantum.mapping.UsersMappingImpl;
 import quantum.model.User;
 import quantum.repository.UserRepository;
+import quantum.security.PrincipalCache;
 import quantum.service.impl.UserServiceImpl;
 
 import java.util.Collections;
@@ -32,8 +33,7 @@ import java.util.Optional;
 
 import static org.junit.jupiter.api.Assertions.*;
 import static org.mockito.ArgumentMatchers.any;
-import static org.mockito.Mockito.doThrow;
-import static org.mockito.Mockito.when;
+import static org.mockito.Mockito.*;
 import static quantum.constant.TestConstants.SAMPLE_USER;
 import static quantum.constant.TestConstants.SAMPLE_USERNAME;
 
@@ -49,6 +49,15 @@ class UserServiceImplTest {
     @Spy
     private UsersMappingImpl mapper;
 
+    @Mock
+    private UserStatsService userStatsService;
+
+    @Mock
+    private OwnershipIndexService ownershipIndexService;
+
+    @Mock
+    private PrincipalCache principalCache;
+
     @InjectMocks
     private UserServiceImpl service;
 
@@ -88,7 +97,7 @@ class UserServiceImplTest {
         Page<User> pagedResult = new PageImpl<>(resultContent, pageable, resultContent.size());
 
         // Mock dependencies
-        when(userRepository.findAll(any(Pageable.class))).thenReturn(pagedResult);
+        when(userRepository.findAllBy(any(Pageable.class))).thenReturn(pagedResult);
         when(mapper.map(any(User.class))).thenCallRealMethod();
 
         // Verify result
@@ -107,7 +116,7 @@ class UserServiceImplTest {
     @DisplayName("Test getUsers method (DatabaseConnectionException)")
     void getUsersDatabaseConnectionException() {
         Pageable pageable = PageRequest.of(0, 10);
-        when(userRepository.findAll(any(Pageable.class))).thenThrow(JDBCConnectionException.class);
+        when(userRepository.findAllBy(any(Pageable.class))).thenThrow(JDBCConnectionException.class);
         assertThrows(DatabaseConnectionException.class, () -> service.getUsers(pageable));
     }
 
@@ -120,7 +129,7 @@ class UserServiceImplTest {
         Pageable pageable = PageRequest.of(0, 10);
         List<User> resultContent = Collections.nCopies(0, SAMPLE_USER);
         Page<User> pagedResult = new PageImpl<>(resultContent, pageable, resultContent.size());
-        when(userRepository.findAll(any(Pageable.class))).thenReturn(pagedResult);
+        when(userRepository.findAllBy(any(Pageable.class))).thenReturn(pagedResult);
         assertThrows(EntityNotFoundException.class, () -> service.getUsers(pageable));
     }
 
@@ -287,6 +296,7 @@ class UserServiceImplTest {
 
         assertEquals(SAMPLE_UPDATE_USER.getImage(), response.getImage());
         assertEquals(SAMPLE_UPDATE_USER.getEmail(), response.getEmail());
+        verify(principalCache).evict(SAMPLE_USER.getUsername());
     }
 
     /**
@@ -327,6 +337,7 @@ class UserServiceImplTest {
         UserResponse response = service.updatePassword(SAMPLE_USER.getUsername(), SAMPLE_UPDATE_PASSWORD_BODY);
 
         assertNotNull(response);
+        verify(principalCache).evict(SAMPLE_USER.getUsername());
     }
 
     /**
@@ -366,6 +377,9 @@ class UserServiceImplTest {
 
         // Verify result
         assertDoesNotThrow(() -> service.deleteUser(SAMPLE_USER.getUsername()));
+        verify(userStatsService).deleteStats(testUser.getId());
+        verify(ownershipIndexService).removeUser(testUser.getId());
+        verify(principalCache).evict(SAMPLE_USER.getUsername());
     }
 
     /**
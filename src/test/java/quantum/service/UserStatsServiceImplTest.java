@@ -0,0 +1,269 @@
+package quantum.service;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.dao.QueryTimeoutException;
+import quantum.dto.userGames.BacklogResponse;
+import quantum.dto.userGames.StatsResponse;
+import quantum.model.UserBacklogStats;
+import quantum.model.UserGame;
+import quantum.repository.UserBacklogStatsRepository;
+import quantum.repository.UserGamesRepository;
+import quantum.repository.UserRepository;
+import quantum.repository.projections.BacklogStatsProjection;
+import quantum.service.impl.UserStatsServiceImpl;
+import quantum.utils.BacklogStatsDelta;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+import static quantum.constant.TestConstants.SAMPLE_USER;
+import static quantum.constant.TestConstants.SAMPLE_USERNAME;
+
+/**
+ * Test for {@link UserStatsServiceImpl} service class.
+ */
+@ExtendWith(MockitoExtension.class)
+class UserStatsServiceImplTest {
+
+    @Mock
+    private UserBacklogStatsRepository repository;
+
+    @Mock
+    private UserGamesRepository userGamesRepository;
+
+    @Mock
+    private UserRepository userRepository;
+
+    private MeterRegistry meterRegistry;
+
+    private UserStatsServiceImpl service;
+
+    @BeforeEach
+    void setup() {
+        meterRegistry = new SimpleMeterRegistry();
+        service = new UserStatsServiceImpl(repository, userGamesRepository, userRepository, meterRegistry);
+    }
+
+    /**
+     * Test for {@link UserStatsServiceImpl#getStats} method with stored stats.
+     */
+    @Test
+    @DisplayName("Test getStats method (OK)")
+    void getStatsOK() {
+        // Mock dependencies
+        when(repository.findByUsername(SAMPLE_USERNAME)).thenReturn(List.of(
+                storedStats(1, 1L, 1L, 0L, 1L, 123L, 1L, 2L),
+                storedStats(0, 3L, 1L, 3L, 0L, 10L, 3L, 3L),
+                storedStats(2, 0L, 0L, 0L, 0L, 0L, 0L, 0L),
+                storedStats(3, 0L, 0L, 0L, 0L, 0L, 0L, 0L)));
+
+        // Verify result
+        StatsResponse stats = service.getStats(SAMPLE_USERNAME);
+
+        assertEquals(1, stats.getNumOfFinishedGames());
+        assertEquals(3, stats.getNumOfCompletedGames());
+        assertEquals(new BacklogResponse(3, 1, 0, 0), stats.getNumOfGames());
+        assertEquals(new BacklogResponse(1, 1, 0, 0), stats.getNumOfPlayedGames());
+        assertEquals(new BacklogResponse(10, 123, 0, 0), stats.getNumOfTotalTime());
+        assertEquals(new BacklogResponse(3, 1, 0, 0), stats.getNumOfCompletedAchivements());
+        assertEquals(new BacklogResponse(3, 2, 0, 0), stats.getNumOfTotalAchivements());
+        verifyNoInteractions(userGamesRepository);
+    }
+
+    /**
+     * Test for {@link UserStatsServiceImpl#getStats} method building the stats the first time.
+     */
+    @Test
+    @DisplayName("Test getStats method without stored stats (OK)")
+    @SuppressWarnings("unchecked")
+    void getStatsBuild() {
+        // Mock dependencies, games without backlog and with backlog 0 share the NA stats
+        when(repository.findByUsername(SAMPLE_USERNAME)).thenReturn(List.of());
+        when(userRepository.findByUsername(SAMPLE_USERNAME)).thenReturn(Optional.of(SAMPLE_USER));
+        when(userGamesRepository.findBacklogStatsByUsername(SAMPLE_USERNAME)).thenReturn(List.of(
+                backlogStats(1, 1L, 1L, 0L, 1L, 123L, 1L, 2L),
+                backlogStats(null, 2L, 0L, 2L, 0L, 0L, 0L, 0L),
+                backlogStats(0, 1L, 1L, 1L, 0L, 10L, 3L, 3L)));
+        when(repository.saveAll(any(Collection.class))).thenAnswer(invocation -> new ArrayList<>(invocation.<Collection<UserBacklogStats>>getArgument(0)));
+
+        // Verify result
+        StatsResponse stats = service.getStats(SAMPLE_USERNAME);
+
+        assertEquals(3, stats.getNumOfCompletedGames());
+        assertEquals(new BacklogResponse(3, 1, 0, 0), stats.getNumOfGames());
+        assertEquals(new BacklogResponse(10, 123, 0, 0), stats.getNumOfTotalTime());
+
+        ArgumentCaptor<Collection<UserBacklogStats>> saved = ArgumentCaptor.forClass(Collection.class);
+        verify(repository).saveAll(saved.capture());
+        assertEquals(4, saved.getValue().size());
+        assertTrue(saved.getValue().stream().allMatch(backlogStats -> SAMPLE_USER.getId().equals(backlogStats.getUserId())));
+    }
+
+    /**
+     * Test for {@link UserStatsServiceImpl#getStats} method of a missing user.
+     */
+    @Test
+    @DisplayName("Test getStats method of a missing user (OK)")
+    void getStatsMissingUser() {
+        when(repository.findByUsername(SAMPLE_USERNAME)).thenReturn(List.of());
+        when(userRepository.findByUsername(SAMPLE_USERNAME)).thenReturn(Optional.empty());
+
+        StatsResponse stats = service.getStats(SAMPLE_USERNAME);
+
+        assertEquals(0, stats.getNumOfCompletedGames());
+        verify(repository, never()).saveAll(any());
+    }
+
+    /**
+     * Test for {@link UserStatsServiceImpl#applyDelta} method.
+     */
+    @Test
+    @DisplayName("Test applyDelta method (OK)")
+    void applyDeltaOK() {
+        UserGame before = UserGame.builder().backlog(1).timePlayed(0).achivements(0).totalAchivements(10).build();
+        UserGame after = UserGame.builder().backlog(2).timePlayed(30).achivements(10).totalAchivements(10).finished(true).build();
+
+        service.applyDelta(SAMPLE_USERNAME, new BacklogStatsDelta().remove(before).add(after));
+
+        verify(repository).addDelta(SAMPLE_USERNAME, 1, -1, 0, 0, 0, 0, 0, -10);
+        verify(repository).addDelta(SAMPLE_USERNAME, 2, 1, 1, 1, 1, 30, 10, 10);
+        verifyNoMoreInteractions(repository);
+    }
+
+    /**
+     * Test for {@link UserStatsServiceImpl#applyDelta} method when the database fails.
+     */
+    @Test
+    @DisplayName("Test applyDelta method with a database error (OK)")
+    void applyDeltaDatabaseError() {
+        when(repository.addDelta(anyString(), anyInt(), anyLong(), anyLong(), anyLong(), anyLong(), anyLong(), anyLong(), anyLong()))
+                .thenThrow(new QueryTimeoutException("Timeout"));
+
+        assertDoesNotThrow(() -> service.applyDelta(SAMPLE_USERNAME, new BacklogStatsDelta().add(UserGame.builder().build())));
+    }
+
+    /**
+     * Test for {@link UserStatsServiceImpl#verifyStats} method with drifted stats.
+     */
+    @Test
+    @DisplayName("Test verifyStats method with drift (OK)")
+    @SuppressWarnings("unchecked")
+    void verifyStatsDrift() {
+        UserBacklogStats drifted = storedStats(1, 5L, 0L, 0L, 0L, 0L, 0L, 0L);
+
+        // Mock dependencies
+        when(repository.findByUsername(SAMPLE_USERNAME)).thenReturn(List.of(drifted));
+        when(userRepository.findByUsername(SAMPLE_USERNAME)).thenReturn(Optional.of(SAMPLE_USER));
+        when(userGamesRepository.findBacklogStatsByUsername(SAMPLE_USERNAME)).thenReturn(List.of(backlogStats(1, 1L, 0L, 0L, 0L, 0L, 0L, 0L)));
+        when(repository.saveAll(any(Collection.class))).thenAnswer(invocation -> new ArrayList<>(invocation.<Collection<UserBacklogStats>>getArgument(0)));
+
+        // Verify result
+        assertTrue(service.verifyStats(SAMPLE_USERNAME));
+        assertEquals(1L, drifted.getGames());
+        assertEquals(1.0, meterRegistry.counter("user.stats.drift").count());
+    }
+
+    /**
+     * Test for {@link UserStatsServiceImpl#verifyStats} method with consistent stats.
+     */
+    @Test
+    @DisplayName("Test verifyStats method without drift (OK)")
+    void verifyStatsConsistent() {
+        when(repository.findByUsername(SAMPLE_USERNAME)).thenReturn(List.of(storedStats(1, 1L, 0L, 0L, 0L, 0L, 0L, 0L)));
+        when(userGamesRepository.findBacklogStatsByUsername(SAMPLE_USERNAME)).thenReturn(List.of(backlogStats(1, 1L, 0L, 0L, 0L, 0L, 0L, 0L)));
+
+        assertFalse(service.verifyStats(SAMPLE_USERNAME));
+        verify(repository, never()).saveAll(any());
+        assertEquals(0.0, meterRegistry.counter("user.stats.drift").count());
+    }
+
+    /**
+     * Build the stored stats of a backlog.
+     *
+     * @param backlog          The backlog.
+     * @param games            The number of games.
+     * @param playedGames      The number of played games.
+     * @param completedGames   The number of completed games.
+     * @param finishedGames    The number of finished games.
+     * @param timePlayed       The total time played.
+     * @param achivements      The completed achievements.
+     * @param totalAchivements The total achievements.
+     * @return The stats.
+     */
+    private UserBacklogStats storedStats(Integer backlog, Long games, Long playedGames, Long completedGames,
+                                         Long finishedGames, Long timePlayed, Long achivements, Long totalAchivements) {
+        return new UserBacklogStats(null, SAMPLE_USER.getId(), backlog, games, playedGames, completedGames,
+                finishedGames, timePlayed, achivements, totalAchivements);
+    }
+
+    /**
+     * Build the stats of a backlog.
+     *
+     * @param backlog          The backlog.
+     * @param games            The number of games.
+     * @param playedGames      The number of played games.
+     * @param completedGames   The number of completed games.
+     * @param finishedGames    The number of finished games.
+     * @param timePlayed       The total time played.
+     * @param achivements      The completed achievements.
+     * @param totalAchivements The total achievements.
+     * @return The stats.
+     */
+    private BacklogStatsProjection backlogStats(Integer backlog, Long games, Long playedGames, Long completedGames,
+                                                Long finishedGames, Long timePlayed, Long achivements, Long totalAchivements) {
+        return new BacklogStatsProjection() {
+            @Override
+            public Integer getBacklog() {
+                return backlog;
+            }
+
+            @Override
+            public Long getGames() {
+                return games;
+            }
+
+            @Override
+            public Long getPlayedGames() {
+                return playedGames;
+            }
+
+            @Override
+            public Long getCompletedGames() {
+                return completedGames;
+            }
+
+            @Override
+            public Long getFinishedGames() {
+                return finishedGames;
+            }
+
+            @Override
+            public Long getTimePlayed() {
+                return timePlayed;
+            }
+
+            @Override
+            public Long getAchivements() {
+                return achivements;
+            }
+
+            @Override
+            public Long getTotalAchivements() {
+                return totalAchivements;
+            }
+        };
+    }
+}
@@ -0,0 +1,121 @@
+package quantum.utils;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.core.scheduler.Schedulers;
+
+import java.time.Duration;
+import java.util.HashSet;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.function.IntConsumer;
+import java.util.stream.IntStream;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Test for {@link ImportCollector} class.
+ */
+class ImportCollectorTest {
+
+    private static final int SYNTHETIC_APPS = 10_000;
+    private static final int WORKERS = 64;
+
+    /**
+     * Stress test for {@link ImportCollector#add} method keeping the order.
+     */
+    @Test
+    @DisplayName("Test add method on many threads keeping order (OK)")
+    void addOrderedStress() throws InterruptedException {
+        ImportCollector<String> collector = ImportCollector.of(SYNTHETIC_APPS, true);
+
+        runOnWorkers(index -> collector.add(index, "app-" + index));
+
+        List<String> result = collector.toList();
+        assertEquals(SYNTHETIC_APPS, result.size());
+        for (int i = 0; i < SYNTHETIC_APPS; i++) {
+            assertEquals("app-" + i, result.get(i));
+        }
+    }
+
+    /**
+     * Stress test for {@link ImportCollector#add} method without order.
+     */
+    @Test
+    @DisplayName("Test add method on many threads without order (OK)")
+    void addUnorderedStress() throws InterruptedException {
+        ImportCollector<String> collector = ImportCollector.of(SYNTHETIC_APPS, false);
+
+        runOnWorkers(index -> collector.add(index, "app-" + index));
+
+        List<String> result = collector.toList();
+        assertEquals(SYNTHETIC_APPS, result.size());
+        assertEquals(SYNTHETIC_APPS, new HashSet<>(result).size());
+    }
+
+    /**
+     * Stress test for {@link ImportCollector} fed by a reactive pipeline like the steam import.
+     */
+    @Test
+    @DisplayName("Test collector fed by a parallel flux skipping apps (OK)")
+    void addFromFluxSkippingApps() {
+        ImportCollector<Integer> collector = ImportCollector.of(SYNTHETIC_APPS, true);
+
+        // Every tenth app has no SGDB match and produces no result
+        Flux.range(0, SYNTHETIC_APPS)
+                .index()
+                .flatMap(app -> Mono.just(app.getT2())
+                        .filter(appId -> appId % 10 != 0)
+                        .subscribeOn(Schedulers.parallel())
+                        .doOnNext(appId -> collector.add(app.getT1(), appId)), WORKERS)
+                .then()
+                .block(Duration.ofSeconds(30));
+
+        List<Integer> result = collector.toList();
+        assertEquals(SYNTHETIC_APPS - SYNTHETIC_APPS / 10, result.size());
+        assertEquals(IntStream.range(0, SYNTHETIC_APPS).filter(appId -> appId % 10 != 0).boxed().toList(), result);
+    }
+
+    /**
+     * Test for {@link ImportCollector#add} method with a duplicated index.
+     */
+    @Test
+    @DisplayName("Test add method with duplicated index (KO)")
+    void addDuplicatedIndex() {
+        ImportCollector<String> collector = ImportCollector.of(1, true);
+        collector.add(0, "first");
+
+        assertThrows(IllegalStateException.class, () -> collector.add(0, "second"));
+    }
+
+    /**
+     * Run every synthetic app index on a pool of workers released at the same time.
+     *
+     * @param task The task to run for each index.
+     */
+    private void runOnWorkers(IntConsumer task) throws InterruptedException {
+        ExecutorService executor = Executors.newFixedThreadPool(WORKERS);
+        CountDownLatch start = new CountDownLatch(1);
+        try {
+            for (int worker = 0; worker < WORKERS; worker++) {
+                int offset = worker;
+                executor.submit(() -> {
+                    start.await();
+                    for (int index = offset; index < SYNTHETIC_APPS; index += WORKERS) {
+                        task.accept(index);
+                    }
+                    return null;
+                });
+            }
+            start.countDown();
+        } finally {
+            executor.shutdown();
+            assertTrue(executor.awaitTermination(30, TimeUnit.SECONDS));
+        }
+    }
+}
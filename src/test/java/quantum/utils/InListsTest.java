@@ -0,0 +1,43 @@
+package quantum.utils;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.stream.LongStream;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Test for {@link InLists} class.
+ */
+class InListsTest {
+
+    /**
+     * Test for {@link InLists#query} method.
+     */
+    @Test
+    @DisplayName("Test query method in chunks (OK)")
+    void query() {
+        List<Long> values = LongStream.range(0, 2500).boxed().toList();
+        List<Integer> chunkSizes = new ArrayList<>();
+
+        List<Long> results = InLists.query(values, chunk -> {
+            chunkSizes.add(chunk.size());
+            return chunk.stream().filter(value -> value % 2 == 0).toList();
+        });
+
+        assertEquals(List.of(1000, 1000, 500), chunkSizes);
+        assertEquals(1250, results.size());
+    }
+
+    /**
+     * Test for {@link InLists#query} method without values.
+     */
+    @Test
+    @DisplayName("Test query method without values (OK)")
+    void queryEmpty() {
+        assertTrue(InLists.query(List.<Long>of(), chunk -> fail("No query expected")).isEmpty());
+    }
+}
@@ -0,0 +1,70 @@
+package quantum.utils;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.domain.*;
+import quantum.exceptions.QuantumLibraryGenericException;
+
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Test for {@link ScrollCursor} class.
+ */
+class ScrollCursorTest {
+
+    private static final Map<String, Class<?>> KEYS = Map.of("id", Long.class, "name", String.class);
+    private static final Sort SORT = Sort.by(Sort.Order.desc("name"), Sort.Order.asc("id"));
+
+    /**
+     * Test for {@link ScrollCursor#encode} and {@link ScrollCursor#decode} methods.
+     */
+    @Test
+    @DisplayName("Test cursor round trip (OK)")
+    void roundTrip() {
+        Window<String> window = Window.from(List.of("a", "b"), index -> ScrollPosition.forward(Map.of("name", "Game", "id", 7L)), true);
+
+        String cursor = ScrollCursor.encode(window);
+        KeysetScrollPosition position = ScrollCursor.decode(cursor, SORT, KEYS);
+
+        assertEquals(Map.of("name", "Game", "id", 7L), position.getKeys());
+        assertTrue(ScrollCursor.decode("", SORT, KEYS).isInitial());
+        assertNull(ScrollCursor.encode(Window.from(List.of("a"), index -> ScrollPosition.keyset(), false)));
+    }
+
+    /**
+     * Test for {@link ScrollCursor#sort} method.
+     */
+    @Test
+    @DisplayName("Test sort method (OK)")
+    void sort() {
+        assertEquals(Sort.by("name", "id"), ScrollCursor.sort(Sort.by("name"), KEYS));
+        assertEquals(Sort.by("id"), ScrollCursor.sort(Sort.unsorted(), KEYS));
+        assertEquals(SORT, ScrollCursor.sort(SORT, KEYS));
+        assertThrows(QuantumLibraryGenericException.class, () -> ScrollCursor.sort(Sort.by("image"), KEYS));
+    }
+
+    /**
+     * Test for {@link ScrollCursor#decode} method with invalid cursors.
+     */
+    @Test
+    @DisplayName("Test decode method (QuantumLibraryGenericException)")
+    void decodeInvalid() {
+        String cursor = ScrollCursor.encode(Window.from(List.of("a"), index -> ScrollPosition.forward(Map.of("id", 7L)), true));
+
+        assertThrows(QuantumLibraryGenericException.class, () -> ScrollCursor.decode("not a cursor", SORT, KEYS));
+        assertThrows(QuantumLibraryGenericException.class, () -> ScrollCursor.decode(cursor, SORT, KEYS));
+    }
+
+    /**
+     * Test for {@link ScrollCursor#limit} method.
+     */
+    @Test
+    @DisplayName("Test limit method (OK)")
+    void limit() {
+        assertEquals(Limit.of(20), ScrollCursor.limit(PageRequest.of(3, 20)));
+        assertEquals(Limit.of(ScrollCursor.MAX_SIZE), ScrollCursor.limit(PageRequest.of(0, Integer.MAX_VALUE)));
+    }
+}
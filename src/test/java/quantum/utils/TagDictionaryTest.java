@@ -0,0 +1,89 @@
+package quantum.utils;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.util.Arrays;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+/**
+ * Test for {@link TagDictionary} class.
+ */
+@ExtendWith(MockitoExtension.class)
+class TagDictionaryTest {
+
+    @Mock
+    private JdbcTemplate jdbcTemplate;
+
+    private TagDictionary dictionary;
+
+    @BeforeEach
+    void setup() {
+        dictionary = new TagDictionary(jdbcTemplate);
+    }
+
+    /**
+     * Test for {@link TagDictionary#idOf} method with a tag in the database.
+     */
+    @Test
+    @DisplayName("Test idOf method (OK)")
+    void idOf() {
+        when(jdbcTemplate.queryForList(anyString(), eq(Integer.class), eq("Co-Op"))).thenReturn(List.of(7));
+
+        assertEquals(7, dictionary.idOf("Co-Op"));
+        assertEquals(7, dictionary.idOf("Co-Op"));
+        assertEquals("Co-Op", dictionary.nameOf(7));
+        verify(jdbcTemplate, times(1)).queryForList(anyString(), eq(Integer.class), eq("Co-Op"));
+    }
+
+    /**
+     * Test for {@link TagDictionary#register} method.
+     */
+    @Test
+    @DisplayName("Test register method (OK)")
+    void register() {
+        when(jdbcTemplate.queryForList(anyString(), eq(Integer.class), eq("Co-Op"))).thenReturn(List.of(7));
+
+        dictionary.register(Arrays.asList("Co-Op", null, "Co-Op"));
+        dictionary.register(null);
+
+        assertEquals(7, dictionary.idOf("Co-Op"));
+        verify(jdbcTemplate, times(1)).queryForList(anyString(), eq(Integer.class), eq("Co-Op"));
+    }
+
+    /**
+     * Test for {@link TagDictionary#nameOf} method.
+     */
+    @Test
+    @DisplayName("Test nameOf method (OK)")
+    void nameOf() {
+        when(jdbcTemplate.queryForList(anyString(), eq(String.class), eq(3))).thenReturn(List.of("Online Co-Op"));
+
+        String name = dictionary.nameOf(3);
+
+        assertEquals("Online Co-Op", name);
+        assertSame(name, dictionary.nameOf(3));
+        assertEquals(3, dictionary.idOf("Online Co-Op"));
+    }
+
+    /**
+     * Test for {@link TagDictionary#nameOf} method with an unknown id.
+     */
+    @Test
+    @DisplayName("Test nameOf method (KO)")
+    void nameOfNotFound() {
+        when(jdbcTemplate.queryForList(anyString(), eq(String.class), eq(3))).thenReturn(List.of());
+
+        assertThrows(IllegalStateException.class, () -> dictionary.nameOf(3));
+    }
+}
@@ -0,0 +1,54 @@
+package quantum.utils;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Test for {@link VirtualThreadPinningMonitor} class.
+ */
+class VirtualThreadPinningMonitorTest {
+
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+
+    private final VirtualThreadPinningMonitor monitor = new VirtualThreadPinningMonitor(meterRegistry, Duration.ofMillis(10));
+
+    @AfterEach
+    void stop() {
+        monitor.stop();
+    }
+
+    /**
+     * Test for {@link VirtualThreadPinningMonitor#start} method.
+     *
+     * @throws InterruptedException if the test is interrupted.
+     */
+    @Test
+    @DisplayName("Test start method counting pinned virtual threads (OK)")
+    void countPinned() throws InterruptedException {
+        monitor.start();
+        Object lock = new Object();
+
+        // Sleeping while holding a monitor pins the virtual thread to its carrier
+        Thread.ofVirtual().start(() -> {
+            synchronized (lock) {
+                try {
+                    Thread.sleep(50);
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                }
+            }
+        }).join();
+
+        long deadline = System.nanoTime() + Duration.ofSeconds(10).toNanos();
+        while (meterRegistry.get("jvm.threads.virtual.pinned").counter().count() == 0 && System.nanoTime() < deadline) {
+            Thread.sleep(100);
+        }
+        assertTrue(meterRegistry.get("jvm.threads.virtual.pinned").counter().count() > 0);
+    }
+}
@@ -33,6 +33,7 @@ import java.util.Collections;
 import java.util.Set;
 
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.*;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
 import static quantum.utils.TestUtils.stringifyObject;
@@ -95,6 +96,32 @@ class GameControllerTest {
         verify(service, times(1)).getGames(any(Pageable.class));
     }
 
+    /**
+     * Test for {@link GameController#getGames} method with a cursor.
+     *
+     * @throws Exception if any error occurs when performing the test request.
+     */
+    @Test
+    @DisplayName("Test games controller GET (cursor)")
+    void scrollGames() throws Exception {
+
+        when(service.scrollGames(eq("cursor"), any(Pageable.class))).thenReturn(new GameListResponse());
+
+        // Build the request
+        RequestBuilder requestBuilder = MockMvcRequestBuilders.get("/api/games")
+                .param("cursor", "cursor")
+                .param("size", "50")
+                .contentType(MediaType.APPLICATION_JSON);
+
+        // Perform the request
+        mockMvc.perform(requestBuilder)
+                .andExpect(status().isOk())
+                .andReturn();
+
+        verify(service, times(1)).scrollGames(eq("cursor"), any(Pageable.class));
+        verify(service, never()).getGames(any(Pageable.class));
+    }
+
     /**
      * Test for {@link GameController#postGame} method.
      *
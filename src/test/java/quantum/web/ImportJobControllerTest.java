@@ -0,0 +1,228 @@
+package quantum.web;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.autoconfigure.web.servlet.WebMvcTest;
+import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.security.core.userdetails.UserDetails;
+import org.springframework.mock.web.MockMultipartFile;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.ContextConfiguration;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.RequestBuilder;
+import org.springframework.test.web.servlet.request.MockMvcRequestBuilders;
+import org.springframework.web.multipart.MultipartFile;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+import quantum.dto.importJob.ImportJobResponse;
+import quantum.dto.importJob.ImportJobStatus;
+import quantum.dto.userGames.steamImport.UserGamesImportList;
+import quantum.model.User;
+import quantum.service.ImportJobService;
+import quantum.web.rest.ImportJobController;
+
+import java.util.ArrayList;
+import java.util.Collections;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.request;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+import static quantum.constant.TestConstants.SAMPLE_TOKEN;
+import static quantum.utils.TestUtils.stringifyObject;
+
+/**
+ * Test for {@link ImportJobController} controller class.
+ */
+
+@ExtendWith(MockitoExtension.class)
+@ContextConfiguration(classes = {ImportJobController.class})
+@WebMvcTest
+@AutoConfigureMockMvc(addFilters = false)
+@ActiveProfiles("test")
+class ImportJobControllerTest {
+
+    @Autowired
+    protected MockMvc mockMvc;
+
+    @MockBean
+    protected ImportJobService service;
+
+    private static final ImportJobResponse SAMPLE_JOB = ImportJobResponse.builder()
+            .id("job")
+            .status(ImportJobStatus.QUEUED)
+            .build();
+
+    @BeforeEach
+    void setUpSecurityContext() {
+        UserDetails mockUser = new User(
+                1L,
+                "user",
+                "email",
+                "password",
+                "role",
+                "image",
+                Collections.emptyList(),
+                Collections.emptyList()
+        );
+
+        UsernamePasswordAuthenticationToken auth =
+                new UsernamePasswordAuthenticationToken(mockUser, null, mockUser.getAuthorities());
+
+        SecurityContextHolder.getContext().setAuthentication(auth);
+    }
+
+    /**
+     * Test for {@link ImportJobController#startSteamImport} method.
+     *
+     * @throws Exception if any error occurs when performing the test request.
+     */
+    @Test
+    @DisplayName("Test import job controller POST (steam)")
+    void startSteamImport() throws Exception {
+
+        when(service.startSteamImport(anyString(), anyString())).thenReturn(SAMPLE_JOB);
+
+        // Build the request
+        RequestBuilder requestBuilder = MockMvcRequestBuilders.post("/api/import/steam/{steamId}", "12345")
+                .contentType(MediaType.APPLICATION_JSON)
+                .header(HttpHeaders.AUTHORIZATION, "Bearer " + SAMPLE_TOKEN);
+
+        // Perform the request and expect ACCEPTED status
+        mockMvc.perform(requestBuilder)
+                .andExpect(status().isAccepted())
+                .andReturn();
+
+        verify(service, times(1)).startSteamImport("user", "12345");
+    }
+
+    /**
+     * Test for {@link ImportJobController#startSteamSync} method.
+     *
+     * @throws Exception if any error occurs when performing the test request.
+     */
+    @Test
+    @DisplayName("Test import job controller POST (steam sync)")
+    void startSteamSync() throws Exception {
+
+        when(service.startSteamSync(anyString(), anyString())).thenReturn(SAMPLE_JOB);
+
+        // Build the request
+        RequestBuilder requestBuilder = MockMvcRequestBuilders.post("/api/import/steam/{steamId}/sync", "12345")
+                .contentType(MediaType.APPLICATION_JSON)
+                .header(HttpHeaders.AUTHORIZATION, "Bearer " + SAMPLE_TOKEN);
+
+        // Perform the request and expect ACCEPTED status
+        mockMvc.perform(requestBuilder)
+                .andExpect(status().isAccepted())
+                .andReturn();
+
+        verify(service, times(1)).startSteamSync("user", "12345");
+    }
+
+    /**
+     * Test for {@link ImportJobController#startImport} method.
+     *
+     * @throws Exception if any error occurs when performing the test request.
+     */
+    @Test
+    @DisplayName("Test import job controller POST (games)")
+    void startImport() throws Exception {
+
+        when(service.startImport(anyString(), any(UserGamesImportList.class))).thenReturn(SAMPLE_JOB);
+
+        // Build the request
+        RequestBuilder requestBuilder = MockMvcRequestBuilders.post("/api/import/games")
+                .contentType(MediaType.APPLICATION_JSON)
+                .content(stringifyObject(new UserGamesImportList(new ArrayList<>())))
+                .header(HttpHeaders.AUTHORIZATION, "Bearer " + SAMPLE_TOKEN);
+
+        // Perform the request and expect ACCEPTED status
+        mockMvc.perform(requestBuilder)
+                .andExpect(status().isAccepted())
+                .andReturn();
+
+        verify(service, times(1)).startImport(anyString(), any(UserGamesImportList.class));
+    }
+
+    /**
+     * Test for {@link ImportJobController#startFileImport} method.
+     *
+     * @throws Exception if any error occurs when performing the test request.
+     */
+    @Test
+    @DisplayName("Test import job controller POST (file)")
+    void startFileImport() throws Exception {
+
+        when(service.startFileImport(anyString(), any(MultipartFile.class))).thenReturn(SAMPLE_JOB);
+
+        // Build the request
+        RequestBuilder requestBuilder = MockMvcRequestBuilders.multipart("/api/import/file")
+                .file(new MockMultipartFile("file", "library.csv", "text/csv", "name,sgdbId\nGame,1\n".getBytes()))
+                .header(HttpHeaders.AUTHORIZATION, "Bearer " + SAMPLE_TOKEN);
+
+        // Perform the request and expect ACCEPTED status
+        mockMvc.perform(requestBuilder)
+                .andExpect(status().isAccepted())
+                .andReturn();
+
+        verify(service, times(1)).startFileImport(eq("user"), any(MultipartFile.class));
+    }
+
+    /**
+     * Test for {@link ImportJobController#getJob} method.
+     *
+     * @throws Exception if any error occurs when performing the test request.
+     */
+    @Test
+    @DisplayName("Test import job controller GET")
+    void getJob() throws Exception {
+
+        when(service.getJob("user", "job")).thenReturn(SAMPLE_JOB);
+
+        // Build the request
+        RequestBuilder requestBuilder = MockMvcRequestBuilders.get("/api/import/{jobId}", "job")
+                .contentType(MediaType.APPLICATION_JSON)
+                .header(HttpHeaders.AUTHORIZATION, "Bearer " + SAMPLE_TOKEN);
+
+        // Perform the request and expect OK status
+        mockMvc.perform(requestBuilder)
+                .andExpect(status().isOk())
+                .andReturn();
+
+        verify(service, times(1)).getJob("user", "job");
+    }
+
+    /**
+     * Test for {@link ImportJobController#streamJob} method.
+     *
+     * @throws Exception if any error occurs when performing the test request.
+     */
+    @Test
+    @DisplayName("Test import job controller GET (events)")
+    void streamJob() throws Exception {
+
+        when(service.streamJob("user", "job")).thenReturn(new SseEmitter());
+
+        // Build the request
+        RequestBuilder requestBuilder = MockMvcRequestBuilders.get("/api/import/{jobId}/events", "job")
+                .header(HttpHeaders.AUTHORIZATION, "Bearer " + SAMPLE_TOKEN);
+
+        // Perform the request and expect the async stream to start
+        mockMvc.perform(requestBuilder)
+                .andExpect(request().asyncStarted())
+                .andReturn();
+
+        verify(service, times(1)).streamJob("user", "job");
+    }
+}
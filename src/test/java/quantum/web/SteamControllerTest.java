@@ -18,6 +18,7 @@ import org.springframework.test.web.servlet.request.MockMvcRequestBuilders;
 import quantum.dto.userGames.steamImport.UserGamesImportList;
 import quantum.service.SteamService;
 import quantum.web.rest.SteamController;
+import reactor.core.publisher.Mono;
 
 import static org.mockito.ArgumentMatchers.anyString;
 import static org.mockito.Mockito.*;
@@ -68,7 +69,7 @@ class SteamControllerTest {
 
         // Mock the service call
         UserGamesImportList gamesList = new UserGamesImportList();
-        when(service.getGames(anyString())).thenReturn(gamesList);
+        when(service.getGames(anyString())).thenReturn(Mono.just(gamesList));
 
         // Build the request
         RequestBuilder requestBuilder = MockMvcRequestBuilders.get("/api/steam/games/{steamId}", "12345")
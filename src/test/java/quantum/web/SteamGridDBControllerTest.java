@@ -13,16 +13,22 @@ import org.springframework.http.MediaType;
 import org.springframework.test.context.ActiveProfiles;
 import org.springframework.test.context.ContextConfiguration;
 import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
 import org.springframework.test.web.servlet.RequestBuilder;
 import org.springframework.test.web.servlet.request.MockMvcRequestBuilders;
+import quantum.dto.sgdb.GridResponse;
+import quantum.dto.sgdb.SGDBGridSuccessResponse;
+import quantum.service.GridResolutionService;
 import quantum.service.SteamGridDBService;
 import quantum.web.rest.AuthController;
 import quantum.web.rest.SteamGridDBController;
+import reactor.core.publisher.Mono;
 
 import static org.mockito.ArgumentMatchers.anyLong;
 import static org.mockito.ArgumentMatchers.anyString;
 import static org.mockito.Mockito.*;
-import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.asyncDispatch;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
 import static quantum.constant.TestConstants.SAMPLE_TOKEN;
 
 /**
@@ -42,6 +48,9 @@ class SteamGridDBControllerTest {
     @MockBean
     protected SteamGridDBService service;
 
+    @MockBean
+    protected GridResolutionService gridResolutionService;
+
     @Test
     @DisplayName("Test SteamGridDB controller GET (search by term)")
     void searchByTerm() throws Exception {
@@ -66,7 +75,7 @@ class SteamGridDBControllerTest {
     @DisplayName("Test SteamGridDB controller GET (grids by game ID)")
     void getGrids() throws Exception {
         // Arrange
-        when(service.getGridsById(anyLong())).thenReturn("SampleGridResponse");
+        when(service.getGridsById(anyLong())).thenReturn(Mono.just(new SGDBGridSuccessResponse()));
 
         RequestBuilder requestBuilder = MockMvcRequestBuilders.get("/api/sgdb/getGrids/{game_sgdb_id}", 1L)
                 .param("gameSgdbId", "12345")
@@ -81,4 +90,50 @@ class SteamGridDBControllerTest {
         // Verify
         verify(service, times(1)).getGridsById(anyLong());
     }
+
+    @Test
+    @DisplayName("Test SteamGridDB controller GET (grid chosen by game ID)")
+    void getGrid() throws Exception {
+        // Arrange
+        when(gridResolutionService.getGrid(anyLong())).thenReturn(Mono.just(GridResponse.builder()
+                .sgdbId(1L)
+                .url("https://cdn2.steamgriddb.com/grid/1.png")
+                .width(600)
+                .height(900)
+                .style("alternate")
+                .build()));
+
+        RequestBuilder requestBuilder = MockMvcRequestBuilders.get("/api/sgdb/getGrid/{game_sgdb_id}", 1L)
+                .contentType(MediaType.APPLICATION_JSON)
+                .header(HttpHeaders.AUTHORIZATION, "Bearer " + SAMPLE_TOKEN);
+
+        // Act & Assert
+        MvcResult result = mockMvc.perform(requestBuilder)
+                .andExpect(request().asyncStarted())
+                .andReturn();
+        mockMvc.perform(asyncDispatch(result))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.url").value("https://cdn2.steamgriddb.com/grid/1.png"));
+
+        // Verify
+        verify(gridResolutionService, times(1)).getGrid(1L);
+    }
+
+    @Test
+    @DisplayName("Test SteamGridDB controller GET (no grid for game ID)")
+    void getGridNotFound() throws Exception {
+        // Arrange
+        when(gridResolutionService.getGrid(anyLong())).thenReturn(Mono.empty());
+
+        RequestBuilder requestBuilder = MockMvcRequestBuilders.get("/api/sgdb/getGrid/{game_sgdb_id}", 1L)
+                .contentType(MediaType.APPLICATION_JSON)
+                .header(HttpHeaders.AUTHORIZATION, "Bearer " + SAMPLE_TOKEN);
+
+        // Act & Assert
+        MvcResult result = mockMvc.perform(requestBuilder)
+                .andExpect(request().asyncStarted())
+                .andReturn();
+        mockMvc.perform(asyncDispatch(result))
+                .andExpect(status().isNotFound());
+    }
 }
@@ -18,6 +18,7 @@ import org.springframework.security.core.userdetails.UserDetails;
 import org.springframework.test.context.ActiveProfiles;
 import org.springframework.test.context.ContextConfiguration;
 import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
 import org.springframework.test.web.servlet.RequestBuilder;
 import org.springframework.test.web.servlet.request.MockMvcRequestBuilders;
 import quantum.dto.userGames.*;
@@ -28,14 +29,17 @@ import quantum.model.UserGame;
 import quantum.service.UserGamesService;
 import quantum.web.rest.UserGamesController;
 
+import java.io.OutputStream;
 import java.util.ArrayList;
 import java.util.Collections;
 import java.util.List;
 import java.util.Set;
 
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.*;
-import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.asyncDispatch;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
 import static quantum.constant.TestConstants.SAMPLE_TOKEN;
 import static quantum.constant.TestConstants.SAMPLE_USERNAME;
 import static quantum.utils.TestUtils.stringifyObject;
@@ -75,6 +79,36 @@ class UserGamesControllerTest {
         SecurityContextHolder.getContext().setAuthentication(auth);
     }
 
+    /**
+     * Test for {@link UserGamesController#exportUserGames} method.
+     *
+     * @throws Exception if any error occurs when performing the test request.
+     */
+    @Test
+    @DisplayName("Test games controller GET (export)")
+    void exportUserGames() throws Exception {
+
+        doAnswer(invocation -> {
+            invocation.<OutputStream>getArgument(1).write("{}\n".getBytes());
+            return null;
+        }).when(service).exportUserGames(eq("user"), any(OutputStream.class));
+
+        // Build the request
+        RequestBuilder requestBuilder = MockMvcRequestBuilders.get("/api/user/games/export")
+                .header(HttpHeaders.AUTHORIZATION, "Bearer " + SAMPLE_TOKEN);
+
+        // Perform the request, the body is streamed asynchronously
+        MvcResult result = mockMvc.perform(requestBuilder)
+                .andExpect(request().asyncStarted())
+                .andReturn();
+        mockMvc.perform(asyncDispatch(result))
+                .andExpect(status().isOk())
+                .andExpect(content().contentType(MediaType.APPLICATION_NDJSON))
+                .andExpect(content().string("{}\n"));
+
+        verify(service, times(1)).exportUserGames(eq("user"), any(OutputStream.class));
+    }
+
     /**
      * Test for {@link UserGamesController#getUserGames} method.
      *